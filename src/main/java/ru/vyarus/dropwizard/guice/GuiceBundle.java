@@ -2,7 +2,6 @@ package ru.vyarus.dropwizard.guice;
 
 
 import com.google.common.base.Preconditions;
-import com.google.common.base.Stopwatch;
 import com.google.common.collect.Sets;
 import com.google.inject.Injector;
 import com.google.inject.Module;
@@ -25,6 +24,8 @@ import ru.vyarus.dropwizard.guice.module.context.debug.report.diagnostic.Diagnos
 import ru.vyarus.dropwizard.guice.module.context.debug.report.tree.ContextTreeConfig;
 import ru.vyarus.dropwizard.guice.module.context.info.ItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.option.Option;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupMetrics;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.installer.CoreInstallersBundle;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.InstallersOptions;
@@ -42,6 +43,7 @@ import ru.vyarus.dropwizard.guice.module.yaml.report.BindingsConfig;
 import ru.vyarus.dropwizard.guice.module.yaml.report.DebugConfigBindings;
 
 import javax.servlet.DispatcherType;
+import java.io.File;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
@@ -115,7 +117,12 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
 
     @Override
     public void initialize(final Bootstrap bootstrap) {
-        final Stopwatch timer = context.stat().timer(GuiceyTime);
+        // must be enabled before first timer
+        final String traceFile = context.option(StartupTraceFile);
+        if (traceFile != null) {
+            context.stat().trace().enable();
+        }
+        final StatTimer timer = context.stat().timer(GuiceyTime);
         context.initPhaseStarted(bootstrap);
         final String[] packages = context.option(ScanPackages);
         final boolean searchCommands = context.option(SearchCommands);
@@ -137,7 +144,7 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
 
     @Override
     public void run(final T configuration, final Environment environment) throws Exception {
-        final Stopwatch timer = context.stat().timer(GuiceyTime);
+        final StatTimer timer = context.stat().timer(GuiceyTime);
         context.runPhaseStarted(configuration, environment);
         if (context.option(UseCoreInstallers)) {
             context.registerBundles(new CoreInstallersBundle());
@@ -147,8 +154,11 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
         ModulesSupport.configureModules(context);
         createInjector(environment);
         afterInjectorCreation();
+        // options can't change after startup: use immutable snapshot for runtime reads
+        context.options().freeze();
         context.lifecycle().applicationRun();
         timer.stop();
+        writeStartupTrace(environment);
     }
 
     /**
@@ -164,8 +174,8 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
     private void configureFromBundles() {
         context.lifecycle().runPhase(context.getConfiguration(), context.getConfigurationTree(),
                 context.getEnvironment());
-        final Stopwatch timer = context.stat().timer(BundleTime);
-        final Stopwatch resolutionTimer = context.stat().timer(BundleResolutionTime);
+        final StatTimer timer = context.stat().timer(BundleTime);
+        final StatTimer resolutionTimer = context.stat().timer(BundleResolutionTime);
         if (context.option(ConfigureFromDropwizardBundles)) {
             context.registerDwBundles(BundleSupport.findBundles(context.getBootstrap(), GuiceyBundle.class));
         }
@@ -176,7 +186,7 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
     }
 
     private void createInjector(final Environment environment) {
-        final Stopwatch timer = context.stat().timer(InjectorCreationTime);
+        final StatTimer timer = context.stat().timer(InjectorCreationTime);
         injector = injectorFactory.createInjector(
                 context.option(InjectorStage), ModulesSupport.prepareModules(context));
         // registering as managed to cleanup injector on application stop
@@ -185,9 +195,25 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
         timer.stop();
     }
 
+    /**
+     * Trace is written after guice bundle run and (in case of server start) after server startup, to include
+     * HK2 initialization (jersey context startup).
+     *
+     * @param environment environment
+     */
+    private void writeStartupTrace(final Environment environment) {
+        final String traceFile = context.option(StartupTraceFile);
+        if (traceFile != null) {
+            final File file = new File(traceFile);
+            context.stat().trace().write(file);
+            environment.lifecycle().addServerLifecycleListener(server -> context.stat().trace().write(file));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void afterInjectorCreation() {
         CommandSupport.initCommands(context.getBootstrap().getCommands(), injector, context.stat());
+        StartupMetrics.register(context.getEnvironment().metrics(), context, injector);
         if (scanner != null) {
             scanner.cleanup();
         }
@@ -677,6 +703,33 @@ public final class GuiceBundle<T extends Configuration> implements ConfiguredBun
             return option(BindConfigurationInterfaces, true);
         }
 
+        /**
+         * Bind only configuration paths, actually used in {@code @Config("path")} injection points instead of
+         * all configuration paths. Useful for large configurations to reduce injector size. Note that paths
+         * used only by HK2-managed beans (through HK2 guice bridge) would not be bound.
+         * <p>
+         * Disabled by default.
+         *
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#BindConfigurationPathsOnDemand
+         */
+        public Builder<T> bindConfigurationPathsOnDemand() {
+            return option(BindConfigurationPathsOnDemand, true);
+        }
+
+        /**
+         * Record guicey startup timeline (stat timers, lifecycle events, bundles, modules and installers spans
+         * with threads) and write it as Chrome trace-event json file. Open file in Perfetto
+         * (https://ui.perfetto.dev) to see exactly where startup time goes.
+         *
+         * @param file target trace file path
+         * @return builder instance for chained calls
+         * @see GuiceyOptions#StartupTraceFile
+         */
+        public Builder<T> traceStartup(final String file) {
+            return option(StartupTraceFile, file);
+        }
+
         /**
          * Enables strict control of beans instantiation context: all beans must be instantiated by guice, except
          * beans annotated with {@link ru.vyarus.dropwizard.guice.module.installer.feature.jersey.HK2Managed}.
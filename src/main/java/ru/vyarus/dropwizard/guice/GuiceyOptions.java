@@ -72,6 +72,42 @@ public enum GuiceyOptions implements Option {
     @Deprecated
     BindConfigurationInterfaces(Boolean.class, false),
 
+    /**
+     * Bind only configuration paths, actually used in {@code @Config("path")} injection points (instead of binding
+     * all configuration paths). Injection points are searched in recorded modules elements: in bindings targets
+     * (including classes, instantiated just-in-time from them), injection requests and provider methods.
+     * Useful for large configurations (with thousands of paths) to reduce injector size.
+     * <p>
+     * Note that paths, used only by HK2-managed beans through HK2 guice bridge or only obtained directly from injector
+     * (e.g. {@code injector.getInstance(Key.get(String.class, new ConfigImpl("path")))}) would not be bound.
+     * Disabled by default.
+     *
+     * @see GuiceBundle.Builder#bindConfigurationPathsOnDemand()
+     * @see ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigBindingModule
+     */
+    BindConfigurationPathsOnDemand(Boolean.class, false),
+
+    /**
+     * Maximum configuration introspection depth (maximum yaml path length). For example, with depth 2
+     * "sub.val" path will be present, but "sub.val.foo" will not (value object itself is still available by "sub.val"
+     * path). Negative value means no limit.
+     * No limit by default.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+     */
+    ConfigIntrospectionDepth(Integer.class, -1),
+
+    /**
+     * Configuration paths to exclude from introspection: path itself will be present in
+     * {@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree}, but its sub paths will not.
+     * Useful for large configuration subtrees (e.g. big maps or endpoint declarations) which are never accessed
+     * by path.
+     * Empty by default.
+     *
+     * @see ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+     */
+    ConfigIntrospectionExcludes(String[].class, new String[0]),
+
     /**
      * Guice injector stage used for injector creation.
      * Production by default.
@@ -110,7 +146,19 @@ public enum GuiceyOptions implements Option {
      * <p>
      * IMPORTANT: requires extra dependency on HK2 guice-bridge: 'org.glassfish.hk2:guice-bridge:2.5.0-b32'
      */
-    UseHkBridge(Boolean.class, false);
+    UseHkBridge(Boolean.class, false),
+
+    /**
+     * Enables guicey startup trace: begin/end spans (with threads) of all stat timers, lifecycle events and
+     * listeners, bundles, modules and installers are recorded and written into specified file in Chrome trace-event
+     * format. File could be opened in Perfetto (https://ui.perfetto.dev) or chrome://tracing to see where startup
+     * time goes. File is written after guice bundle run and re-written after server startup (to include HK2 part).
+     * <p>
+     * Disabled by default (null).
+     *
+     * @see GuiceBundle.Builder#traceStartup(String)
+     */
+    StartupTraceFile(String.class, null);
 
     private Class<?> type;
     private Object value;
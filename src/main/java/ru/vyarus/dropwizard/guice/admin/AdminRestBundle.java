@@ -2,6 +2,8 @@ package ru.vyarus.dropwizard.guice.admin;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.inject.Injector;
+import io.dropwizard.Application;
 import io.dropwizard.Bundle;
 import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.setup.Bootstrap;
@@ -9,7 +11,9 @@ import io.dropwizard.setup.Environment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.admin.rest.AdminResourceFilter;
+import ru.vyarus.dropwizard.guice.admin.rest.AdminRestContext;
 import ru.vyarus.dropwizard.guice.admin.rest.AdminRestServlet;
+import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup;
 
 /**
  * Adds rest support in admin context by simply redirecting from admin servlet into jersey (all rest methods
@@ -21,6 +25,10 @@ import ru.vyarus.dropwizard.guice.admin.rest.AdminRestServlet;
  * <p>In order to hide admin specific rest methods or entire resources
  * {@link ru.vyarus.dropwizard.guice.admin.rest.AdminResource} annotation may be used.
  * If some security solution is used within application, rest could be hidden with security framework permissions.</p>
+ * <p>Alternatively, dedicated admin jersey context could be used (see {@link #AdminRestBundle(String, boolean)}):
+ * it contains only admin resources and methods (annotated with
+ * {@link ru.vyarus.dropwizard.guice.admin.rest.AdminResource}) and does not share request pipeline with
+ * main context.</p>
  *
  * @author Vyacheslav Rusakov
  * @since 05.08.2015
@@ -30,6 +38,8 @@ public class AdminRestBundle implements Bundle {
     private final Logger logger = LoggerFactory.getLogger(AdminRestBundle.class);
 
     private final String path;
+    private final boolean dedicated;
+    private Application<?> application;
 
     /**
      * Admin rest will be mapped on the same path as main rest if rest mapping is different from '/*'.
@@ -46,12 +56,26 @@ public class AdminRestBundle implements Bundle {
      * @param path path to map admin rest on
      */
     public AdminRestBundle(final String path) {
+        this(path, false);
+    }
+
+    /**
+     * Dedicated admin context is a separate jersey application, containing only admin resources and methods
+     * (annotated with {@link ru.vyarus.dropwizard.guice.admin.rest.AdminResource}). Admin access is resolved
+     * when resource model is built and admin requests are not processed by main context request pipeline
+     * (main context extensions are not available). See {@link AdminRestContext} for details.
+     *
+     * @param path      path to map admin rest on (may be null to use default mapping)
+     * @param dedicated true to use dedicated jersey context, false to redirect into main context
+     */
+    public AdminRestBundle(final String path, final boolean dedicated) {
         this.path = path;
+        this.dedicated = dedicated;
     }
 
     @Override
     public void initialize(final Bootstrap<?> bootstrap) {
-        // not needed
+        this.application = bootstrap.getApplication();
     }
 
     @Override
@@ -60,11 +84,21 @@ public class AdminRestBundle implements Bundle {
     }
 
     private void registerServlet(final String path, final Environment environment) {
-        environment.admin()
-                .addServlet("adminRest", new AdminRestServlet(environment.getJerseyServletContainer()))
-                .addMapping(path);
+        if (dedicated) {
+            final Injector injector = InjectorLookup.getInjector(application).orElseThrow(() ->
+                    new IllegalStateException("Guice injector not found: dedicated admin rest context "
+                            + "requires GuiceBundle"));
+            environment.admin()
+                    .addServlet("adminRest", AdminRestContext.create(environment, injector, path))
+                    .addMapping(path);
+        } else {
+            environment.admin()
+                    .addServlet("adminRest", new AdminRestServlet(environment.getJerseyServletContainer()))
+                    .addMapping(path);
+        }
+        // in dedicated mode still required to hide admin resources in main context
         environment.jersey().register(AdminResourceFilter.class);
-        logger.info("Admin REST registered on path: {}", path);
+        logger.info("Admin REST registered on path: {}{}", path, dedicated ? " (dedicated context)" : "");
     }
 
     /**
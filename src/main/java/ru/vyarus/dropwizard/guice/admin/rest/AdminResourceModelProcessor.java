@@ -0,0 +1,74 @@
+package ru.vyarus.dropwizard.guice.admin.rest;
+
+import org.glassfish.jersey.server.model.ModelProcessor;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
+
+import javax.ws.rs.core.Configuration;
+
+/**
+ * Removes all non admin methods (not annotated with {@link AdminResource} directly or on resource class) from
+ * resource model of dedicated admin rest context. Admin access is resolved once, when resource model is built, so
+ * no per-request checks required.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.dropwizard.guice.admin.AdminRestBundle
+ * @since 19.10.2018
+ */
+public class AdminResourceModelProcessor implements ModelProcessor {
+
+    @Override
+    public ResourceModel processResourceModel(final ResourceModel resourceModel, final Configuration configuration) {
+        return filter(resourceModel);
+    }
+
+    @Override
+    public ResourceModel processSubResource(final ResourceModel subResourceModel,
+                                            final Configuration configuration) {
+        // sub resource could be returned only by admin locator method
+        return subResourceModel;
+    }
+
+    private ResourceModel filter(final ResourceModel model) {
+        final ResourceModel.Builder builder = new ResourceModel.Builder(false);
+        for (Resource resource : model.getRootResources()) {
+            final Resource res = filter(resource);
+            if (res != null) {
+                builder.addResource(res);
+            }
+        }
+        return builder.build();
+    }
+
+    private Resource filter(final Resource resource) {
+        final Resource.Builder builder = Resource.builder(resource.getPath())
+                .name(resource.getName())
+                .extended(resource.isExtended());
+        boolean empty = true;
+        for (ResourceMethod method : resource.getResourceMethods()) {
+            if (isAdmin(method)) {
+                builder.addMethod(method);
+                empty = false;
+            }
+        }
+        final ResourceMethod locator = resource.getResourceLocator();
+        if (locator != null && isAdmin(locator)) {
+            builder.addMethod(locator);
+            empty = false;
+        }
+        for (Resource child : resource.getChildResources()) {
+            final Resource res = filter(child);
+            if (res != null) {
+                builder.addChildResource(res);
+                empty = false;
+            }
+        }
+        return empty ? null : builder.build();
+    }
+
+    private boolean isAdmin(final ResourceMethod method) {
+        return method.getInvocable().getDefinitionMethod().isAnnotationPresent(AdminResource.class)
+                || method.getInvocable().getHandler().getHandlerClass().isAnnotationPresent(AdminResource.class);
+    }
+}
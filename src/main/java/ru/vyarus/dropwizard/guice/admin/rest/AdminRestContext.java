@@ -0,0 +1,100 @@
+package ru.vyarus.dropwizard.guice.admin.rest;
+
+import com.google.inject.Injector;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.jackson.JacksonBinder;
+import io.dropwizard.jersey.validation.HibernateValidationFeature;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.setup.ExceptionMapperBinder;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.servlet.ServletContainer;
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
+import ru.vyarus.dropwizard.guice.module.context.option.Options;
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+import ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.JerseyExtensionsManagedByGuice;
+
+/**
+ * Dedicated jersey context for admin rest: contains only admin resources (annotated with {@link AdminResource}),
+ * and only admin methods of hybrid resources (see {@link AdminResourceModelProcessor}). Context is served by
+ * admin connector (with its own thread pool) and does not affect main jersey context.
+ * <p>
+ * Context is minimal: it contains only dropwizard defaults (jackson, validation and default exception mappers).
+ * Jersey extensions (filters, providers etc.), registered in main context, are not available. Guice managed
+ * resources are obtained from guice injector (with the same scope as in main context), HK2 managed resources
+ * are instantiated by jersey (without guice bridge).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.dropwizard.guice.admin.AdminRestBundle
+ * @since 19.10.2018
+ */
+public final class AdminRestContext {
+
+    private AdminRestContext() {
+    }
+
+    /**
+     * @param environment environment
+     * @param injector    guice injector
+     * @param urlPattern  admin rest mapping
+     * @return jersey servlet with admin resources only
+     */
+    public static ServletContainer create(final Environment environment, final Injector injector,
+                                          final String urlPattern) {
+        // endpoints logging disabled: it shows registered resources, but not filtered model
+        final DropwizardResourceConfig config = new DropwizardResourceConfig(true, environment.metrics());
+        config.setUrlPattern(urlPattern);
+        config.register(new JacksonBinder(environment.getObjectMapper()));
+        config.register(new HibernateValidationFeature(environment.getValidator()));
+        config.register(new ExceptionMapperBinder(true));
+        config.register(AdminResourceModelProcessor.class);
+
+        final boolean guiceFirst = injector.getInstance(Options.class).get(JerseyExtensionsManagedByGuice);
+        final List<Class<?>> resources = findAdminResources(injector);
+        config.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                for (Class<?> type : resources) {
+                    // singleton scope is controlled by guice (as guice managed resources are bound in guice)
+                    if (!JerseyBinding.isHK2Managed(type, guiceFirst)) {
+                        JerseyBinding.bindComponent(this, injector, type, false, false);
+                    }
+                }
+            }
+        });
+        for (Class<?> type : resources) {
+            config.register(type);
+        }
+        return new ServletContainer(config);
+    }
+
+    private static List<Class<?>> findAdminResources(final Injector injector) {
+        final List<Class<?>> res = new ArrayList<>();
+        for (Class<?> type : injector.getInstance(GuiceyConfigurationInfo.class)
+                .getExtensions(ResourceInstaller.class)) {
+            if (isAdmin(type)) {
+                res.add(type);
+            }
+        }
+        return res;
+    }
+
+    private static boolean isAdmin(final Class<?> type) {
+        boolean admin = FeatureUtils.hasAnnotation(type, AdminResource.class);
+        if (!admin) {
+            for (Method method : type.getMethods()) {
+                if (method.isAnnotationPresent(AdminResource.class)) {
+                    admin = true;
+                    break;
+                }
+            }
+        }
+        return admin;
+    }
+}
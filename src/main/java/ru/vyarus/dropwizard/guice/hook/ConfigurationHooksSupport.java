@@ -4,6 +4,7 @@ import ru.vyarus.dropwizard.guice.GuiceBundle;
 import ru.vyarus.dropwizard.guice.test.GuiceyConfigurationRule;
 import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyConfiguration;
 
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -62,6 +63,13 @@ public final class ConfigurationHooksSupport {
         return hooks;
     }
 
+    /**
+     * @return hooks registered in current thread (not applied yet) or empty set
+     */
+    public static Set<GuiceyConfigurationHook> getRegistered() {
+        return HOOKS.get() != null ? Collections.unmodifiableSet(HOOKS.get()) : Collections.emptySet();
+    }
+
     /**
      * @return count of hooks registered in current thread
      */
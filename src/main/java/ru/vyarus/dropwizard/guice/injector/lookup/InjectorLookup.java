@@ -2,15 +2,24 @@ package ru.vyarus.dropwizard.guice.injector.lookup;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.inject.Injector;
+import com.google.inject.Provider;
 import io.dropwizard.Application;
 import io.dropwizard.lifecycle.Managed;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Injector lookup utility. Injectors registered automatically (by GuiceBundle).
+ * <p>
+ * For static beans access from non guice code use {@link #getInstance(Class)} (when only one application is
+ * running, which is usual production case): bean providers are cached per type, so each call is almost as fast
+ * as direct provider call. When multiple applications are registered (e.g. in tests),
+ * use {@link #getInstance(Application, Class)}.
  *
  * @author Vyacheslav Rusakov
  * @since 19.04.2015
@@ -18,6 +27,17 @@ import java.util.Optional;
 public final class InjectorLookup {
 
     private static final Map<Application, Injector> INJECTORS = Maps.newConcurrentMap();
+    private static final ClassValue<AtomicReference<CachedProvider>> PROVIDERS =
+            new ClassValue<AtomicReference<CachedProvider>>() {
+                @Override
+                protected AtomicReference<CachedProvider> computeValue(final Class<?> type) {
+                    return new AtomicReference<>();
+                }
+            };
+    // types with cached providers (to be able to clear cache)
+    private static final Set<Class<?>> CACHED = Sets.newConcurrentHashSet();
+    // injector of the only registered application or null (when none or multiple applications registered)
+    private static volatile Injector single;
 
     private InjectorLookup() {
     }
@@ -31,9 +51,12 @@ public final class InjectorLookup {
      */
     public static Managed registerInjector(final Application application, final Injector injector) {
         Preconditions.checkNotNull(application, "Application instance required");
-        Preconditions.checkArgument(!INJECTORS.containsKey(application),
-                "Injector already registered for application %s", application.getClass().getName());
-        INJECTORS.put(application, injector);
+        synchronized (INJECTORS) {
+            Preconditions.checkArgument(!INJECTORS.containsKey(application),
+                    "Injector already registered for application %s", application.getClass().getName());
+            INJECTORS.put(application, injector);
+            updateSingle();
+        }
         return new Managed() {
             @Override
             public void start() throws Exception {
@@ -42,7 +65,11 @@ public final class InjectorLookup {
 
             @Override
             public void stop() throws Exception {
-                INJECTORS.remove(application);
+                synchronized (INJECTORS) {
+                    INJECTORS.remove(application);
+                    updateSingle();
+                    clearProviders();
+                }
             }
         };
     }
@@ -55,6 +82,38 @@ public final class InjectorLookup {
         return Optional.ofNullable(INJECTORS.get(application));
     }
 
+    /**
+     * Fast static bean access when only one application is registered. Bean provider is resolved on first call
+     * and cached (cache is cleared when injector is unregistered). Bean scope is preserved: prototype beans are
+     * created on each call.
+     *
+     * @param type bean type
+     * @param <T>  bean type
+     * @return bean instance
+     * @throws IllegalStateException if no or multiple applications registered
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getInstance(final Class<T> type) {
+        CachedProvider cached = PROVIDERS.get(type).get();
+        // identity check protects from stale providers of other application
+        if (cached == null || cached.injector != single) {
+            cached = cacheProvider(type);
+        }
+        return (T) cached.provider.get();
+    }
+
+    /**
+     * Application specific bean access (when multiple applications registered, e.g. in tests).
+     *
+     * @param application application instance
+     * @param type        bean type
+     * @param <T>         bean type
+     * @return optional with or without bean instance (when injector is not registered for application)
+     */
+    public static <T> Optional<T> getInstance(final Application<?> application, final Class<T> type) {
+        return getInjector(application).map(injector -> injector.getInstance(type));
+    }
+
     /**
      * Clears stored injectors references. Normally shouldn't be used at all, because managed object, returned
      * on registration removes injector reference automatically on shutdown (for example,
@@ -63,6 +122,49 @@ public final class InjectorLookup {
      * <p>WARNING: calling this method while application is working may cause incorrect behaviour.</p>
      */
     public static void clear() {
-        INJECTORS.clear();
+        synchronized (INJECTORS) {
+            INJECTORS.clear();
+            updateSingle();
+            clearProviders();
+        }
+    }
+
+    private static CachedProvider cacheProvider(final Class<?> type) {
+        // lock prevents concurrent cache clear: type is always registered before provider become visible
+        synchronized (INJECTORS) {
+            final Injector injector = single;
+            Preconditions.checkState(injector != null, INJECTORS.isEmpty()
+                    ? "No application injector registered"
+                    : "Multiple applications registered: use getInstance(application, type) instead");
+            CACHED.add(type);
+            final CachedProvider cached = new CachedProvider(injector, injector.getProvider(type));
+            PROVIDERS.get(type).set(cached);
+            return cached;
+        }
+    }
+
+    private static void updateSingle() {
+        single = INJECTORS.size() == 1 ? INJECTORS.values().iterator().next() : null;
+    }
+
+    // must be called under INJECTORS lock
+    private static void clearProviders() {
+        for (Class<?> type : CACHED) {
+            PROVIDERS.remove(type);
+        }
+        CACHED.clear();
+    }
+
+    /**
+     * Cached bean provider with its injector.
+     */
+    private static class CachedProvider {
+        private final Injector injector;
+        private final Provider<?> provider;
+
+        CachedProvider(final Injector injector, final Provider<?> provider) {
+            this.injector = injector;
+            this.provider = provider;
+        }
     }
 }
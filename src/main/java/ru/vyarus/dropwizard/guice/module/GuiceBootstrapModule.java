@@ -15,7 +15,6 @@ import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
 import ru.vyarus.dropwizard.guice.module.jersey.Jersey2Module;
 import ru.vyarus.dropwizard.guice.module.support.DropwizardAwareModule;
 import ru.vyarus.dropwizard.guice.module.support.scope.Prototype;
-import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
 import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigBindingModule;
 
 import javax.inject.Singleton;
@@ -79,7 +78,9 @@ public class GuiceBootstrapModule<T extends Configuration> extends DropwizardAwa
     private void bindEnvironment() {
         bind(Bootstrap.class).toInstance(bootstrap());
         bind(Environment.class).toInstance(environment());
-        install(new ConfigBindingModule(configuration(), ConfigTreeBuilder.build(bootstrap(), configuration()),
-                context.option(GuiceyOptions.BindConfigurationInterfaces)));
+        final boolean bindPathsOnDemand = context.option(GuiceyOptions.BindConfigurationPathsOnDemand);
+        install(new ConfigBindingModule(configuration(), context.getConfigurationTree(),
+                context.option(GuiceyOptions.BindConfigurationInterfaces),
+                !bindPathsOnDemand));
     }
 }
@@ -9,6 +9,7 @@ import io.dropwizard.cli.Command;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import ru.vyarus.dropwizard.guice.GuiceBundle;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.bundle.GuiceyBundleLookup;
 import ru.vyarus.dropwizard.guice.hook.ConfigurationHooksSupport;
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
@@ -21,6 +22,8 @@ import ru.vyarus.dropwizard.guice.module.context.info.sign.DisableSupport;
 import ru.vyarus.dropwizard.guice.module.context.option.Option;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
 import ru.vyarus.dropwizard.guice.module.context.option.internal.OptionsSupport;
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
@@ -96,7 +99,7 @@ public final class ConfigurationContext {
     /**
      * Guicey lifecycle listeners support.
      */
-    private final LifecycleSupport lifecycleTracker = new LifecycleSupport(new Options(optionsSupport));
+    private final LifecycleSupport lifecycleTracker = new LifecycleSupport(new Options(optionsSupport), tracker);
 
 
     // --------------------------------------------------------------------------- SCOPE
@@ -506,7 +509,11 @@ public final class ConfigurationContext {
      */
     public void runPhaseStarted(final Configuration configuration, final Environment environment) {
         this.configuration = configuration;
-        this.configurationTree = ConfigTreeBuilder.build(bootstrap, configuration);
+        final StatTimer timer = stat().timer(Stat.ConfigTreeTime);
+        final Integer depth = option(GuiceyOptions.ConfigIntrospectionDepth);
+        final String[] excludes = option(GuiceyOptions.ConfigIntrospectionExcludes);
+        this.configurationTree = ConfigTreeBuilder.build(bootstrap, configuration, depth, excludes);
+        timer.stop();
         this.environment = environment;
     }
 
@@ -5,12 +5,20 @@ import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo;
 import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
 import ru.vyarus.dropwizard.guice.module.context.Filters;
 import ru.vyarus.dropwizard.guice.module.context.debug.report.ReportRenderer;
+import ru.vyarus.dropwizard.guice.module.context.debug.util.RenderUtils;
 import ru.vyarus.dropwizard.guice.module.context.debug.util.TreeNode;
 import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
+import ru.vyarus.dropwizard.guice.module.context.stat.CustomStat;
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
+import ru.vyarus.dropwizard.guice.module.context.stat.TimerStat;
 import ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.*;
 import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
@@ -21,6 +29,15 @@ import static ru.vyarus.dropwizard.guice.module.installer.util.Reporter.NEWLINE;
  * <p>
  * Installers implementing {@link JerseyInstaller} are executed (also) as part of jersey context startup
  * and so reported separately.
+ * <p>
+ * Lifecycle listeners are executed inside other phases, so listeners time is shown separately (not counted in
+ * remaining time) with time of each listener (to identify slow listeners).
+ * <p>
+ * For guicey and each phase, JVM activity is shown (when available): allocated memory, loaded classes and
+ * garbage collections, because startup is often bound by class loading or GC rather than CPU.
+ * <p>
+ * Custom stats (reported by third party bundles and installers) are shown under their parent stat. Custom timers,
+ * attached directly to guicey time, are shown as separate phases.
  *
  * @author Vyacheslav Rusakov
  * @since 28.07.2016
@@ -43,6 +60,7 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
     @Override
     public String renderReport(final Boolean hideTiny) {
         final TreeNode root = new TreeNode("GUICEY started in %s", info.getStats().humanTime(GuiceyTime));
+        renderJvm(root, GuiceyTime);
         renderTimes(root, hideTiny);
 
         final StringBuilder res = new StringBuilder().append(NEWLINE).append(NEWLINE);
@@ -55,9 +73,13 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         final double percent = remaining / 100d;
         remaining -= renderClasspathScanInfo(root, hideTiny, percent);
         remaining -= renderCommandsRegistration(root, hideTiny, percent);
+        remaining -= renderConfigurationAnalysis(root, hideTiny, percent);
         remaining -= renderBundlesProcessing(root, hideTiny, percent);
-        remaining -= renderInjectorCreation(root, percent);
+        remaining -= renderInjectorCreation(root, hideTiny, percent);
         remaining -= renderHkPart(root, hideTiny, percent);
+        // custom phases may overlap guicey phases and so are not counted in remaining time
+        renderCustomPhases(root, hideTiny, percent);
+        renderListeners(root, hideTiny, percent);
         if (show(hideTiny, remaining)) {
             root.child("[%.2g%%] remaining %s ms", remaining / percent, remaining);
         }
@@ -70,6 +92,8 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         if (show(hideTiny, command)) {
             final TreeNode node = root.child("[%.2g%%] COMMANDS processed in %s",
                     command / percent, info.getStats().humanTime(CommandTime));
+            renderJvm(node, CommandTime);
+            renderCustom(node, CommandTime, hideTiny);
             final int registered = info.getCommands().size();
             if (registered > 0) {
                 node.child("registered %s commands", registered);
@@ -78,17 +102,31 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         return command;
     }
 
+    private long renderConfigurationAnalysis(final TreeNode root, final boolean hideTiny, final double percent) {
+        final long config = info.getStats().time(ConfigTreeTime);
+        if (show(hideTiny, config)) {
+            final TreeNode node = root.child("[%.2g%%] CONFIGURATION analyzed in %s",
+                    config / percent, info.getStats().humanTime(ConfigTreeTime));
+            renderJvm(node, ConfigTreeTime);
+            renderCustom(node, ConfigTreeTime, hideTiny);
+            node.child("%s paths found", info.getConfigurationTree().getPaths().size());
+        }
+        return config;
+    }
+
     private long renderBundlesProcessing(final TreeNode root, final boolean hideTiny, final double percent) {
         final long bundle = info.getStats().time(BundleTime);
         if (show(hideTiny, bundle)) {
             final TreeNode node = root.child("[%.2g%%] BUNDLES processed in %s",
                     bundle / percent, info.getStats().humanTime(BundleTime));
+            renderJvm(node, BundleTime);
+            renderCustom(node, BundleTime, hideTiny);
             // if no bundles were actually resolved, resolution time would be tiny
             final long resolved = info.getStats().time(BundleResolutionTime);
             if (show(hideTiny, resolved)) {
-                node.child("%s resolved in %s",
+                renderCustom(node.child("%s resolved in %s",
                         info.getBundlesFromDw().size() + info.getBundlesFromLookup().size(),
-                        info.getStats().humanTime(BundleResolutionTime));
+                        info.getStats().humanTime(BundleResolutionTime)), BundleResolutionTime, hideTiny);
             }
             node.child("%s processed", info.getBundles().size());
         }
@@ -100,6 +138,8 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         if (show(hideTiny, scan)) {
             final TreeNode node = root.child("[%.2g%%] CLASSPATH scanned in %s",
                     scan / percent, info.getStats().humanTime(ScanTime));
+            renderJvm(node, ScanTime);
+            renderCustom(node, ScanTime, hideTiny);
             final int classes = info.getStats().count(ScanClassesCount);
             node.child("scanned %s classes", classes);
             final int recognized = info.getData().getItems(Filters.fromScan()).size();
@@ -109,17 +149,21 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         return scan;
     }
 
-    private long renderInjectorCreation(final TreeNode root, final double percent) {
+    private long renderInjectorCreation(final TreeNode root, final boolean hideTiny, final double percent) {
         final long injector = info.getStats().time(InjectorCreationTime);
         final TreeNode node = root.child("[%.2g%%] INJECTOR created in %s",
                 injector / percent, info.getStats().humanTime(InjectorCreationTime));
+        renderJvm(node, InjectorCreationTime);
+        renderCustom(node, InjectorCreationTime, hideTiny);
 
-        node.child("installers prepared in %s", info.getStats().humanTime(InstallersTime));
-        renderRecognition(
-                node.child("extensions recognized in %s", info.getStats().humanTime(ExtensionsRecognitionTime))
-        );
-        node.child("%s extensions installed in %s", info.getExtensions().size(),
-                info.getStats().humanTime(ExtensionsInstallationTime));
+        renderCustom(node.child("installers prepared in %s", info.getStats().humanTime(InstallersTime)),
+                InstallersTime, hideTiny);
+        final TreeNode recognition = node.child("extensions recognized in %s",
+                info.getStats().humanTime(ExtensionsRecognitionTime));
+        renderRecognition(recognition);
+        renderCustom(recognition, ExtensionsRecognitionTime, hideTiny);
+        renderCustom(node.child("%s extensions installed in %s", info.getExtensions().size(),
+                info.getStats().humanTime(ExtensionsInstallationTime)), ExtensionsInstallationTime, hideTiny);
         return injector;
     }
 
@@ -134,6 +178,8 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
         if (show(hideTiny, hk)) {
             final TreeNode node = root.child("[%.2g%%] HK2 bridged in %s",
                     hk / percent, info.getStats().humanTime(HKTime));
+            renderJvm(node, HKTime);
+            renderCustom(node, HKTime, hideTiny);
             final int installers = info.getData()
                     .getItems(ConfigItem.Installer, it -> JerseyInstaller.class.isAssignableFrom(it.getType())).size();
             if (installers > 0) {
@@ -142,13 +188,100 @@ public class StatsRenderer implements ReportRenderer<Boolean> {
                 final int extensions = info.getData()
                         .getItems(ConfigItem.Extension, (ExtensionItemInfo it) -> it.isEnabled()
                                 && JerseyInstaller.class.isAssignableFrom(it.getInstalledBy())).size();
-                node.child("%s jersey extensions installed in %s",
-                        extensions, info.getStats().humanTime(JerseyInstallerTime));
+                renderCustom(node.child("%s jersey extensions installed in %s",
+                        extensions, info.getStats().humanTime(JerseyInstallerTime)), JerseyInstallerTime, hideTiny);
             }
         }
         return hk;
     }
 
+    private void renderListeners(final TreeNode root, final boolean hideTiny, final double percent) {
+        final long listeners = info.getStats().time(ListenersTime);
+        if (show(hideTiny, listeners)) {
+            final TreeNode node = root.child("[%.2g%%] LISTENERS notified in %s",
+                    listeners / percent, info.getStats().humanTime(ListenersTime));
+            renderCustom(node, ListenersTime, hideTiny);
+            info.getStats().getListeners().stream()
+                    .sorted(Comparator.comparingLong((Class<?> type) -> info.getStats().listenerTime(type))
+                            .reversed())
+                    .filter(type -> show(hideTiny, info.getStats().listenerTime(type)))
+                    .forEach(type -> node.child("%s in %s", RenderUtils.renderClass(type),
+                            info.getStats().humanListenerTime(type)));
+        }
+    }
+
+    private void renderCustomPhases(final TreeNode root, final boolean hideTiny, final double percent) {
+        for (CustomStat stat : info.getStats().getCustomStats()) {
+            if (stat.getPhase() == GuiceyTime && stat.getParent() == null) {
+                if (stat.isTimer()) {
+                    final long time = info.getStats().time(stat);
+                    if (show(hideTiny, time)) {
+                        renderCustomChildren(root.child("[%.2g%%] %s in %s",
+                                time / percent, stat.getName(), info.getStats().humanTime(stat)), stat, hideTiny);
+                    }
+                } else {
+                    root.child("%s: %s", stat.getName(), info.getStats().count(stat));
+                }
+            }
+        }
+    }
+
+    private void renderCustom(final TreeNode node, final Stat phase, final boolean hideTiny) {
+        for (CustomStat stat : info.getStats().getCustomStats()) {
+            if (stat.getPhase() == phase && stat.getParent() == null) {
+                renderCustomStat(node, stat, hideTiny);
+            }
+        }
+    }
+
+    private void renderCustomStat(final TreeNode node, final CustomStat stat, final boolean hideTiny) {
+        if (stat.isTimer()) {
+            if (show(hideTiny, info.getStats().time(stat))) {
+                renderCustomChildren(node.child("%s in %s", stat.getName(), info.getStats().humanTime(stat)),
+                        stat, hideTiny);
+            }
+        } else {
+            node.child("%s: %s", stat.getName(), info.getStats().count(stat));
+        }
+    }
+
+    private void renderCustomChildren(final TreeNode node, final CustomStat parent, final boolean hideTiny) {
+        for (CustomStat stat : info.getStats().getCustomStats()) {
+            if (parent.equals(stat.getParent())) {
+                renderCustomStat(node, stat, hideTiny);
+            }
+        }
+    }
+
+    private void renderJvm(final TreeNode node, final Stat stat) {
+        final TimerStat timer = info.getStats().timer(stat);
+        if (timer == null) {
+            return;
+        }
+        final List<String> parts = new ArrayList<>();
+        if (timer.getAllocatedBytes() > 0) {
+            parts.add(formatBytes(timer.getAllocatedBytes()) + " allocated");
+        }
+        if (timer.getLoadedClasses() > 0) {
+            parts.add(timer.getLoadedClasses() + " classes loaded");
+        }
+        if (timer.getGcCount() > 0) {
+            parts.add(String.format("%s GC in %s ms", timer.getGcCount(), timer.getGcTime(TimeUnit.MILLISECONDS)));
+        }
+        if (!parts.isEmpty()) {
+            node.child("jvm: %s", String.join(", ", parts));
+        }
+    }
+
+    private static String formatBytes(final long bytes) {
+        final int unit = 1024;
+        if (bytes < unit) {
+            return bytes + " B";
+        }
+        final int exp = (int) (Math.log(bytes) / Math.log(unit));
+        return String.format("%.1f %sB", bytes / Math.pow(unit, exp), "KMGTPE".charAt(exp - 1));
+    }
+
     private boolean show(final boolean hideTiny, final long value) {
         return !hideTiny || value > 0;
     }
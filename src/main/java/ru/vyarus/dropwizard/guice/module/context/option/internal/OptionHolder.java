@@ -12,9 +12,10 @@ import ru.vyarus.dropwizard.guice.module.context.option.Option;
  */
 public final class OptionHolder<T> {
     private final Option<T> option;
-    private boolean used;
-    private boolean set;
-    private T value;
+    // option could be read from any thread after application startup
+    private volatile boolean used;
+    private volatile boolean set;
+    private volatile T value;
 
     public OptionHolder(final Option<T> option) {
         this.option = option;
@@ -39,7 +40,16 @@ public final class OptionHolder<T> {
      * @return option value (default of set)
      */
     public T getValue() {
-        used = true;
+        if (!used) {
+            used = true;
+        }
+        return value;
+    }
+
+    /**
+     * @return option value without usage tracking
+     */
+    T peekValue() {
         return value;
     }
 
@@ -1,12 +1,15 @@
 package ru.vyarus.dropwizard.guice.module.context.option.internal;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import ru.vyarus.dropwizard.guice.module.context.option.Option;
 
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Options support logic. Holds configured options and controls option correctness.
@@ -15,6 +18,11 @@ import java.util.Set;
  * Check is performed manually during value assignment.
  * <p>
  * Option may have null as default value, but null can't be assigned manually.
+ * <p>
+ * After application startup options are frozen ({@link #freeze()}): values of all options enums, used during
+ * startup, are copied into immutable {@link EnumMap} snapshot and options can't be changed anymore. Frozen options
+ * reads (from guice services in request threads) are lock-free and does not modify shared state (usage is tracked
+ * only on first option read).
  *
  * @param <T> helper type to define option
  * @author Vyacheslav Rusakov
@@ -23,15 +31,20 @@ import java.util.Set;
 @SuppressWarnings("unchecked")
 public final class OptionsSupport<T extends Enum & Option> {
 
-    private final Map<T, OptionHolder> options = Maps.newHashMap();
+    private final Map<T, OptionHolder> options = new ConcurrentHashMap<>();
+    // options snapshot by option enum type (created after application startup)
+    private volatile Map<Class<?>, Map<T, FrozenOption>> snapshot;
 
     /**
      * @param option option enum
      * @param value  option value (not null)
      * @throws NullPointerException     for null value
      * @throws IllegalArgumentException for value incompatible with option type
+     * @throws IllegalStateException    if options already frozen
      */
     public void set(final T option, final Object value) {
+        Preconditions.checkState(snapshot == null, "Options are frozen after application startup: "
+                + "can't change option %s", option);
         Preconditions.checkNotNull(value, "Null value provided for option %s", option);
         Preconditions.checkArgument(option.getType().isAssignableFrom(value.getClass()),
                 "Bad value provided for option %s: %s", option, value);
@@ -45,9 +58,45 @@ public final class OptionsSupport<T extends Enum & Option> {
      * @return defined or default option value
      */
     public <P> P get(final T option) {
+        final Map<Class<?>, Map<T, FrozenOption>> frozen = snapshot;
+        if (frozen != null) {
+            final Map<T, FrozenOption> group = frozen.get(option.getDeclaringClass());
+            if (group != null) {
+                return (P) group.get(option).getValue();
+            }
+        }
         return (P) getOrCreateHolder(option).getValue();
     }
 
+    /**
+     * Creates immutable options snapshot: all options of used option enums are cached (including not yet
+     * used options). Options of enum, never used before, are still read with holders (thread safe).
+     * After freeze options can't be changed.
+     */
+    public void freeze() {
+        final Map<Class<?>, Map<T, FrozenOption>> res = new HashMap<>();
+        for (T option : options.keySet()) {
+            final Class<T> type = option.getDeclaringClass();
+            if (!res.containsKey(type)) {
+                // option type is bound to raw Enum, so enum map can't be parameterized
+                @SuppressWarnings("rawtypes")
+                final Map<T, FrozenOption> group = new EnumMap(type);
+                for (T item : type.getEnumConstants()) {
+                    group.put(item, new FrozenOption(item, options.get(item)));
+                }
+                res.put(type, group);
+            }
+        }
+        snapshot = ImmutableMap.copyOf(res);
+    }
+
+    /**
+     * @return true if options are frozen (application started), false otherwise
+     */
+    public boolean isFrozen() {
+        return snapshot != null;
+    }
+
     /**
      * @param option option
      * @return option holder object
@@ -75,11 +124,30 @@ public final class OptionsSupport<T extends Enum & Option> {
     }
 
     private OptionHolder getOrCreateHolder(final T option) {
-        OptionHolder holder = options.get(option);
-        if (holder == null) {
-            holder = new OptionHolder(option);
-            options.put(option, holder);
+        final OptionHolder holder = options.get(option);
+        return holder != null ? holder : options.computeIfAbsent(option, OptionHolder::new);
+    }
+
+    /**
+     * Immutable option value. Option usage is tracked on first read only.
+     */
+    private final class FrozenOption {
+        private final T option;
+        private final Object value;
+        private volatile boolean used;
+
+        FrozenOption(final T option, final OptionHolder holder) {
+            this.option = option;
+            this.value = holder != null ? holder.peekValue() : option.getDefaultValue();
+            this.used = holder != null && holder.isUsed();
+        }
+
+        public Object getValue() {
+            if (!used) {
+                getOrCreateHolder(option).getValue();
+                used = true;
+            }
+            return value;
         }
-        return holder;
     }
 }
@@ -0,0 +1,152 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Objects;
+
+/**
+ * Open statistic key for third party bundles and installers (in contrast to closed {@link Stat} enum). Custom stat
+ * is attached to guicey stat (startup phase) or to other custom stat and shown in startup report under its parent.
+ * Like guicey stats, custom stat could be either timer or counter (but parent must always be a timer).
+ * <p>
+ * Stat must be declared as constant and used through {@link CustomStats}:
+ * <pre>{@code
+ * static final CustomStat MIGRATION = CustomStat.timer("Schema migration", Stat.BundleTime);
+ * static final CustomStat MIGRATED = CustomStat.counter("Applied migrations", MIGRATION);
+ * }</pre>
+ * Custom stat identity is its name: different stats with the same name are not allowed.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class CustomStat {
+
+    private final String name;
+    private final boolean timer;
+    private final Stat phase;
+    private final CustomStat parent;
+
+    private CustomStat(final String name, final boolean timer, final Stat phase, final CustomStat parent) {
+        Preconditions.checkArgument(name != null && !name.trim().isEmpty(), "Custom stat name required");
+        this.name = name;
+        this.timer = timer;
+        this.phase = phase;
+        this.parent = parent;
+    }
+
+    /**
+     * @param name  stat name
+     * @param phase guicey timer stat (phase)
+     * @return custom timer stat
+     */
+    public static CustomStat timer(final String name, final Stat phase) {
+        return new CustomStat(name, true, checkPhase(phase), null);
+    }
+
+    /**
+     * @param name   stat name
+     * @param parent parent custom timer stat
+     * @return custom timer stat
+     */
+    public static CustomStat timer(final String name, final CustomStat parent) {
+        return new CustomStat(name, true, checkParent(parent).phase, parent);
+    }
+
+    /**
+     * @param name  stat name
+     * @param phase guicey timer stat (phase)
+     * @return custom counter stat
+     */
+    public static CustomStat counter(final String name, final Stat phase) {
+        return new CustomStat(name, false, checkPhase(phase), null);
+    }
+
+    /**
+     * @param name   stat name
+     * @param parent parent custom timer stat
+     * @return custom counter stat
+     */
+    public static CustomStat counter(final String name, final CustomStat parent) {
+        return new CustomStat(name, false, checkParent(parent).phase, parent);
+    }
+
+    /**
+     * @return stat name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true for timer stat, false for counter stat
+     */
+    public boolean isTimer() {
+        return timer;
+    }
+
+    /**
+     * For nested custom stats, phase is inherited from parent.
+     *
+     * @return guicey stat (phase), containing current stat
+     */
+    public Stat getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return parent custom stat or null if stat attached directly to guicey stat
+     */
+    public CustomStat getParent() {
+        return parent;
+    }
+
+    /**
+     * @throws IllegalStateException is current stat is not timer
+     */
+    public void requiresTimer() {
+        Preconditions.checkState(timer, "%s is not timer stat", name);
+    }
+
+    /**
+     * @throws IllegalStateException is current stat is not counter stat
+     */
+    public void requiresCounter() {
+        Preconditions.checkState(!timer, "%s is not counter stat", name);
+    }
+
+    /**
+     * @param stat other custom stat
+     * @return true if stat has the same definition, false otherwise
+     */
+    public boolean sameDefinition(final CustomStat stat) {
+        return name.equals(stat.name) && timer == stat.timer && phase == stat.phase
+                && Objects.equals(parent, stat.parent);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || o instanceof CustomStat && name.equals(((CustomStat) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static Stat checkPhase(final Stat phase) {
+        Preconditions.checkNotNull(phase, "Parent stat required");
+        phase.requiresTimer();
+        return phase;
+    }
+
+    private static CustomStat checkParent(final CustomStat parent) {
+        Preconditions.checkNotNull(parent, "Parent stat required");
+        parent.requiresTimer();
+        return parent;
+    }
+}
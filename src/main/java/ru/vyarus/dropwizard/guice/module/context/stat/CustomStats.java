@@ -0,0 +1,50 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+/**
+ * Custom stats recorder for third party bundles and installers. Recorded stats are shown in startup report
+ * in the same tree as guicey stats (under parent stat) and available through {@link StatsInfo}.
+ * <p>
+ * Available in bundles with {@link ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap#stats()}
+ * and in installers with {@link ru.vyarus.dropwizard.guice.module.installer.option.WithStats}.
+ *
+ * @author Vyacheslav Rusakov
+ * @see CustomStat
+ * @since 19.10.2018
+ */
+public final class CustomStats {
+
+    private final StatsTracker tracker;
+
+    /**
+     * Internal constructor: instance is created by guicey (for bundles and installers) and should not be
+     * created manually.
+     *
+     * @param tracker guicey stats tracker
+     */
+    public CustomStats(final StatsTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    /**
+     * Starts custom timer measurement (all measurements are summed). Returned timer must be stopped in the
+     * same thread.
+     *
+     * @param stat custom timer stat
+     * @return started timer
+     * @throws IllegalStateException if stat is not timer or other stat with the same name already used
+     */
+    public StatTimer timer(final CustomStat stat) {
+        return tracker.timer(stat);
+    }
+
+    /**
+     * Inserts value for first call and sum values for consequent calls.
+     *
+     * @param stat  custom counter stat
+     * @param count counter value
+     * @throws IllegalStateException if stat is not counter or other stat with the same name already used
+     */
+    public void count(final CustomStat stat, final int count) {
+        tracker.count(stat, count);
+    }
+}
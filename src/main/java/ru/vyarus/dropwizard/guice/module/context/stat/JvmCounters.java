@@ -0,0 +1,109 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * JVM counters, sampled by timers: current thread CPU time and allocated bytes (if supported by JVM),
+ * garbage collections count and time and loaded classes count (process wide). Unsupported counters always
+ * return 0.
+ * <p>
+ * Allocated bytes are resolved with JVM specific {@code com.sun.management.ThreadMXBean}, which is accessed
+ * reflectively (only by name) to not fail on JVMs without it.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+final class JvmCounters {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME = THREADS.isCurrentThreadCpuTimeSupported()
+            && THREADS.isThreadCpuTimeEnabled();
+    private static final String ALLOCATION_BEAN = "com.sun.management.ThreadMXBean";
+    private static final MethodHandle ALLOCATION = allocationBean();
+    private static final List<GarbageCollectorMXBean> GC = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final ClassLoadingMXBean CLASSES = ManagementFactory.getClassLoadingMXBean();
+
+    private JvmCounters() {
+    }
+
+    /**
+     * @return current thread CPU time in nanoseconds
+     */
+    static long cpuTime() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * @return bytes allocated by current thread
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+    static long allocatedBytes() {
+        if (ALLOCATION == null) {
+            return 0;
+        }
+        try {
+            return (long) ALLOCATION.invokeExact(Thread.currentThread().getId());
+        } catch (Throwable ex) {
+            return 0;
+        }
+    }
+
+    /**
+     * @return total garbage collections count (of all collectors)
+     */
+    static long gcCount() {
+        long res = 0;
+        for (GarbageCollectorMXBean bean : GC) {
+            res += Math.max(0, bean.getCollectionCount());
+        }
+        return res;
+    }
+
+    /**
+     * @return total garbage collections time in milliseconds (of all collectors)
+     */
+    static long gcTime() {
+        long res = 0;
+        for (GarbageCollectorMXBean bean : GC) {
+            res += Math.max(0, bean.getCollectionTime());
+        }
+        return res;
+    }
+
+    /**
+     * @return total count of classes loaded since JVM start
+     */
+    static long loadedClasses() {
+        return CLASSES.getTotalLoadedClassCount();
+    }
+
+    /**
+     * @return bound {@code getThreadAllocatedBytes(long)} method handle or null if not supported
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+    private static MethodHandle allocationBean() {
+        try {
+            final Class<?> type = Class.forName(ALLOCATION_BEAN);
+            if (!type.isInstance(THREADS)) {
+                return null;
+            }
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final boolean supported = (boolean) lookup.findVirtual(type, "isThreadAllocatedMemorySupported",
+                    MethodType.methodType(boolean.class)).invoke(THREADS)
+                    && (boolean) lookup.findVirtual(type, "isThreadAllocatedMemoryEnabled",
+                    MethodType.methodType(boolean.class)).invoke(THREADS);
+            return supported ? lookup.findVirtual(type, "getThreadAllocatedBytes",
+                    MethodType.methodType(long.class, long.class)).bindTo(THREADS) : null;
+        } catch (Throwable ex) {
+            // class not available or not accessible (LinkageError included)
+            return null;
+        }
+    }
+}
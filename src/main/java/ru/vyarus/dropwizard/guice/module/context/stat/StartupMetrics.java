@@ -0,0 +1,81 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.inject.Injector;
+import ru.vyarus.dropwizard.guice.module.context.ConfigItem;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.ConfigurationInfo;
+import ru.vyarus.dropwizard.guice.module.context.Filters;
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes guicey startup stats into dropwizard metrics registry (to track cold start regressions and compare
+ * nodes on dashboards):
+ * <ul>
+ * <li>{@code guicey.stat.<Stat>} - all stats: timers in milliseconds and counters as is</li>
+ * <li>{@code guicey.installers} - enabled installers count</li>
+ * <li>{@code guicey.extensions} - installed extensions count</li>
+ * <li>{@code guicey.installer.<installer>.extensions} - extensions count by installer</li>
+ * <li>{@code guicey.modules} - registered (enabled) guice modules count</li>
+ * <li>{@code guicey.bindings} - injector bindings count (counted once, on first read)</li>
+ * </ul>
+ * Stat gauges are computed on read, so HK2 part (executed after guice bundle) is also reflected.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class StartupMetrics {
+
+    /**
+     * Metrics prefix.
+     */
+    public static final String PREFIX = "guicey";
+
+    private StartupMetrics() {
+    }
+
+    /**
+     * Register guicey gauges. Must be called after injector creation.
+     *
+     * @param metrics  metrics registry
+     * @param context  configuration context
+     * @param injector injector
+     */
+    public static void register(final MetricRegistry metrics,
+                                final ConfigurationContext context,
+                                final Injector injector) {
+        final StatsInfo stats = new StatsInfo(context.stat());
+        for (Stat stat : Stat.values()) {
+            metrics.register(MetricRegistry.name(PREFIX, "stat", stat.name()),
+                    (Gauge<Long>) () -> stat.isTimer() ? stats.time(stat) : stats.count(stat));
+        }
+        // configuration can't change after injector creation
+        final ConfigurationInfo info = new ConfigurationInfo(context);
+        final List<Class<FeatureInstaller<?>>> installers = info.getItems(ConfigItem.Installer, Filters.enabled());
+        final int extensions = info.getItems(ConfigItem.Extension, Filters.enabled()).size();
+        final int modules = info.getItems(ConfigItem.Module, Filters.enabled()).size();
+        metrics.register(MetricRegistry.name(PREFIX, "installers"), (Gauge<Integer>) installers::size);
+        metrics.register(MetricRegistry.name(PREFIX, "extensions"), (Gauge<Integer>) () -> extensions);
+        // installers with the same simple name would be aggregated
+        final Map<String, Integer> byInstaller = new LinkedHashMap<>();
+        for (Class<FeatureInstaller<?>> installer : installers) {
+            byInstaller.merge(FeatureUtils.getInstallerExtName(installer),
+                    info.getItems(ConfigItem.Extension, Filters.installedBy(installer)).size(), Integer::sum);
+        }
+        byInstaller.forEach((name, count) -> metrics.register(
+                MetricRegistry.name(PREFIX, "installer", name, "extensions"), (Gauge<Integer>) () -> count));
+        metrics.register(MetricRegistry.name(PREFIX, "modules"), (Gauge<Integer>) () -> modules);
+        // bindings copy is created on each call, so count is resolved once (on first read to not affect
+        // startup with custom injectors)
+        final Supplier<Integer> bindings = Suppliers.memoize(() -> injector.getAllBindings().size());
+        metrics.register(MetricRegistry.name(PREFIX, "bindings"), (Gauge<Integer>) bindings::get);
+    }
+}
@@ -0,0 +1,197 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup timeline recorder. Records begin/end spans (with thread) for all stat timers, lifecycle events
+ * (and listeners), bundles, modules and installers. Disabled by default (spans are not recorded):
+ * enabled with {@link ru.vyarus.dropwizard.guice.GuiceyOptions#StartupTraceFile} option.
+ * <p>
+ * Recorded spans are written in Chrome trace-event format, which could be opened in Perfetto
+ * (https://ui.perfetto.dev) or chrome://tracing to see spans overlap, ordering and gaps.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class StartupTrace {
+
+    /**
+     * Stat timers category.
+     */
+    public static final String STAT = "stat";
+    /**
+     * Lifecycle events category.
+     */
+    public static final String LIFECYCLE = "lifecycle";
+    /**
+     * Lifecycle listeners category.
+     */
+    public static final String LISTENER = "listener";
+    /**
+     * Guicey bundles category.
+     */
+    public static final String BUNDLE = "bundle";
+    /**
+     * Guice modules category.
+     */
+    public static final String MODULE = "module";
+    /**
+     * Installers category.
+     */
+    public static final String INSTALLER = "installer";
+
+    private static final Span NO_SPAN = new Span(null, null, null);
+
+    private final Logger logger = LoggerFactory.getLogger(StartupTrace.class);
+
+    private final long start = System.nanoTime();
+    private final Queue<Event> events = new ConcurrentLinkedQueue<>();
+    private volatile boolean enabled;
+
+    /**
+     * Enable spans recording.
+     */
+    public void enable() {
+        enabled = true;
+    }
+
+    /**
+     * @return true if spans are recorded, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts new span. Span must be ended in the same thread. When trace is disabled, returned span does nothing.
+     *
+     * @param category span category
+     * @param name     span name
+     * @return started span
+     */
+    public Span begin(final String category, final String name) {
+        return enabled ? new Span(this, category, name) : NO_SPAN;
+    }
+
+    /**
+     * @return recorded spans count
+     */
+    public int size() {
+        return events.size();
+    }
+
+    /**
+     * Writes recorded spans in Chrome trace-event JSON format. Error is only logged (trace is diagnostic feature
+     * and must not affect application).
+     *
+     * @param file target file
+     */
+    public void write(final File file) {
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, toTraceEvents());
+            logger.info("Guicey startup trace ({} spans) written to {}", events.size(), file.getAbsolutePath());
+        } catch (IOException ex) {
+            logger.warn("Failed to write guicey startup trace to " + file.getAbsolutePath(), ex);
+        }
+    }
+
+    /**
+     * @return trace events object (ready for json serialization)
+     */
+    public Map<String, Object> toTraceEvents() {
+        final List<Map<String, Object>> res = new ArrayList<>();
+        final Map<Long, String> threads = new LinkedHashMap<>();
+        for (Event event : events) {
+            threads.putIfAbsent(event.threadId, event.threadName);
+            final Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", event.name);
+            item.put("cat", event.category);
+            item.put("ph", "X");
+            item.put("ts", toMicros(event.start - start));
+            item.put("dur", toMicros(event.end - event.start));
+            item.put("pid", 1);
+            item.put("tid", event.threadId);
+            res.add(item);
+        }
+        threads.forEach((id, name) -> {
+            final Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", "thread_name");
+            item.put("ph", "M");
+            item.put("pid", 1);
+            item.put("tid", id);
+            item.put("args", ImmutableMap.of("name", name));
+            res.add(item);
+        });
+        return ImmutableMap.of("traceEvents", res, "displayTimeUnit", "ms");
+    }
+
+    private static double toMicros(final long nanos) {
+        return nanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+    }
+
+    /**
+     * Started span.
+     */
+    public static final class Span {
+        private final StartupTrace trace;
+        private final String category;
+        private final String name;
+        private final long start;
+
+        private Span(final StartupTrace trace, final String category, final String name) {
+            this.trace = trace;
+            this.category = category;
+            this.name = name;
+            this.start = trace == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Ends span (span recorded only after end).
+         */
+        public void end() {
+            if (trace != null) {
+                final Thread thread = Thread.currentThread();
+                trace.events.add(new Event(category, name, start, System.nanoTime(),
+                        thread.getId(), thread.getName()));
+            }
+        }
+    }
+
+    /**
+     * Recorded span.
+     */
+    private static final class Event {
+        private final String category;
+        private final String name;
+        private final long start;
+        private final long end;
+        private final long threadId;
+        private final String threadName;
+
+        Event(final String category, final String name, final long start, final long end,
+              final long threadId, final String threadName) {
+            this.category = category;
+            this.name = name;
+            this.start = start;
+            this.end = end;
+            this.threadId = threadId;
+            this.threadName = threadName;
+        }
+    }
+}
@@ -27,6 +27,11 @@ public enum Stat {
      * Count of classes loaded during classpath scan.
      */
     ScanClassesCount(false),
+    /**
+     * Configuration introspection time ({@link ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree} build).
+     * Configuration tree is built once and then shared between bundles and guice configuration bindings.
+     */
+    ConfigTreeTime(true),
     /**
      * Bundles resolution and creation time.
      */
@@ -66,7 +71,13 @@ public enum Stat {
      * Time spent by {@link ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller} to install
      * jersey related features. Part of {@link #HKTime}.
      */
-    JerseyInstallerTime(true);
+    JerseyInstallerTime(true),
+    /**
+     * Time spent by guicey lifecycle listeners (all events processing). Listeners are called inside other
+     * phases, so this time is part of other timers. Time of each listener is also tracked
+     * (see {@link StatsInfo#getListeners()}).
+     */
+    ListenersTime(true);
 
     private boolean timer;
 
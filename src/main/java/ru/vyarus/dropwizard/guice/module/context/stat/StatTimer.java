@@ -0,0 +1,53 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Running stat timer (returned by {@link StatsTracker}). Timer must be stopped in the same thread (CPU time
+ * and allocations are measured for the current thread). Stopping timer also stops all outer timers, started with it
+ * (see {@link StatsTracker#timer(Stat, Stat...)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class StatTimer {
+
+    private final TimerStat stat;
+    private final StartupTrace.Span span;
+    private final Runnable release;
+    private final StatTimer outer;
+    private final Thread thread = Thread.currentThread();
+    private final long start = System.nanoTime();
+    private final long cpuStart = JvmCounters.cpuTime();
+    private final long allocatedStart = JvmCounters.allocatedBytes();
+    private boolean stopped;
+
+    StatTimer(final TimerStat stat, final Stat parent, final StartupTrace.Span span,
+              final Runnable release, final StatTimer outer) {
+        this.stat = stat;
+        this.span = span;
+        this.release = release;
+        this.outer = outer;
+        stat.start(start, parent);
+    }
+
+    /**
+     * Stop timer (measured time is summed with previous measurements of the same stat).
+     *
+     * @throws IllegalStateException if timer already stopped or stopped from different thread
+     */
+    public void stop() {
+        Preconditions.checkState(!stopped, "Timer is already stopped");
+        Preconditions.checkState(thread == Thread.currentThread(),
+                "Timer must be stopped in the same thread it was started (%s)", thread.getName());
+        final long now = System.nanoTime();
+        stat.stop(now, now - start, JvmCounters.cpuTime() - cpuStart,
+                JvmCounters.allocatedBytes() - allocatedStart);
+        stopped = true;
+        release.run();
+        span.end();
+        if (outer != null) {
+            outer.stop();
+        }
+    }
+}
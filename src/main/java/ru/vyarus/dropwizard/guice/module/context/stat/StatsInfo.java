@@ -1,8 +1,9 @@
 package ru.vyarus.dropwizard.guice.module.context.stat;
 
 import com.google.common.base.Preconditions;
-import com.google.common.base.Stopwatch;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -33,8 +34,35 @@ public final class StatsInfo {
      */
     public long time(final Stat name) {
         name.requiresTimer();
-        final Stopwatch stopwatch = tracker.getTimers().get(name);
-        return stopwatch == null ? 0 : stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        final TimerStat timer = tracker.getTimers().get(name);
+        return timer == null ? 0 : timer.getTime(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * For timers measured only in one thread, cpu time shows how much of stat time was actually spent
+     * on computation (and not on waiting io or locks).
+     *
+     * @param name statistic name
+     * @return CPU time consumed by measuring threads in milliseconds or 0 (if stat value is not available or
+     * JVM does not support thread CPU time measurement)
+     * @throws IllegalStateException if provided stat is not time stat
+     */
+    public long cpuTime(final Stat name) {
+        name.requiresTimer();
+        final TimerStat timer = tracker.getTimers().get(name);
+        return timer == null ? 0 : timer.getCpuTime(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Useful for repeated timers (e.g. installers time).
+     *
+     * @param name statistic name
+     * @return timer details or null if timer was never started
+     * @throws IllegalStateException if provided stat is not time stat
+     */
+    public TimerStat timer(final Stat name) {
+        name.requiresTimer();
+        return tracker.getTimers().get(name);
     }
 
     /**
@@ -47,8 +75,36 @@ public final class StatsInfo {
     public String humanTime(final Stat name) {
         name.requiresTimer();
         Preconditions.checkState(name.isTimer(), "Stat %s is not timer stat", name);
-        final Stopwatch stopwatch = tracker.getTimers().get(name);
-        return stopwatch == null ? "0" : stopwatch.toString();
+        final TimerStat timer = tracker.getTimers().get(name);
+        return timer == null ? "0" : timer.toString();
+    }
+
+    /**
+     * @return types of lifecycle listeners, notified during startup (in registration order)
+     * @see Stat#ListenersTime
+     */
+    public Set<Class<?>> getListeners() {
+        synchronized (tracker.getListenerTimers()) {
+            return new LinkedHashSet<>(tracker.getListenerTimers().keySet());
+        }
+    }
+
+    /**
+     * @param listener lifecycle listener type
+     * @return time spent by listener (all events) in milliseconds or 0 (if listener was never called)
+     */
+    public long listenerTime(final Class<?> listener) {
+        final TimerStat timer = tracker.getListenerTimers().get(listener);
+        return timer == null ? 0 : timer.getTime(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param listener lifecycle listener type
+     * @return human readable (formatted) listener time or 0 (if listener was never called)
+     */
+    public String humanListenerTime(final Class<?> listener) {
+        final TimerStat timer = tracker.getListenerTimers().get(listener);
+        return timer == null ? "0" : timer.toString();
     }
 
     /**
@@ -61,4 +117,55 @@ public final class StatsInfo {
         final Integer value = tracker.getCounters().get(name);
         return value == null ? 0 : value;
     }
+
+    /**
+     * @return custom stats, used by bundles or installers (in usage order)
+     * @see CustomStat
+     */
+    public Set<CustomStat> getCustomStats() {
+        synchronized (tracker.getCustomStats()) {
+            return new LinkedHashSet<>(tracker.getCustomStats().keySet());
+        }
+    }
+
+    /**
+     * @param name custom statistic
+     * @return collected time in milliseconds or 0 (is stat value is not available)
+     * @throws IllegalStateException if provided stat is not time stat
+     */
+    public long time(final CustomStat name) {
+        final TimerStat timer = timer(name);
+        return timer == null ? 0 : timer.getTime(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param name custom statistic
+     * @return human readable (formatted) timer value or 0 (if stat value is not available)
+     * @throws IllegalStateException if provided stat is not time stat
+     */
+    public String humanTime(final CustomStat name) {
+        final TimerStat timer = timer(name);
+        return timer == null ? "0" : timer.toString();
+    }
+
+    /**
+     * @param name custom statistic
+     * @return timer details or null if timer was never started
+     * @throws IllegalStateException if provided stat is not time stat
+     */
+    public TimerStat timer(final CustomStat name) {
+        name.requiresTimer();
+        return tracker.getCustomTimers().get(name);
+    }
+
+    /**
+     * @param name custom statistic
+     * @return stat value or 0 (if stat value is not available)
+     * @throws IllegalStateException if provided stat is not count stat
+     */
+    public int count(final CustomStat name) {
+        name.requiresCounter();
+        final Integer value = tracker.getCustomCounters().get(name);
+        return value == null ? 0 : value;
+    }
 }
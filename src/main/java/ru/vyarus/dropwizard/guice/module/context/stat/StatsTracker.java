@@ -1,38 +1,83 @@
 package ru.vyarus.dropwizard.guice.module.context.stat;
 
-import com.google.common.base.Stopwatch;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.GuiceyTime;
-import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.HKTime;
-
 /**
- * Internal object, used to record startup stats. Guava {#Stopwatch} used for time measurements
- * (also native stopwatch time formatting is used).
+ * Internal object, used to record startup stats. Thread safe: timers could be measured concurrently
+ * (wall-clock time is counted once for parallel measurements) and nested (parent timer is detected
+ * from timers, running in the current thread). Each timer also tracks CPU time, measurements count and
+ * min/max measurement duration (see {@link TimerStat}).
  * All metrics are cumulative (all measurements are summed).
+ * <p>
+ * Each timer measurement is also recorded as startup trace span (when trace enabled).
  *
  * @author Vyacheslav Rusakov
  * @since 27.07.2016
  */
 public final class StatsTracker {
-    private final Map<Stat, Stopwatch> timers = Maps.newEnumMap(Stat.class);
-    private final Map<Stat, Integer> counters = Maps.newEnumMap(Stat.class);
+    private final Map<Stat, TimerStat> timers = Collections.synchronizedMap(Maps.newEnumMap(Stat.class));
+    private final Map<Stat, Integer> counters = Collections.synchronizedMap(Maps.newEnumMap(Stat.class));
+    private final Map<Class<?>, TimerStat> listenerTimers = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<CustomStat, CustomStat> customStats = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<CustomStat, TimerStat> customTimers = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<CustomStat, Integer> customCounters = Collections.synchronizedMap(new LinkedHashMap<>());
+    // timers, running in current thread (to detect nesting)
+    private final ThreadLocal<Deque<Stat>> running = ThreadLocal.withInitial(ArrayDeque::new);
+    private final StartupTrace trace = new StartupTrace();
 
     /**
-     * If measured first time, returns new instance. For second and following measures returns the same instance
-     * (to sum measurements).
+     * Starts timer measurement (all measurements of the same stat are summed). Timer could be started while
+     * it's already running (in the same or other thread): time will not be counted twice.
+     * <p>
+     * When nested stats provided, all timers are started (each next inside previous) and returned timer is
+     * the most inner one: when stopped, it stops all timers in reverse order.
+     * For example, {@code timer(GuiceyTime, HKTime)} starts HK timer as part of overall guicey time.
      * Assumed proper usage: timer stat provided and returned watch correctly stopped.
      *
-     * @param name statistic name
+     * @param name   statistic name
+     * @param nested nested statistics names
+     * @return timer to measure time
+     */
+    public StatTimer timer(final Stat name, final Stat... nested) {
+        StatTimer res = startTimer(name, null);
+        for (Stat stat : nested) {
+            res = startTimer(stat, res);
+        }
+        return res;
+    }
+
+    /**
+     * Custom (third party) stat timer. All measurements of the same stat are summed.
+     *
+     * @param name custom statistic
      * @return timer to measure time
+     * @throws IllegalStateException if stat is not timer or other stat with the same name already used
+     */
+    public StatTimer timer(final CustomStat name) {
+        name.requiresTimer();
+        final TimerStat stat = customTimers.computeIfAbsent(register(name), k -> new TimerStat());
+        return new StatTimer(stat, running.get().peek(),
+                trace.begin(StartupTrace.STAT, name.getName()), () -> { }, null);
+    }
+
+    /**
+     * Lifecycle listener execution timer (all listener calls are summed). Assumed to be used together with
+     * {@link Stat#ListenersTime} timer.
+     *
+     * @param listener listener type
+     * @return timer to measure listener time
      */
-    public Stopwatch timer(final Stat name) {
-        final Stopwatch watch = timers.computeIfAbsent(name, k -> Stopwatch.createUnstarted());
-        // if watch was performed before then new time will sum with current
-        watch.start();
-        return watch;
+    public StatTimer listenerTimer(final Class<?> listener) {
+        final TimerStat stat = listenerTimers.computeIfAbsent(listener, k -> new TimerStat());
+        return new StatTimer(stat, running.get().peek(),
+                trace.begin(StartupTrace.LISTENER, listener.getName()), () -> { }, null);
     }
 
     /**
@@ -42,50 +87,87 @@ public final class StatsTracker {
      * @param count counter value
      */
     public void count(final Stat name, final int count) {
-        Integer value = counters.get(name);
-        value = value == null ? count : value + count;
-        counters.put(name, value);
+        counters.merge(name, count, Integer::sum);
     }
 
     /**
-     * Special methods for tracking time in HK2 scope.
-     * Such complication used to avoid using 3 different trackers in code.
-     * HK2 initialization is performed after bundles run and so out of scope of GuiceBundle.
+     * Inserts value for first call and sum values for consequent calls.
      *
-     * @param name HK2 statistics name
+     * @param name  custom statistic
+     * @param count counter value
+     * @throws IllegalStateException if stat is not counter or other stat with the same name already used
      */
-    public void startHkTimer(final Stat name) {
-        timer(GuiceyTime);
-        if (!HKTime.equals(name)) {
-            timer(HKTime);
-        }
-        timer(name);
+    public void count(final CustomStat name, final int count) {
+        name.requiresCounter();
+        customCounters.merge(register(name), count, Integer::sum);
     }
 
     /**
-     * Called to stop currently measured HK2 metric (also stops main guice and HK2 timers).
-     *
-     * @param name HK2 statistic name
+     * @return startup trace recorder
      */
-    public void stopHkTimer(final Stat name) {
-        timers.get(GuiceyTime).stop();
-        if (!HKTime.equals(name)) {
-            timers.get(HKTime).stop();
-        }
-        timers.get(name).stop();
+    public StartupTrace trace() {
+        return trace;
     }
 
     /**
      * @return collected timers map
      */
-    public Map<Stat, Stopwatch> getTimers() {
+    public Map<Stat, TimerStat> getTimers() {
         return timers;
     }
 
+    /**
+     * @return collected lifecycle listeners timers (in registration order)
+     */
+    public Map<Class<?>, TimerStat> getListenerTimers() {
+        return listenerTimers;
+    }
+
     /**
      * @return collected counters map
      */
     public Map<Stat, Integer> getCounters() {
         return counters;
     }
+
+    /**
+     * @return used custom stats (in usage order)
+     */
+    public Map<CustomStat, CustomStat> getCustomStats() {
+        return customStats;
+    }
+
+    /**
+     * @return collected custom timers
+     */
+    public Map<CustomStat, TimerStat> getCustomTimers() {
+        return customTimers;
+    }
+
+    /**
+     * @return collected custom counters
+     */
+    public Map<CustomStat, Integer> getCustomCounters() {
+        return customCounters;
+    }
+
+    private CustomStat register(final CustomStat stat) {
+        // parents registered first to preserve hierarchy order
+        if (stat.getParent() != null) {
+            register(stat.getParent());
+        }
+        final CustomStat registered = customStats.computeIfAbsent(stat, k -> stat);
+        Preconditions.checkState(registered.sameDefinition(stat),
+                "Custom stat '%s' is already used with different declaration", stat.getName());
+        return registered;
+    }
+
+    private StatTimer startTimer(final Stat name, final StatTimer outer) {
+        final TimerStat stat = timers.computeIfAbsent(name, k -> new TimerStat());
+        final Deque<Stat> stack = running.get();
+        final StatTimer timer = new StatTimer(stat, stack.peek(),
+                trace.begin(StartupTrace.STAT, name.name()), () -> stack.removeFirstOccurrence(name), outer);
+        stack.push(name);
+        return timer;
+    }
 }
@@ -0,0 +1,237 @@
+package ru.vyarus.dropwizard.guice.module.context.stat;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Thread safe timer statistic (all measurements of one timer). Timer could be measured concurrently (from
+ * different threads) and re-entrant (nested measurement of the same timer): main timer value is wall-clock
+ * time when at least one measurement was running, so parallel work is not double counted. Sum of all measurement
+ * durations, consumed CPU time and min/max measurement duration are also tracked.
+ * <p>
+ * JVM activity is also tracked: bytes allocated by measuring threads and process wide garbage collections and
+ * class loading (counted only for wall-clock time, so concurrent measurements are not counted twice).
+ * Note that process wide counters include activity of other threads, working at the same time.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class TimerStat {
+
+    private int running;
+    private long wallStart;
+    private long wall;
+    private long total;
+    private long cpu;
+    private int count;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private Stat parent;
+    private long allocated;
+    private long gcCount;
+    private long gcTime;
+    private long classes;
+    private long gcCountStart;
+    private long gcTimeStart;
+    private long classesStart;
+
+    /**
+     * @param unit target unit
+     * @return wall-clock time when timer was running (including currently running measurement)
+     */
+    public synchronized long getTime(final TimeUnit unit) {
+        return unit.convert(wall + (running > 0 ? System.nanoTime() - wallStart : 0), NANOSECONDS);
+    }
+
+    /**
+     * Differs from {@link #getTime(TimeUnit)} only for concurrent or nested measurements.
+     *
+     * @param unit target unit
+     * @return sum of all completed measurements durations
+     */
+    public synchronized long getTotalTime(final TimeUnit unit) {
+        return unit.convert(total, NANOSECONDS);
+    }
+
+    /**
+     * May be 0 if JVM does not support thread CPU time measurement.
+     *
+     * @param unit target unit
+     * @return CPU time consumed by measuring threads (sum of all completed measurements)
+     */
+    public synchronized long getCpuTime(final TimeUnit unit) {
+        return unit.convert(cpu, NANOSECONDS);
+    }
+
+    /**
+     * @param unit target unit
+     * @return shortest completed measurement duration or 0 if no measurements completed
+     */
+    public synchronized long getMinTime(final TimeUnit unit) {
+        return count == 0 ? 0 : unit.convert(min, NANOSECONDS);
+    }
+
+    /**
+     * @param unit target unit
+     * @return longest completed measurement duration
+     */
+    public synchronized long getMaxTime(final TimeUnit unit) {
+        return unit.convert(max, NANOSECONDS);
+    }
+
+    /**
+     * May be 0 if JVM does not support thread allocation measurement. Note that nested (re-entrant) measurements
+     * of the same timer are counted twice.
+     *
+     * @return bytes allocated by measuring threads (sum of all completed measurements)
+     */
+    public synchronized long getAllocatedBytes() {
+        return allocated;
+    }
+
+    /**
+     * @return garbage collections count (all collectors) during timer wall-clock time
+     */
+    public synchronized long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * @param unit target unit
+     * @return garbage collections time (all collectors) during timer wall-clock time
+     */
+    public synchronized long getGcTime(final TimeUnit unit) {
+        return unit.convert(gcTime, MILLISECONDS);
+    }
+
+    /**
+     * @return count of classes loaded during timer wall-clock time
+     */
+    public synchronized long getLoadedClasses() {
+        return classes;
+    }
+
+    /**
+     * @return completed measurements count
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * @return true if timer is currently measured (at least one measurement not stopped)
+     */
+    public synchronized boolean isRunning() {
+        return running > 0;
+    }
+
+    /**
+     * Parent is the nearest timer, running in the same thread, when this timer was started for the first time.
+     *
+     * @return parent stat or null if timer was started outside of other timers
+     */
+    public synchronized Stat getParent() {
+        return parent;
+    }
+
+    /**
+     * @return human readable wall-clock time (in the best suited units)
+     */
+    @Override
+    public String toString() {
+        return format(getTime(NANOSECONDS));
+    }
+
+    /**
+     * Formats nanoseconds the same way as guava {@code Stopwatch#toString()}.
+     *
+     * @param nanos time in nanoseconds
+     * @return time in the best suited units
+     */
+    public static String format(final long nanos) {
+        final TimeUnit unit = chooseUnit(nanos);
+        final double value = (double) nanos / NANOSECONDS.convert(1, unit);
+        return String.format(Locale.ROOT, "%.4g", value) + " " + abbreviate(unit);
+    }
+
+    synchronized void start(final long now, final Stat parent) {
+        if (running++ == 0) {
+            wallStart = now;
+            gcCountStart = JvmCounters.gcCount();
+            gcTimeStart = JvmCounters.gcTime();
+            classesStart = JvmCounters.loadedClasses();
+            // first measurement
+            if (count == 0) {
+                this.parent = parent;
+            }
+        }
+    }
+
+    synchronized void stop(final long now, final long duration, final long cpuTime, final long allocatedBytes) {
+        if (--running == 0) {
+            wall += now - wallStart;
+            gcCount += JvmCounters.gcCount() - gcCountStart;
+            gcTime += JvmCounters.gcTime() - gcTimeStart;
+            classes += JvmCounters.loadedClasses() - classesStart;
+        }
+        count++;
+        total += duration;
+        cpu += cpuTime;
+        allocated += allocatedBytes;
+        min = Math.min(min, duration);
+        max = Math.max(max, duration);
+    }
+
+    @SuppressWarnings("checkstyle:ReturnCount")
+    private static TimeUnit chooseUnit(final long nanos) {
+        if (DAYS.convert(nanos, NANOSECONDS) > 0) {
+            return DAYS;
+        }
+        if (HOURS.convert(nanos, NANOSECONDS) > 0) {
+            return HOURS;
+        }
+        if (MINUTES.convert(nanos, NANOSECONDS) > 0) {
+            return MINUTES;
+        }
+        if (SECONDS.convert(nanos, NANOSECONDS) > 0) {
+            return SECONDS;
+        }
+        if (MILLISECONDS.convert(nanos, NANOSECONDS) > 0) {
+            return MILLISECONDS;
+        }
+        if (MICROSECONDS.convert(nanos, NANOSECONDS) > 0) {
+            return MICROSECONDS;
+        }
+        return NANOSECONDS;
+    }
+
+    @SuppressWarnings("checkstyle:CyclomaticComplexity")
+    private static String abbreviate(final TimeUnit unit) {
+        switch (unit) {
+            case NANOSECONDS:
+                return "ns";
+            case MICROSECONDS:
+                return "\u03bcs";
+            case MILLISECONDS:
+                return "ms";
+            case SECONDS:
+                return "s";
+            case MINUTES:
+                return "min";
+            case HOURS:
+                return "h";
+            case DAYS:
+                return "d";
+            default:
+                throw new AssertionError();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package ru.vyarus.dropwizard.guice.module.installer;
 
-import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 import com.google.inject.AbstractModule;
 import org.slf4j.Logger;
@@ -9,12 +8,15 @@ import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.info.ExtensionItemInfo;
 import ru.vyarus.dropwizard.guice.module.context.info.impl.ExtensionItemInfoImpl;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
+import ru.vyarus.dropwizard.guice.module.context.stat.CustomStats;
 import ru.vyarus.dropwizard.guice.module.context.stat.Stat;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.LazyBinding;
 import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
 import ru.vyarus.dropwizard.guice.module.installer.internal.FeatureInstallerExecutor;
 import ru.vyarus.dropwizard.guice.module.installer.option.WithOptions;
+import ru.vyarus.dropwizard.guice.module.installer.option.WithStats;
 import ru.vyarus.dropwizard.guice.module.installer.order.OrderComparator;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassVisitor;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
@@ -60,7 +62,7 @@ public class InstallerModule extends AbstractModule {
         // called just after injector creation to process instance installers
         bind(FeatureInstallerExecutor.class).asEagerSingleton();
 
-        final Stopwatch timer = context.stat().timer(InstallersTime);
+        final StatTimer timer = context.stat().timer(InstallersTime);
         final List<Class<? extends FeatureInstaller>> installerClasses = findInstallers();
         final List<FeatureInstaller> installers = prepareInstallers(installerClasses);
         context.lifecycle().installersResolved(new ArrayList<>(installers), context.getDisabledInstallers());
@@ -112,6 +114,7 @@ public class InstallerModule extends AbstractModule {
         final List<FeatureInstaller> installers = Lists.newArrayList();
         // different instance then used in guice context, but it's just an accessor object
         final Options options = new Options(context.options());
+        final CustomStats stats = new CustomStats(context.stat());
         for (Class<? extends FeatureInstaller> installerClass : installerClasses) {
             try {
                 final FeatureInstaller installer = installerClass.newInstance();
@@ -119,6 +122,9 @@ public class InstallerModule extends AbstractModule {
                 if (WithOptions.class.isAssignableFrom(installerClass)) {
                     ((WithOptions) installer).setOptions(options);
                 }
+                if (WithStats.class.isAssignableFrom(installerClass)) {
+                    ((WithStats) installer).setStats(stats);
+                }
             } catch (Exception e) {
                 throw new IllegalStateException("Failed to register installer " + installerClass.getName(), e);
             }
@@ -133,7 +139,7 @@ public class InstallerModule extends AbstractModule {
      */
     @SuppressWarnings("PMD.PrematureDeclaration")
     private void resolveExtensions(final ExtensionsHolder holder) {
-        final Stopwatch timer = context.stat().timer(Stat.ExtensionsRecognitionTime);
+        final StatTimer timer = context.stat().timer(Stat.ExtensionsRecognitionTime);
         final boolean guiceFirstMode = context.option(JerseyExtensionsManagedByGuice);
         final List<Class<?>> manual = context.getEnabledExtensions();
         for (Class<?> type : manual) {
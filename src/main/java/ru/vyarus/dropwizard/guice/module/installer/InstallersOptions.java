@@ -1,5 +1,6 @@
 package ru.vyarus.dropwizard.guice.module.installer;
 
+import io.dropwizard.util.Duration;
 import ru.vyarus.dropwizard.guice.module.context.option.Option;
 
 /**
@@ -65,7 +66,41 @@ public enum InstallersOptions implements Option {
      * When switched off, extension scope will be driven only by scope annotation. Note that by default
      * guice and HK2 use prototype scope (for example, for resources it means new instance for each request).
      */
-    ForceSingletonForJerseyExtensions(Boolean.class, true);
+    ForceSingletonForJerseyExtensions(Boolean.class, true),
+    /**
+     * Affects {@link ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller} and
+     * {@link ru.vyarus.dropwizard.guice.module.installer.feature.LifeCycleInstaller}. By default, each extension
+     * is registered in dropwizard lifecycle and so started (and stopped) serially. When enabled, extensions are
+     * registered into single composite lifecycle
+     * ({@link ru.vyarus.dropwizard.guice.module.installer.feature.lifecycle.ParallelLifecycleSupport}): extensions with
+     * the same {@link ru.vyarus.dropwizard.guice.module.installer.order.Order} value are started (and stopped)
+     * concurrently.
+     *
+     * @see #LifecycleThreads
+     * @see #LifecycleTimeout
+     */
+    ParallelLifecycle(Boolean.class, false),
+    /**
+     * Threads count used for concurrent extensions start and stop (when {@link #ParallelLifecycle} enabled).
+     */
+    LifecycleThreads(Integer.class, 4),
+    /**
+     * Maximum time of each extension start or stop (when {@link #ParallelLifecycle} enabled), counted from
+     * the extension's own start (time waiting for free thread is not counted). Start fails when timeout exceeded.
+     */
+    LifecycleTimeout(Duration.class, Duration.minutes(1)),
+    /**
+     * Affects {@link ru.vyarus.dropwizard.guice.module.installer.feature.health.HealthCheckInstaller}.
+     * Threads count of shared executor, used for execution of health checks, annotated with
+     * {@link ru.vyarus.dropwizard.guice.module.installer.feature.health.ScheduledHealthCheck}.
+     */
+    HealthCheckThreads(Integer.class, 2),
+    /**
+     * Affects {@link ru.vyarus.dropwizard.guice.module.installer.feature.TaskInstaller}.
+     * Threads count of shared executor, used for execution of tasks, annotated with
+     * {@link ru.vyarus.dropwizard.guice.module.installer.feature.task.AsyncTask}.
+     */
+    AsyncTaskThreads(Integer.class, 2);
 
     private Class<?> type;
     private Object value;
@@ -8,6 +8,7 @@ import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.option.Option;
+import ru.vyarus.dropwizard.guice.module.context.stat.CustomStats;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleListener;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
@@ -194,6 +195,17 @@ public class GuiceyBootstrap {
         return context.option(option);
     }
 
+    /**
+     * Custom stats are shown in startup report in the same tree as guicey stats. Use it to measure bundle
+     * specific operations (e.g. database migration or cache preloading).
+     *
+     * @return custom stats recorder
+     * @see ru.vyarus.dropwizard.guice.module.context.stat.CustomStat
+     */
+    public CustomStats stats() {
+        return new CustomStats(context.stat());
+    }
+
     /**
      * Register guice modules. All registered modules must be of unique type (duplicate instances of the
      * same type are filtered).
@@ -1,23 +1,33 @@
 package ru.vyarus.dropwizard.guice.module.installer.feature;
 
 import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
 import org.eclipse.jetty.util.component.LifeCycle;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.feature.lifecycle.ParallelLifecycleSupport;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.LifecycleThreads;
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.LifecycleTimeout;
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.ParallelLifecycle;
+
 /**
  * Lifecycle objects installer.
  * Looks for classes implementing {@code org.eclipse.jetty.util.component.LifeCycle} and register them in environment.
+ * <p>
+ * When {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#ParallelLifecycle} enabled,
+ * extensions are registered into composite lifecycle and started concurrently (within the same order).
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
  */
 @Order(10)
-public class LifeCycleInstaller implements
+public class LifeCycleInstaller extends InstallerOptionsSupport implements
         FeatureInstaller<LifeCycle>, InstanceInstaller<LifeCycle>, Ordered {
 
     private final Reporter reporter = new Reporter(LifeCycleInstaller.class, "life cycles =");
@@ -30,7 +40,14 @@ public class LifeCycleInstaller implements
     @Override
     public void install(final Environment environment, final LifeCycle instance) {
         reporter.line("(%s)", FeatureUtils.getInstanceClass(instance).getName());
-        environment.lifecycle().manage(instance);
+        if (option(ParallelLifecycle)) {
+            final Integer threads = option(LifecycleThreads);
+            final Duration timeout = option(LifecycleTimeout);
+            ParallelLifecycleSupport.lookup(environment.lifecycle(), threads, timeout)
+                    .manage(LifeCycleInstaller.class, instance);
+        } else {
+            environment.lifecycle().manage(instance);
+        }
     }
 
     @Override
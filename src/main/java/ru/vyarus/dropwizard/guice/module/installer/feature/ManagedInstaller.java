@@ -2,22 +2,32 @@ package ru.vyarus.dropwizard.guice.module.installer.feature;
 
 import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.feature.lifecycle.ParallelLifecycleSupport;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.order.Ordered;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.LifecycleThreads;
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.LifecycleTimeout;
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.ParallelLifecycle;
+
 /**
  * Managed objects installer.
  * Looks for classes implementing {@code io.dropwizard.lifecycle.Managed} and register them in environment.
+ * <p>
+ * When {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#ParallelLifecycle} enabled,
+ * extensions are registered into composite lifecycle and started concurrently (within the same order).
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
  */
 @Order(20)
-public class ManagedInstaller implements
+public class ManagedInstaller extends InstallerOptionsSupport implements
         FeatureInstaller<Managed>, InstanceInstaller<Managed>, Ordered {
 
     private final Reporter reporter = new Reporter(ManagedInstaller.class, "managed =");
@@ -30,7 +40,14 @@ public class ManagedInstaller implements
     @Override
     public void install(final Environment environment, final Managed instance) {
         reporter.line("(%s)", FeatureUtils.getInstanceClass(instance).getName());
-        environment.lifecycle().manage(instance);
+        if (option(ParallelLifecycle)) {
+            final Integer threads = option(LifecycleThreads);
+            final Duration timeout = option(LifecycleTimeout);
+            ParallelLifecycleSupport.lookup(environment.lifecycle(), threads, timeout)
+                    .manage(ManagedInstaller.class, instance);
+        } else {
+            environment.lifecycle().manage(instance);
+        }
     }
 
     @Override
@@ -3,19 +3,31 @@ package ru.vyarus.dropwizard.guice.module.installer.feature;
 import io.dropwizard.servlets.tasks.Task;
 import io.dropwizard.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.feature.task.AsyncTask;
+import ru.vyarus.dropwizard.guice.module.installer.feature.task.AsyncTaskWrapper;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 
+import java.util.concurrent.ExecutorService;
+
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.AsyncTaskThreads;
+
 /**
  * Dropwizard tasks installer.
  * Looks for classes extending {@code io.dropwizard.servlets.tasks.Task} and register in environment.
+ * <p>
+ * Tasks annotated with {@link AsyncTask} are registered as {@link AsyncTaskWrapper} (executed in background).
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
  */
 @Order(70)
-public class TaskInstaller implements FeatureInstaller<Task>, InstanceInstaller<Task> {
+public class TaskInstaller extends InstallerOptionsSupport implements FeatureInstaller<Task>,
+        InstanceInstaller<Task> {
+
+    private ExecutorService executor;
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -24,11 +36,23 @@ public class TaskInstaller implements FeatureInstaller<Task>, InstanceInstaller<
 
     @Override
     public void install(final Environment environment, final Task instance) {
-        environment.admin().addTask(instance);
+        final Class<?> type = FeatureUtils.getInstanceClass(instance);
+        environment.admin().addTask(FeatureUtils.hasAnnotation(type, AsyncTask.class)
+                ? new AsyncTaskWrapper(instance, getExecutor(environment), environment.metrics()) : instance);
     }
 
     @Override
     public void report() {
         // dropwizard logs installed tasks
     }
+
+    private ExecutorService getExecutor(final Environment environment) {
+        if (executor == null) {
+            final Integer threads = option(AsyncTaskThreads);
+            // executor is shut down by dropwizard
+            executor = environment.lifecycle().executorService("guicey-task-%d")
+                    .minThreads(threads).maxThreads(threads).build();
+        }
+        return executor;
+    }
 }
@@ -0,0 +1,124 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.health;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Health check, returning the last result of scheduled {@link NamedHealthCheck} execution (see
+ * {@link ScheduledHealthCheck}). Registered in dropwizard instead of actual health check. Executions are
+ * performed by {@link HealthCheckScheduler}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class CachedHealthCheck extends HealthCheck {
+
+    private final NamedHealthCheck check;
+    private final long period;
+    private final long timeout;
+    private final long staleness;
+
+    private volatile Result result;
+    private volatile long resultTime;
+    private volatile Future<?> running;
+
+    /**
+     * @param check     actual health check
+     * @param period    executions period in milliseconds
+     * @param timeout   execution timeout in milliseconds
+     * @param staleness maximum result age in milliseconds
+     */
+    public CachedHealthCheck(final NamedHealthCheck check, final long period,
+                             final long timeout, final long staleness) {
+        Preconditions.checkArgument(period > 0, "Health check %s period must be positive", check.getName());
+        this.check = check;
+        this.period = period;
+        this.timeout = timeout;
+        this.staleness = staleness;
+    }
+
+    /**
+     * @param check actual health check
+     * @param config schedule configuration
+     * @return cached health check
+     */
+    public static CachedHealthCheck create(final NamedHealthCheck check, final ScheduledHealthCheck config) {
+        final long period = config.unit().toMillis(config.period());
+        final long timeout = config.timeout() > 0 ? config.unit().toMillis(config.timeout()) : period;
+        final long staleness = config.staleness() > 0 ? config.unit().toMillis(config.staleness()) : period * 3;
+        return new CachedHealthCheck(check, period, timeout, staleness);
+    }
+
+    /**
+     * @return actual health check
+     */
+    public NamedHealthCheck getCheck() {
+        return check;
+    }
+
+    /**
+     * @return executions period in milliseconds
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    @Override
+    protected Result check() throws Exception {
+        final Result res = result;
+        if (res == null) {
+            return Result.unhealthy("Health check was not executed yet");
+        }
+        final long age = System.currentTimeMillis() - resultTime;
+        if (age > staleness) {
+            return Result.builder().unhealthy()
+                    .withMessage("Last health check result is stale: executed %s ms ago (max %s ms)", age, staleness)
+                    .withDetail("staleResult", res.isHealthy() ? "healthy" : "unhealthy")
+                    .build();
+        }
+        return res;
+    }
+
+    /**
+     * Executes actual health check (if previous execution is already finished). Execution is cancelled
+     * (interrupted) after timeout. Only the first outcome of each execution is stored: late health check result
+     * (e.g. when check ignores interruption) can't override timeout result.
+     *
+     * @param workers   executor to run health check on
+     * @param scheduler scheduler for timeout tracking
+     * @return started execution future or still running previous execution future
+     */
+    public Future<?> refresh(final ExecutorService workers, final ScheduledExecutorService scheduler) {
+        final Future<?> previous = running;
+        if (previous != null && !previous.isDone()) {
+            // timeout watchdog will cancel it
+            return previous;
+        }
+        final AtomicBoolean completed = new AtomicBoolean();
+        final Future<?> future = workers.submit(() -> {
+            final Result res = check.execute();
+            if (completed.compareAndSet(false, true)) {
+                update(res);
+            }
+        });
+        running = future;
+        scheduler.schedule(() -> {
+            if (completed.compareAndSet(false, true)) {
+                future.cancel(true);
+                update(Result.unhealthy("Health check timed out after %s ms", timeout));
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private void update(final Result result) {
+        this.result = result;
+        this.resultTime = System.currentTimeMillis();
+    }
+}
@@ -3,24 +3,33 @@ package ru.vyarus.dropwizard.guice.module.installer.feature.health;
 import io.dropwizard.setup.Environment;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport;
 import ru.vyarus.dropwizard.guice.module.installer.order.Order;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 
+import java.util.Locale;
+
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.HealthCheckThreads;
+
 /**
  * Health check installer.
  * Looks for classes extending
  * {@code ru.vyarus.dropwizard.guice.module.installer.installer.health.NamedHealthCheck} and register in
  * environment.
+ * <p>
+ * Health checks annotated with {@link ScheduledHealthCheck} are executed in background and registered
+ * as {@link CachedHealthCheck} (returning the last execution result).
  *
  * @author Vyacheslav Rusakov
  * @since 01.09.2014
  */
 @Order(60)
-public class HealthCheckInstaller implements FeatureInstaller<NamedHealthCheck>,
+public class HealthCheckInstaller extends InstallerOptionsSupport implements FeatureInstaller<NamedHealthCheck>,
         InstanceInstaller<NamedHealthCheck> {
 
     private final Reporter reporter = new Reporter(HealthCheckInstaller.class, "health checks =");
+    private HealthCheckScheduler scheduler;
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -29,12 +38,30 @@ public class HealthCheckInstaller implements FeatureInstaller<NamedHealthCheck>,
 
     @Override
     public void install(final Environment environment, final NamedHealthCheck instance) {
-        environment.healthChecks().register(instance.getName(), instance);
-        reporter.line("%-10s (%s)", instance.getName(), FeatureUtils.getInstanceClass(instance).getName());
+        final Class<?> type = FeatureUtils.getInstanceClass(instance);
+        final ScheduledHealthCheck schedule = FeatureUtils.getAnnotation(type, ScheduledHealthCheck.class);
+        if (schedule == null) {
+            environment.healthChecks().register(instance.getName(), instance);
+            reporter.line("%-10s (%s)", instance.getName(), type.getName());
+        } else {
+            final CachedHealthCheck check = CachedHealthCheck.create(instance, schedule);
+            getScheduler(environment).schedule(check);
+            environment.healthChecks().register(instance.getName(), check);
+            reporter.line("%-10s (%s) scheduled every %s %s", instance.getName(), type.getName(),
+                    schedule.period(), schedule.unit().name().toLowerCase(Locale.ENGLISH));
+        }
     }
 
     @Override
     public void report() {
         reporter.report();
     }
+
+    private HealthCheckScheduler getScheduler(final Environment environment) {
+        if (scheduler == null) {
+            final Integer threads = option(HealthCheckThreads);
+            scheduler = new HealthCheckScheduler(environment.lifecycle(), threads);
+        }
+        return scheduler;
+    }
 }
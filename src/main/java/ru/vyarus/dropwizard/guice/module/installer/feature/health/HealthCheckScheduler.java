@@ -0,0 +1,53 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.health;
+
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes {@link CachedHealthCheck}s on schedule. Scheduler thread only triggers checks execution (and tracks
+ * timeouts): checks are executed on shared bounded pool. Both executors are managed by dropwizard lifecycle.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class HealthCheckScheduler implements Managed {
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+    private final List<CachedHealthCheck> checks = new ArrayList<>();
+
+    public HealthCheckScheduler(final LifecycleEnvironment lifecycle, final int threads) {
+        this.scheduler = lifecycle.scheduledExecutorService("guicey-healthcheck-scheduler", true)
+                .threads(1).build();
+        this.workers = lifecycle.executorService("guicey-healthcheck-%d")
+                .minThreads(threads).maxThreads(threads).build();
+        // must be started after executors
+        lifecycle.manage(this);
+    }
+
+    /**
+     * @param check health check to schedule
+     */
+    public void schedule(final CachedHealthCheck check) {
+        checks.add(check);
+    }
+
+    @Override
+    public void start() throws Exception {
+        for (CachedHealthCheck check : checks) {
+            scheduler.scheduleWithFixedDelay(() -> check.refresh(workers, scheduler),
+                    0, check.getPeriod(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        // executors are shut down by dropwizard
+    }
+}
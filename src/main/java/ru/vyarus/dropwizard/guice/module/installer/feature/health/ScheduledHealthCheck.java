@@ -0,0 +1,49 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.health;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks {@link NamedHealthCheck} to be executed in background on schedule (instead of execution on each
+ * health check request). Registered health check always returns the last result (cached), so frequent
+ * health check requests (e.g. from load balancer) will not call check resources (e.g. database).
+ * <p>
+ * All scheduled checks use shared executor
+ * (see {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#HealthCheckThreads}) and so executed
+ * in parallel. Check execution is limited by timeout (check is interrupted and unhealthy result stored).
+ * When last result is too old (e.g. because executor is overloaded) unhealthy result is returned.
+ * <p>
+ * Checks are started with dropwizard lifecycle (first execution just after application startup). Before first
+ * execution, unhealthy result is returned.
+ *
+ * @author Vyacheslav Rusakov
+ * @see CachedHealthCheck
+ * @since 19.10.2018
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ScheduledHealthCheck {
+
+    /**
+     * @return delay between check executions
+     */
+    int period() default 10;
+
+    /**
+     * @return maximum check execution time (by default, equal to period)
+     */
+    int timeout() default 0;
+
+    /**
+     * @return maximum age of check result (by default, three periods)
+     */
+    int staleness() default 0;
+
+    /**
+     * @return time unit for period, timeout and staleness
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
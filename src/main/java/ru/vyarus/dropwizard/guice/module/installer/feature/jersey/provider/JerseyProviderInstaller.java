@@ -8,6 +8,7 @@ import org.glassfish.hk2.api.Factory;
 import org.glassfish.hk2.api.InjectionResolver;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
 import org.glassfish.jersey.server.spi.internal.ValueFactoryProvider;
 import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.AbstractJerseyInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
@@ -19,6 +20,11 @@ import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.container.DynamicFeature;
 import javax.ws.rs.ext.*;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils.is;
@@ -38,6 +44,10 @@ import static ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding.*;
  * See {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#ForceSingletonForJerseyExtensions}.
  * {@link ru.vyarus.dropwizard.guice.module.support.scope.Prototype} annotation may be used on guice beans
  * to declare bean in prototype scope (prevent forced singleton).
+ * <p>
+ * Provider contracts (implemented extension interfaces with resolved generics) are resolved once, during
+ * extension recognition (guice bindings registration), and cached per class so HK2 context configuration
+ * only registers ready descriptors.
  *
  * @author Vyacheslav Rusakov
  * @see ru.vyarus.dropwizard.guice.module.installer.feature.jersey.HK2Managed
@@ -62,10 +72,13 @@ public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> imp
             DynamicFeature.class,
             ValueFactoryProvider.class,
             InjectionResolver.class,
-            ApplicationEventListener.class
+            ApplicationEventListener.class,
+            ResourceMethodInvocationHandlerProvider.class
     );
 
     private final ProviderReporter reporter = new ProviderReporter();
+    // provider type -> (extension type -> binding type)
+    private final Map<Class<?>, Map<Class<?>, Type>> contracts = new HashMap<>();
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -80,6 +93,8 @@ public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> imp
         if (!hkManaged && !lazy) {
             bindInGuice(binder, type);
         }
+        // resolve contracts in advance to avoid reflection inside HK2 context configuration
+        contracts.put(type, resolveContracts(type));
         reporter.provider(type, hkManaged, lazy);
     }
 
@@ -88,22 +103,20 @@ public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> imp
     public void install(final AbstractBinder binder, final Injector injector, final Class<Object> type) {
         final boolean hkExtension = isHkExtension(type);
         final boolean forceSingleton = isForceSingleton(type, hkExtension);
+        final Map<Class<?>, Type> extensions = contracts.computeIfAbsent(type, this::resolveContracts);
         if (is(type, Factory.class)) {
             // register factory directly (without wrapping)
-            bindFactory(binder, injector, type, hkExtension, forceSingleton);
+            bindFactory(binder, injector, type, (Class) extensions.get(Factory.class), hkExtension, forceSingleton);
 
-        } else {
+        } else if (!extensions.isEmpty()) {
             // support multiple extension interfaces on one type
-            final Set<Class<?>> extensions = Sets.intersection(EXTENSION_TYPES,
-                    GenericsResolver.resolve(type).getGenericsInfo().getComposingTypes());
-            if (!extensions.isEmpty()) {
-                for (Class<?> ext : extensions) {
-                    bindSpecificComponent(binder, injector, type, ext, hkExtension, forceSingleton);
-                }
-            } else {
-                // no known extension found
-                bindComponent(binder, injector, type, hkExtension, forceSingleton);
+            for (Map.Entry<Class<?>, Type> ext : extensions.entrySet()) {
+                bindSpecificComponent(binder, injector, type, ext.getKey(), ext.getValue(),
+                        hkExtension, forceSingleton);
             }
+        } else {
+            // no known extension found
+            bindComponent(binder, injector, type, hkExtension, forceSingleton);
         }
     }
 
@@ -111,4 +124,24 @@ public class JerseyProviderInstaller extends AbstractJerseyInstaller<Object> imp
     public void report() {
         reporter.report();
     }
+
+    /**
+     * Resolve provider contracts: for factory it is provided type (stored under {@link Factory} key) and
+     * for other providers all recognized extension types with resolved generics.
+     *
+     * @param type provider type
+     * @return extension type to binding type map (empty if no known extension types implemented)
+     */
+    private Map<Class<?>, Type> resolveContracts(final Class<?> type) {
+        if (is(type, Factory.class)) {
+            return Collections.singletonMap(Factory.class, resolveFactoryType(type));
+        }
+        final Set<Class<?>> extensions = Sets.intersection(EXTENSION_TYPES,
+                GenericsResolver.resolve(type).getGenericsInfo().getComposingTypes());
+        final Map<Class<?>, Type> res = new LinkedHashMap<>();
+        for (Class<?> ext : extensions) {
+            res.put(ext, resolveBindingType(type, ext));
+        }
+        return res;
+    }
 }
@@ -6,6 +6,7 @@ import com.google.common.collect.Multimap;
 import org.glassfish.hk2.api.Factory;
 import org.glassfish.hk2.api.InjectionResolver;
 import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
 import org.glassfish.jersey.server.spi.internal.ValueFactoryProvider;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
@@ -46,6 +47,8 @@ public class ProviderReporter extends Reporter {
             .put(ValueFactoryProvider.class, new ExtDescriptor("Value factory providers", SIMPLE_FORMAT, 0))
             .put(InjectionResolver.class, new ExtDescriptor("Injection resolvers", INJECTION_FORMAT, 1))
             .put(ApplicationEventListener.class, new ExtDescriptor("Application event listeners", SIMPLE_FORMAT, 0))
+            .put(ResourceMethodInvocationHandlerProvider.class,
+                    new ExtDescriptor("Resource method invocation handler providers", SIMPLE_FORMAT, 0))
             .build();
 
     private final Multimap<Class, String> prerender = HashMultimap.create();
@@ -0,0 +1,322 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.lifecycle;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.installer.order.Order;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Composite lifecycle, used instead of direct {@link Managed} and {@link LifeCycle} extensions registration
+ * when {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#ParallelLifecycle} enabled.
+ * <p>
+ * Extensions are grouped by installer and {@link ru.vyarus.dropwizard.guice.module.installer.order.Order} value
+ * (in registration order). Groups are started one after another, but extensions inside group are started
+ * concurrently (on bounded thread pool). Stop is performed in reverse group order (again, concurrently inside
+ * group). Only started extensions are stopped.
+ * <p>
+ * Start or stop of each extension is limited by timeout, counted from the extension's own start (extensions,
+ * waiting for free thread, are not affected): start fails on timeout (or extension error) and not yet started
+ * extensions of the group are skipped; stop errors are collected and thrown after all groups processing. Timed out
+ * extension is interrupted (extension, ignoring interruption, would keep its thread busy). Start and stop times
+ * of each extension are available with {@link #getStartTimes()} and {@link #getStopTimes()}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class ParallelLifecycleSupport extends AbstractLifeCycle {
+
+    private final Logger logger = LoggerFactory.getLogger(ParallelLifecycleSupport.class);
+
+    private final int threads;
+    private final Duration timeout;
+    private final List<Group> groups = new ArrayList<>();
+    private final List<Item> started = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Object, Long> startTimes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<Object, Long> stopTimes = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public ParallelLifecycleSupport(final int threads, final Duration timeout) {
+        Preconditions.checkArgument(threads > 0, "Lifecycle threads count must be positive: %s", threads);
+        this.threads = threads;
+        this.timeout = Preconditions.checkNotNull(timeout, "Lifecycle timeout required");
+    }
+
+    /**
+     * Searches for already registered composite lifecycle or register new one.
+     *
+     * @param lifecycle dropwizard lifecycle environment
+     * @param threads   start/stop threads count
+     * @param timeout   extension start/stop timeout
+     * @return composite lifecycle instance
+     */
+    public static ParallelLifecycleSupport lookup(final LifecycleEnvironment lifecycle,
+                                                  final int threads, final Duration timeout) {
+        for (LifeCycle managed : lifecycle.getManagedObjects()) {
+            if (managed instanceof ParallelLifecycleSupport) {
+                return (ParallelLifecycleSupport) managed;
+            }
+        }
+        final ParallelLifecycleSupport res = new ParallelLifecycleSupport(threads, timeout);
+        lifecycle.manage(res);
+        return res;
+    }
+
+    /**
+     * Register managed extension.
+     *
+     * @param installer installer type
+     * @param instance  extension instance
+     */
+    public void manage(final Class<?> installer, final Managed instance) {
+        register(installer, instance, instance::start, instance::stop);
+    }
+
+    /**
+     * Register lifecycle extension.
+     *
+     * @param installer installer type
+     * @param instance  extension instance
+     */
+    public void manage(final Class<?> installer, final LifeCycle instance) {
+        register(installer, instance, instance::start, instance::stop);
+    }
+
+    /**
+     * @return start time (ms) of each extension (by extension instance)
+     */
+    public Map<Object, Long> getStartTimes() {
+        return startTimes;
+    }
+
+    /**
+     * @return stop time (ms) of each extension (by extension instance)
+     */
+    public Map<Object, Long> getStopTimes() {
+        return stopTimes;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        final Stopwatch timer = Stopwatch.createStarted();
+        final ExecutorService executor = createExecutor();
+        try {
+            for (Group group : groups) {
+                final List<Exception> errors = execute(executor, group.items, "start", item -> () -> {
+                    item.start.run();
+                    started.add(item);
+                }, startTimes, true);
+                if (!errors.isEmpty()) {
+                    throw merge(errors);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("{} lifecycle extensions started in {} ({} groups)", started.size(), timer, groups.size());
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        final ExecutorService executor = createExecutor();
+        final List<Exception> errors = new ArrayList<>();
+        try {
+            for (Group group : Lists.reverse(groups)) {
+                final List<Item> items = new ArrayList<>(group.items);
+                items.retainAll(started);
+                errors.addAll(execute(executor, items, "stop", item -> item.stop, stopTimes, false));
+            }
+        } finally {
+            started.clear();
+            executor.shutdownNow();
+        }
+        if (!errors.isEmpty()) {
+            throw merge(errors);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelLifecycleSupport(" + groups.size() + " groups)";
+    }
+
+    private void register(final Class<?> installer, final Object instance,
+                          final Action start, final Action stop) {
+        final Class<?> type = FeatureUtils.getInstanceClass(instance);
+        final Order order = FeatureUtils.getAnnotation(type, Order.class);
+        final int position = order == null ? Integer.MAX_VALUE : order.value();
+        Group group = groups.isEmpty() ? null : groups.get(groups.size() - 1);
+        // extensions are registered already sorted by installer and order
+        if (group == null || !group.installer.equals(installer) || group.order != position) {
+            group = new Group(installer, position);
+            groups.add(group);
+        }
+        group.items.add(new Item(instance, type.getName(), start, stop));
+    }
+
+    private ExecutorService createExecutor() {
+        return Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("guicey-lifecycle-%d").setDaemon(true).build());
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private List<Exception> execute(final ExecutorService executor, final List<Item> items, final String action,
+                                    final Function<Item, Action> task, final Map<Object, Long> times,
+                                    final boolean failFast) {
+        final List<Execution> executions = new ArrayList<>();
+        for (Item item : items) {
+            final Execution execution = new Execution(item, task.apply(item), times);
+            execution.future = executor.submit(execution);
+            executions.add(execution);
+        }
+        final List<Exception> errors = new ArrayList<>();
+        for (Execution execution : executions) {
+            if (failFast && !errors.isEmpty()) {
+                // not yet started extensions are skipped
+                execution.future.cancel(false);
+            } else {
+                final Exception ex = await(execution, action);
+                if (ex != null) {
+                    errors.add(ex);
+                }
+            }
+        }
+        return errors;
+    }
+
+    private Exception await(final Execution execution, final String action) {
+        final long limit = timeout.toNanoseconds();
+        Exception res = null;
+        boolean done = false;
+        try {
+            while (!done) {
+                final Stopwatch timer = execution.timer;
+                // extension waiting for free thread is not limited: timeout counted from extension start
+                final long wait = timer == null ? limit : limit - timer.elapsed(TimeUnit.NANOSECONDS);
+                if (wait <= 0) {
+                    execution.future.cancel(true);
+                    res = new IllegalStateException(String.format("Failed to %s %s: timeout %s exceeded",
+                            action, execution.item.name, timeout));
+                    done = true;
+                } else {
+                    done = waitFor(execution.future, wait);
+                }
+            }
+        } catch (ExecutionException ex) {
+            res = new IllegalStateException(String.format("Failed to %s %s", action, execution.item.name),
+                    ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            execution.future.cancel(true);
+            res = new IllegalStateException(String.format("Interrupted during %s %s",
+                    action, execution.item.name), ex);
+        }
+        return res;
+    }
+
+    private boolean waitFor(final Future<?> future, final long nanos)
+            throws ExecutionException, InterruptedException {
+        boolean res = true;
+        try {
+            future.get(nanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            // extension not started yet or still running: deadline must be re-checked
+            res = false;
+        }
+        return res;
+    }
+
+    private Exception merge(final List<Exception> errors) {
+        final Exception ex = errors.get(0);
+        errors.stream().skip(1).forEach(ex::addSuppressed);
+        return ex;
+    }
+
+    /**
+     * Start or stop action.
+     */
+    @FunctionalInterface
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * Extensions started together.
+     */
+    private static class Group {
+        private final Class<?> installer;
+        private final int order;
+        private final List<Item> items = new ArrayList<>();
+
+        Group(final Class<?> installer, final int order) {
+            this.installer = installer;
+            this.order = order;
+        }
+    }
+
+    /**
+     * Registered extension.
+     */
+    private static class Item {
+        private final Object instance;
+        private final String name;
+        private final Action start;
+        private final Action stop;
+
+        Item(final Object instance, final String name, final Action start, final Action stop) {
+            this.instance = instance;
+            this.name = name;
+            this.start = start;
+            this.stop = stop;
+        }
+    }
+
+    /**
+     * Single extension start or stop. Timer is assigned when extension actually starts (not when it is queued).
+     */
+    private final class Execution implements Callable<Object> {
+        private final Item item;
+        private final Action action;
+        private final Map<Object, Long> times;
+        private volatile Stopwatch timer;
+        private Future<?> future;
+
+        Execution(final Item item, final Action action, final Map<Object, Long> times) {
+            this.item = item;
+            this.action = action;
+            this.times = times;
+        }
+
+        @Override
+        public Object call() throws Exception {
+            final Stopwatch watch = Stopwatch.createStarted();
+            timer = watch;
+            action.run();
+            final long time = watch.elapsed(TimeUnit.MILLISECONDS);
+            times.put(item.instance, time);
+            logger.debug("{} processed in {} ms", item.name, time);
+            return null;
+        }
+    }
+}
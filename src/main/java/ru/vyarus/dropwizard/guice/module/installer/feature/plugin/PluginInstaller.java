@@ -2,6 +2,8 @@ package ru.vyarus.dropwizard.guice.module.installer.feature.plugin;
 
 import com.google.common.base.Preconditions;
 import com.google.inject.Binder;
+import com.google.inject.Key;
+import com.google.inject.Singleton;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.multibindings.Multibinder;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
@@ -11,6 +13,8 @@ import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Shortcut for guice multibindings mechanism.
@@ -20,6 +24,8 @@ import java.lang.reflect.Method;
  * <p>To use {@code Map<String, BaseType>} create new annotation, annotated with {@code @Plugin}.
  * Use new annotation to define plugins. It's value attribute will be used as key (this way you can use
  * different enums for different plugin types and not need to always write plugin interface.</p>
+ * <p>For named plugins {@link PluginRegistry} is also bound: {@code PluginRegistry<KeyType, BaseType>}
+ * (created once, with lazy plugins instantiation).</p>
  *
  * @author Vyacheslav Rusakov
  * @since 08.10.2014
@@ -28,6 +34,7 @@ import java.lang.reflect.Method;
 public class PluginInstaller implements FeatureInstaller<Object>, BindingInstaller {
 
     private final PluginReporter reporter = new PluginReporter();
+    private final Set<Key<?>> registries = new HashSet<>();
 
     @Override
     public boolean matches(final Class<?> type) {
@@ -59,6 +66,11 @@ public class PluginInstaller implements FeatureInstaller<Object>, BindingInstall
     private <T, K> void registerNamedPlugin(final Binder binder, final Class<T> pluginType, final Class<K> keyType,
                                             final Class<? extends T> plugin, final K key) {
         MapBinder.newMapBinder(binder, keyType, pluginType).addBinding(key).to(plugin);
+        final Key<PluginRegistry<K, T>> registryKey = PluginRegistryProvider.key(keyType, pluginType);
+        if (registries.add(registryKey)) {
+            binder.bind(registryKey).toProvider(new PluginRegistryProvider<>(keyType, pluginType))
+                    .in(Singleton.class);
+        }
     }
 
     @Override
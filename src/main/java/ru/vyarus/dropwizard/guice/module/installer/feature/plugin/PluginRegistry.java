@@ -0,0 +1,126 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.plugin;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Provider;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable registry of named plugins (registered with custom annotation, annotated with {@link Plugin}).
+ * Alternative to {@code Map<Key, PluginType>} injection: map multibinding creates new map (and instantiates
+ * all non singleton plugins) on each injection, whereas registry is created once (singleton) and plugin
+ * instances are obtained only on lookup (lazily, using providers, resolved on registry creation). Enum keys are
+ * stored in {@link EnumMap}.
+ * <p>
+ * Registry is bound for each pair of key and plugin types: {@code @Inject PluginRegistry<Key, PluginType> plugins}.
+ * Plugin scope is preserved: singleton plugins are always the same instance, prototype plugins are instantiated
+ * on each {@link #get(Object)} call (use {@link #getProvider(Object)} to cache lookup in hot paths).
+ *
+ * @param <K> key type
+ * @param <T> plugin type
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class PluginRegistry<K, T> {
+
+    private final Class<K> keyType;
+    private final Class<T> pluginType;
+    private final Map<K, Provider<T>> providers;
+
+    /**
+     * @param keyType    key type
+     * @param pluginType plugin type
+     * @param providers  plugin providers
+     */
+    public PluginRegistry(final Class<K> keyType, final Class<T> pluginType,
+                          final Map<K, ? extends Provider<T>> providers) {
+        this.keyType = keyType;
+        this.pluginType = pluginType;
+        this.providers = copy(keyType, providers);
+    }
+
+    /**
+     * @return key type
+     */
+    public Class<K> getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * @return plugin type
+     */
+    public Class<T> getPluginType() {
+        return pluginType;
+    }
+
+    /**
+     * @param key plugin key
+     * @return plugin instance or null if no plugin registered for key
+     */
+    public T get(final K key) {
+        final Provider<T> provider = providers.get(key);
+        return provider == null ? null : provider.get();
+    }
+
+    /**
+     * @param key plugin key
+     * @return plugin instance
+     * @throws IllegalArgumentException if no plugin registered for key
+     */
+    public T require(final K key) {
+        final T plugin = get(key);
+        Preconditions.checkArgument(plugin != null, "No %s plugin registered for key %s",
+                pluginType.getSimpleName(), key);
+        return plugin;
+    }
+
+    /**
+     * @param key plugin key
+     * @return plugin provider or null if no plugin registered for key
+     */
+    public Provider<T> getProvider(final K key) {
+        return providers.get(key);
+    }
+
+    /**
+     * @param key plugin key
+     * @return true if plugin registered for key, false otherwise
+     */
+    public boolean contains(final K key) {
+        return providers.containsKey(key);
+    }
+
+    /**
+     * @return registered plugin keys
+     */
+    public Set<K> keys() {
+        return providers.keySet();
+    }
+
+    /**
+     * @return registered plugins count
+     */
+    public int size() {
+        return providers.size();
+    }
+
+    @Override
+    public String toString() {
+        return "PluginRegistry<" + keyType.getSimpleName() + ", " + pluginType.getSimpleName() + "> " + keys();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, T> Map<K, Provider<T>> copy(final Class<K> keyType,
+                                                   final Map<K, ? extends Provider<T>> providers) {
+        if (keyType.isEnum()) {
+            final EnumMap map = new EnumMap(keyType);
+            map.putAll(providers);
+            return Collections.unmodifiableMap(map);
+        }
+        return ImmutableMap.copyOf(providers);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.plugin;
+
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.util.Types;
+
+import javax.inject.Inject;
+import java.util.Map;
+
+/**
+ * Creates {@link PluginRegistry} from providers map, bound by map multibinding
+ * ({@code Map<Key, Provider<PluginType>>}). Bound in singleton scope, so registry is created once.
+ *
+ * @param <K> key type
+ * @param <T> plugin type
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class PluginRegistryProvider<K, T> implements Provider<PluginRegistry<K, T>> {
+
+    private final Class<K> keyType;
+    private final Class<T> pluginType;
+    @Inject
+    private Injector injector;
+
+    public PluginRegistryProvider(final Class<K> keyType, final Class<T> pluginType) {
+        this.keyType = keyType;
+        this.pluginType = pluginType;
+    }
+
+    /**
+     * @param keyType    key type
+     * @param pluginType plugin type
+     * @param <K>        key type
+     * @param <T>        plugin type
+     * @return registry binding key
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, T> Key<PluginRegistry<K, T>> key(final Class<K> keyType, final Class<T> pluginType) {
+        return (Key<PluginRegistry<K, T>>) Key.get(Types.newParameterizedType(
+                PluginRegistry.class, keyType, pluginType));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PluginRegistry<K, T> get() {
+        final Map<K, Provider<T>> providers = (Map<K, Provider<T>>) injector.getInstance(
+                Key.get(Types.mapOf(keyType, Types.providerOf(pluginType))));
+        return new PluginRegistry<>(keyType, pluginType, providers);
+    }
+}
@@ -0,0 +1,29 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.task;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks dropwizard {@code Task} to be executed asynchronously: task call returns immediately (with execution
+ * id and status) and actual task is executed in background. Useful for long running tasks (e.g. cache reload,
+ * re-indexing), which would otherwise block admin servlet thread (and time out http call).
+ * <p>
+ * All async tasks use shared bounded executor
+ * (see {@link ru.vyarus.dropwizard.guice.module.installer.InstallersOptions#AsyncTaskThreads}). Only one
+ * execution of the same task could be active: calls, performed while task is queued or running, return current
+ * execution instead of starting new one.
+ * <p>
+ * Execution status (including task output or error) could be polled by calling task with {@code status}
+ * parameter (e.g. {@code POST /tasks/mytask?status}). Programmatically, execution is available from registered
+ * {@link AsyncTaskWrapper}.
+ *
+ * @author Vyacheslav Rusakov
+ * @see AsyncTaskWrapper
+ * @since 19.10.2018
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AsyncTask {
+}
@@ -0,0 +1,190 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.task;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.annotation.ExceptionMetered;
+import com.codahale.metrics.annotation.Metered;
+import com.codahale.metrics.annotation.Timed;
+import com.google.common.collect.ImmutableMultimap;
+import io.dropwizard.servlets.tasks.PostBodyTask;
+import io.dropwizard.servlets.tasks.Task;
+import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
+
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Task, executing actual task asynchronously (see {@link AsyncTask}). Registered in dropwizard instead of
+ * actual task (with the same name). Each call returns immediately with execution description. Concurrent calls
+ * are de-duplicated: while execution is queued or running, calls return current execution. Call with
+ * {@link #STATUS_PARAM} parameter returns last execution status without starting new execution.
+ * <p>
+ * Wrapper is always a {@link PostBodyTask} so request body is passed to the actual task, when it's also a
+ * {@link PostBodyTask}. Metrics annotations ({@link Timed}, {@link Metered} or {@link ExceptionMetered}) on actual
+ * task execute method are applied to background execution (the same way as dropwizard applies them to
+ * synchronous task call).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class AsyncTaskWrapper extends PostBodyTask {
+
+    /**
+     * Task parameter to request last execution status.
+     */
+    public static final String STATUS_PARAM = "status";
+
+    private final Task task;
+    private final ExecutorService executor;
+    private Timer timer;
+    private Meter meter;
+    private Meter exceptionMeter;
+    private Class<? extends Throwable> exceptionClass;
+    private int executions;
+    private volatile TaskExecution last;
+
+    /**
+     * @param task     actual task
+     * @param executor executor for task execution
+     * @param metrics  metrics registry
+     */
+    public AsyncTaskWrapper(final Task task, final ExecutorService executor, final MetricRegistry metrics) {
+        super(task.getName());
+        this.task = task;
+        this.executor = executor;
+        initMetrics(metrics);
+    }
+
+    /**
+     * @return actual task
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * @return last (or current) task execution or null if task was never called
+     */
+    public TaskExecution getLastExecution() {
+        return last;
+    }
+
+    /**
+     * Submits task for execution. If task is already queued or running, current execution returned.
+     *
+     * @param parameters task parameters
+     * @return new execution or current execution (if task is already in progress)
+     */
+    public TaskExecution submit(final ImmutableMultimap<String, String> parameters) {
+        return submit(parameters, null);
+    }
+
+    /**
+     * Submits task for execution. If task is already queued or running, current execution returned.
+     *
+     * @param parameters task parameters
+     * @param body       request body (used only if actual task is {@link PostBodyTask})
+     * @return new execution or current execution (if task is already in progress)
+     */
+    public synchronized TaskExecution submit(final ImmutableMultimap<String, String> parameters,
+                                             final String body) {
+        if (last != null && !last.isDone()) {
+            return last;
+        }
+        final TaskExecution execution = new TaskExecution(getName() + "-" + (++executions));
+        last = execution;
+        try {
+            executor.execute(() -> execute(execution, parameters, body));
+        } catch (RejectedExecutionException ex) {
+            execution.reject(ex);
+        }
+        return execution;
+    }
+
+    @Override
+    // deprecated in PostBodyTask, but wrapper still supports programmatic calls without body
+    @SuppressWarnings("deprecation")
+    public void execute(final ImmutableMultimap<String, String> parameters, final PrintWriter output) {
+        execute(parameters, null, output);
+    }
+
+    @Override
+    public void execute(final ImmutableMultimap<String, String> parameters, final String body,
+                        final PrintWriter output) {
+        if (parameters.containsKey(STATUS_PARAM)) {
+            final TaskExecution execution = last;
+            if (execution == null) {
+                output.println(getName() + " was not executed yet");
+            } else {
+                execution.describe(output);
+            }
+        } else {
+            output.println(submit(parameters, body));
+        }
+    }
+
+    private void execute(final TaskExecution execution,
+                         final ImmutableMultimap<String, String> parameters, final String body) {
+        final Timer.Context context = timer != null ? timer.time() : null;
+        if (meter != null) {
+            meter.mark();
+        }
+        try {
+            execution.execute(task, parameters, body);
+        } finally {
+            if (context != null) {
+                context.stop();
+            }
+        }
+        final Throwable error = execution.getError();
+        if (exceptionMeter != null && error != null && (exceptionClass.isInstance(error)
+                || exceptionClass.isInstance(error.getCause()))) {
+            exceptionMeter.mark();
+        }
+    }
+
+    /**
+     * Dropwizard registers metrics only for method, called by servlet (which is wrapper method here), so
+     * annotations of actual task method are resolved manually. Metric names are the same as in dropwizard
+     * and, also as in dropwizard, only one annotation is applied.
+     *
+     * @param metrics metrics registry
+     */
+    private void initMetrics(final MetricRegistry metrics) {
+        final Class<?> type = FeatureUtils.getInstanceClass(task);
+        final Method method = findExecuteMethod(type);
+        if (method.isAnnotationPresent(Timed.class)) {
+            final Timed timed = method.getAnnotation(Timed.class);
+            timer = metrics.timer(metricName(type, timed.name(), timed.absolute()));
+        } else if (method.isAnnotationPresent(Metered.class)) {
+            final Metered metered = method.getAnnotation(Metered.class);
+            meter = metrics.meter(metricName(type, metered.name(), metered.absolute()));
+        } else if (method.isAnnotationPresent(ExceptionMetered.class)) {
+            final ExceptionMetered metered = method.getAnnotation(ExceptionMetered.class);
+            exceptionMeter = metrics.meter(metricName(type, metered.name(), metered.absolute(),
+                    ExceptionMetered.DEFAULT_NAME_SUFFIX));
+            exceptionClass = metered.cause();
+        }
+    }
+
+    private Method findExecuteMethod(final Class<?> type) {
+        try {
+            return task instanceof PostBodyTask
+                    ? type.getMethod("execute", ImmutableMultimap.class, String.class, PrintWriter.class)
+                    : type.getMethod("execute", ImmutableMultimap.class, PrintWriter.class);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException("Failed to resolve execute method of task " + type.getName(), ex);
+        }
+    }
+
+    private String metricName(final Class<?> type, final String name, final boolean absolute,
+                              final String... suffixes) {
+        if (!name.isEmpty()) {
+            return absolute ? name : MetricRegistry.name(type, name);
+        }
+        return MetricRegistry.name(type, suffixes);
+    }
+}
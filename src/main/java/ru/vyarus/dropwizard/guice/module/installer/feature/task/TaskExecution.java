@@ -0,0 +1,177 @@
+package ru.vyarus.dropwizard.guice.module.installer.feature.task;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableMultimap;
+import io.dropwizard.servlets.tasks.PostBodyTask;
+import io.dropwizard.servlets.tasks.Task;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * Handle of asynchronous task execution (see {@link AsyncTask}). Task output is collected and available
+ * after execution. Object is thread safe: status could be polled while task is running.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class TaskExecution {
+
+    /**
+     * Execution status.
+     */
+    public enum Status {
+        /**
+         * Waiting for free executor thread.
+         */
+        QUEUED,
+        /**
+         * Task is running.
+         */
+        RUNNING,
+        /**
+         * Task completed successfully.
+         */
+        COMPLETED,
+        /**
+         * Task failed (or was rejected by executor).
+         */
+        FAILED
+    }
+
+    private final String id;
+    private final long submitted = System.currentTimeMillis();
+    private final StringWriter output = new StringWriter();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long started;
+    private volatile long finished;
+    private volatile Throwable error;
+
+    public TaskExecution(final String id) {
+        this.id = id;
+    }
+
+    /**
+     * @return execution id (task name with execution number)
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return current execution status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return true if execution is finished (successfully or not)
+     */
+    public boolean isDone() {
+        final Status res = status;
+        return res == Status.COMPLETED || res == Status.FAILED;
+    }
+
+    /**
+     * @return submission time
+     */
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * @return time spent in queue (until now if still queued) in milliseconds
+     */
+    public long getQueueTime() {
+        final long start = started;
+        return (start == 0 ? System.currentTimeMillis() : start) - submitted;
+    }
+
+    /**
+     * @return execution time (until now if still running) in milliseconds or 0 if not started
+     */
+    public long getDuration() {
+        final long start = started;
+        final long end = finished;
+        if (start == 0) {
+            return 0;
+        }
+        return (end == 0 ? System.currentTimeMillis() : end) - start;
+    }
+
+    /**
+     * @return collected task output (partial while task is running)
+     */
+    public String getOutput() {
+        // string writer is thread safe
+        return output.toString();
+    }
+
+    /**
+     * @return execution error or null
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Execute task (in current thread).
+     *
+     * @param task       task to execute
+     * @param parameters task parameters
+     * @param body       request body (used only for {@link PostBodyTask})
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+    public void execute(final Task task, final ImmutableMultimap<String, String> parameters, final String body) {
+        started = System.currentTimeMillis();
+        status = Status.RUNNING;
+        try (PrintWriter out = new PrintWriter(output)) {
+            if (task instanceof PostBodyTask) {
+                ((PostBodyTask) task).execute(parameters, body, out);
+            } else {
+                task.execute(parameters, out);
+            }
+            finish(Status.COMPLETED, null);
+        } catch (Throwable ex) {
+            finish(Status.FAILED, ex);
+        }
+    }
+
+    /**
+     * Marks execution as failed without execution (when executor rejected task).
+     *
+     * @param ex rejection cause
+     */
+    public void reject(final Throwable ex) {
+        started = System.currentTimeMillis();
+        finish(Status.FAILED, ex);
+    }
+
+    /**
+     * @param out writer to print execution report to
+     */
+    public void describe(final PrintWriter out) {
+        out.printf("%s %s (queued %s ms, running %s ms)%n", id, status, getQueueTime(), getDuration());
+        final String text = getOutput();
+        if (!text.isEmpty()) {
+            out.print(text);
+        }
+        final Throwable ex = error;
+        if (ex != null) {
+            out.print(Throwables.getStackTraceAsString(ex));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return id + " " + status;
+    }
+
+    private void finish(final Status result, final Throwable ex) {
+        finished = System.currentTimeMillis();
+        error = ex;
+        status = result;
+    }
+}
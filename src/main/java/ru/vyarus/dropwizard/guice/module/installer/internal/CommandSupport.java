@@ -1,6 +1,5 @@
 package ru.vyarus.dropwizard.guice.module.installer.internal;
 
-import com.google.common.base.Stopwatch;
 import com.google.inject.Injector;
 import io.dropwizard.Application;
 import io.dropwizard.cli.Command;
@@ -9,6 +8,7 @@ import io.dropwizard.setup.Bootstrap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClassVisitor;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.ClasspathScanner;
@@ -42,7 +42,7 @@ public final class CommandSupport {
      */
     public static List<Command> registerCommands(final Bootstrap bootstrap, final ClasspathScanner scanner,
                                         final ConfigurationContext context) {
-        final Stopwatch timer = context.stat().timer(CommandTime);
+        final StatTimer timer = context.stat().timer(CommandTime);
         final CommandClassVisitor visitor = new CommandClassVisitor(bootstrap);
         scanner.scan(visitor);
         context.registerCommands(visitor.getCommands());
@@ -61,7 +61,7 @@ public final class CommandSupport {
      */
     public static void initCommands(final List<Command> commands, final Injector injector,
                                     final StatsTracker tracker) {
-        final Stopwatch timer = tracker.timer(CommandTime);
+        final StatTimer timer = tracker.timer(CommandTime);
         if (commands != null) {
             for (Command cmd : commands) {
                 if (cmd instanceof EnvironmentCommand) {
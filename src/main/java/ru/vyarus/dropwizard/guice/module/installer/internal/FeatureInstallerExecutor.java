@@ -1,11 +1,12 @@
 package ru.vyarus.dropwizard.guice.module.installer.internal;
 
-import com.google.common.base.Stopwatch;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import io.dropwizard.setup.Environment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupTrace;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.InstanceInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller;
@@ -45,32 +46,38 @@ public class FeatureInstallerExecutor {
 
     @SuppressWarnings("unchecked")
     private void installFeatures() {
-        final Stopwatch timer = holder.stat().timer(ExtensionsInstallationTime);
+        final StatTimer timer = holder.stat().timer(ExtensionsInstallationTime);
         holder.order();
         final List<Class<?>> allInstalled = new ArrayList<>();
         holder.lifecycle().injectorPhase(injector);
         for (FeatureInstaller installer : holder.getInstallers()) {
-            final List<Class<?>> res = holder.getExtensions(installer.getClass());
-            if (res != null) {
-                for (Class inst : res) {
-                    if (installer instanceof TypeInstaller) {
-                        ((TypeInstaller) installer).install(environment, inst);
-                    }
-                    if (installer instanceof InstanceInstaller) {
-                        ((InstanceInstaller) installer).install(environment, injector.getInstance(inst));
+            final StartupTrace.Span span = holder.stat().trace()
+                    .begin(StartupTrace.INSTALLER, installer.getClass().getName());
+            try {
+                final List<Class<?>> res = holder.getExtensions(installer.getClass());
+                if (res != null) {
+                    for (Class inst : res) {
+                        if (installer instanceof TypeInstaller) {
+                            ((TypeInstaller) installer).install(environment, inst);
+                        }
+                        if (installer instanceof InstanceInstaller) {
+                            ((InstanceInstaller) installer).install(environment, injector.getInstance(inst));
+                        }
+                        logger.trace("{} extension installed: {}",
+                                FeatureUtils.getInstallerExtName(installer.getClass()), inst.getName());
                     }
-                    logger.trace("{} extension installed: {}",
-                            FeatureUtils.getInstallerExtName(installer.getClass()), inst.getName());
                 }
-            }
-            if (!(installer instanceof JerseyInstaller)) {
-                // jersey installers reporting occurs after jersey context start
-                installer.report();
-                // extensions for jersey installers will be notified after HK2 context startup
-                holder.lifecycle().extensionsInstalled(installer.getClass(), res);
-                if (res != null) {
-                    allInstalled.addAll(res);
+                if (!(installer instanceof JerseyInstaller)) {
+                    // jersey installers reporting occurs after jersey context start
+                    installer.report();
+                    // extensions for jersey installers will be notified after HK2 context startup
+                    holder.lifecycle().extensionsInstalled(installer.getClass(), res);
+                    if (res != null) {
+                        allInstalled.addAll(res);
+                    }
                 }
+            } finally {
+                span.end();
             }
         }
         holder.lifecycle().extensionsInstalled(allInstalled);
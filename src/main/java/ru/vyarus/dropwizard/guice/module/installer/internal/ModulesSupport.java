@@ -1,12 +1,21 @@
 package ru.vyarus.dropwizard.guice.module.installer.internal;
 
+import com.google.inject.Binder;
 import com.google.inject.Module;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.Elements;
 import com.google.inject.util.Modules;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupTrace;
 import ru.vyarus.dropwizard.guice.module.support.*;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigInjectionPoints;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigPathsBindingModule;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadBundle;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -50,6 +59,10 @@ public final class ModulesSupport {
 
     /**
      * Prepares modules to use for injector creation (applies module overrides).
+     * <p>
+     * When {@link GuiceyOptions#BindConfigurationPathsOnDemand} enabled, modules elements are recorded in order to
+     * bind only used configuration paths. Injector is created from recorded elements (modules are configured
+     * just once).
      *
      * @param context configuration context
      * @return modules for injector creation
@@ -62,7 +75,55 @@ public final class ModulesSupport {
                 new ArrayList<>(normalModules),
                 new ArrayList<>(overridingModules),
                 context.getDisabledModules());
-        return overridingModules.isEmpty() ? normalModules
+        Iterable<Module> res = overridingModules.isEmpty() ? normalModules
                 : Collections.singletonList(Modules.override(normalModules).with(overridingModules));
+        final StartupTrace trace = context.stat().trace();
+        if (trace.isEnabled()) {
+            res = traceModules(trace, res);
+        }
+        return context.option(GuiceyOptions.BindConfigurationPathsOnDemand)
+                ? bindUsedConfigurationPaths(context, res) : res;
+    }
+
+    /**
+     * Wrap modules to record each module configuration span (only when startup trace enabled). Note that wrapping
+     * module would also appear in guice bindings sources.
+     *
+     * @param trace   startup trace
+     * @param modules prepared modules
+     * @return wrapped modules
+     */
+    private static Iterable<Module> traceModules(final StartupTrace trace, final Iterable<Module> modules) {
+        final List<Module> res = new ArrayList<>();
+        for (Module module : modules) {
+            res.add((Binder binder) -> {
+                final StartupTrace.Span span = trace.begin(StartupTrace.MODULE, module.getClass().getName());
+                try {
+                    binder.install(module);
+                } finally {
+                    span.end();
+                }
+            });
+        }
+        return res;
+    }
+
+    /**
+     * Record modules elements to search for used configuration paths. Enabled extensions are also searched as
+     * lazy extensions are not bound in modules. Paths are bound to current values providers only when
+     * configuration reload is enabled (otherwise values are bound as instances).
+     *
+     * @param context configuration context
+     * @param modules prepared modules
+     * @return modules for injector creation
+     */
+    private static Iterable<Module> bindUsedConfigurationPaths(final ConfigurationContext context,
+                                                               final Iterable<Module> modules) {
+        final List<Element> elements = Elements.getElements(context.option(GuiceyOptions.InjectorStage), modules);
+        return Arrays.asList(Elements.getModule(elements),
+                new ConfigPathsBindingModule(context.getConfigurationTree(),
+                        ConfigInjectionPoints.findPaths(elements, context.getEnabledExtensions()),
+                        context.getOverridingModules().stream()
+                                .anyMatch(ConfigReloadBundle.ConfigReloadModule.class::isInstance)));
     }
 }
@@ -2,33 +2,50 @@ package ru.vyarus.dropwizard.guice.module.installer.option;
 
 import ru.vyarus.dropwizard.guice.module.context.option.Option;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
+import ru.vyarus.dropwizard.guice.module.context.stat.CustomStats;
 
 /**
- * Base class implementing options support for installers. May be used instead of directly implementing
- * {@link WithOptions}.
+ * Base class implementing options (and custom stats) support for installers. May be used instead of directly
+ * implementing {@link WithOptions} and {@link WithStats}.
  *
  * @author Vyacheslav Rusakov
  * @since 20.08.2016
  */
-public abstract class InstallerOptionsSupport implements WithOptions {
+public abstract class InstallerOptionsSupport implements WithOptions, WithStats {
 
     private Options options;
+    private CustomStats stats;
 
     @Override
     public void setOptions(final Options options) {
         this.options = options;
     }
 
+    @Override
+    public void setStats(final CustomStats stats) {
+        this.stats = stats;
+    }
+
     /**
      * @param option option enum
      * @param <V>    option value type
      * @param <T>    helper type to define option
-     * @return assigned option value or default value
+     * @return assigned option value or default value (also when options were not set, e.g. when installer
+     * is used directly)
      * @see Option for more info about options
      * @see Options#get(java.lang.Enum) for details
      * @see ru.vyarus.dropwizard.guice.GuiceyOptions for options example
      */
+    @SuppressWarnings("unchecked")
     protected <V, T extends Enum & Option> V option(final T option) {
-        return options.get(option);
+        return options == null ? (V) option.getDefaultValue() : options.get(option);
+    }
+
+    /**
+     * @return custom stats recorder (to show installer specific stats in startup report)
+     * @see ru.vyarus.dropwizard.guice.module.context.stat.CustomStat
+     */
+    protected CustomStats stats() {
+        return stats;
     }
 }
@@ -0,0 +1,24 @@
+package ru.vyarus.dropwizard.guice.module.installer.option;
+
+import ru.vyarus.dropwizard.guice.module.context.stat.CustomStats;
+
+/**
+ * Marker interface for installers reporting custom stats (shown in startup report).
+ * {@link CustomStats} instance will be set before any installer method call.
+ * <p>
+ * Installer could extend {@link InstallerOptionsSupport} instead of directly implementing interface
+ * (to avoid boilerplate).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.dropwizard.guice.module.context.stat.CustomStat
+ * @since 19.10.2018
+ */
+public interface WithStats {
+
+    /**
+     * Called before any installer method.
+     *
+     * @param stats custom stats recorder
+     */
+    void setStats(CustomStats stats);
+}
@@ -5,6 +5,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import io.dropwizard.setup.Bootstrap;
 import ru.vyarus.dropwizard.guice.module.context.ConfigurationContext;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupTrace;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 
@@ -56,7 +57,13 @@ public final class BundleSupport {
                 // important to check here because transitive bundles may appear to be disabled
                 if (context.isBundleEnabled(bundleType)) {
                     context.setScope(bundleType);
-                    bundle.initialize(guiceyBootstrap);
+                    final StartupTrace.Span span = context.stat().trace()
+                            .begin(StartupTrace.BUNDLE, bundleType.getName());
+                    try {
+                        bundle.initialize(guiceyBootstrap);
+                    } finally {
+                        span.end();
+                    }
                     context.closeScope();
                 }
 
@@ -106,11 +106,26 @@ public final class JerseyBinding {
      * @see ru.vyarus.dropwizard.guice.module.jersey.support.LazyGuiceFactory
      * @see ru.vyarus.dropwizard.guice.module.jersey.support.GuiceComponentFactory
      */
-    @SuppressWarnings("unchecked")
     public static <T> void bindFactory(final AbstractBinder binder, final Injector injector, final Class<?> type,
                                        final boolean hkManaged, final boolean singleton) {
-        // resolve Factory<T> actual type to bind properly
-        final Class<T> res = (Class<T>) GenericsResolver.resolve(type).type(Factory.class).generic(0);
+        bindFactory(binder, injector, type, resolveFactoryType(type), hkManaged, singleton);
+    }
+
+    /**
+     * Same as {@link #bindFactory(AbstractBinder, Injector, Class, boolean, boolean)}, but with already resolved
+     * factory type (to avoid generics resolution during HK2 context configuration).
+     *
+     * @param binder    HK2 binder
+     * @param injector  guice injector
+     * @param type      factory to bind
+     * @param res       factory provided type (see {@link #resolveFactoryType(Class)})
+     * @param hkManaged true if bean must be managed by HK2, false to bind guice managed instance
+     * @param singleton true to force singleton scope
+     * @param <T>       actual type (used to workaround type checks)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void bindFactory(final AbstractBinder binder, final Injector injector, final Class<?> type,
+                                       final Class<T> res, final boolean hkManaged, final boolean singleton) {
         if (hkManaged) {
             optionalSingleton(singleton
                             ? binder.bindFactory((Class<Factory<T>>) type, Singleton.class).to(type).to(res)
@@ -144,12 +159,29 @@ public final class JerseyBinding {
                                              final Class<?> specificType,
                                              final boolean hkManaged,
                                              final boolean singleton) {
-        // resolve generics of specific type
-        final GenericsContext context = GenericsResolver.resolve(type).type(specificType);
-        final List<Type> genericTypes = context.genericTypes();
-        final Type[] generics = genericTypes.toArray(new Type[0]);
-        final Type bindingType = generics.length > 0 ? new ParameterizedTypeImpl(specificType, generics)
-                : specificType;
+        bindSpecificComponent(binder, injector, type, specificType,
+                resolveBindingType(type, specificType), hkManaged, singleton);
+    }
+
+    /**
+     * Same as {@link #bindSpecificComponent(AbstractBinder, Injector, Class, Class, boolean, boolean)}, but with
+     * already resolved binding type (to avoid generics resolution during HK2 context configuration).
+     *
+     * @param binder       HK2 binder
+     * @param injector     guice injector
+     * @param type         type which implements specific jersey interface or extends class
+     * @param specificType specific jersey type (interface or abstract class)
+     * @param bindingType  specific type with resolved generics (see {@link #resolveBindingType(Class, Class)})
+     * @param hkManaged    true if bean must be managed by HK2, false to bind guice managed instance
+     * @param singleton    true to force singleton scope
+     */
+    public static void bindSpecificComponent(final AbstractBinder binder,
+                                             final Injector injector,
+                                             final Class<?> type,
+                                             final Class<?> specificType,
+                                             final Type bindingType,
+                                             final boolean hkManaged,
+                                             final boolean singleton) {
         if (hkManaged) {
             optionalSingleton(
                     binder.bind(type).to(type).to(bindingType),
@@ -173,6 +205,34 @@ public final class JerseyBinding {
         }
     }
 
+    /**
+     * Resolves actual type provided by HK2 {@link Factory} implementation.
+     *
+     * @param type factory type
+     * @param <T>  provided type
+     * @return resolved {@code Factory<T>} generic
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Class<T> resolveFactoryType(final Class<?> type) {
+        return (Class<T>) GenericsResolver.resolve(type).type(Factory.class).generic(0);
+    }
+
+    /**
+     * Resolves binding type for jersey specific component: specific type parametrized with generics, resolved from
+     * component hierarchy (e.g. {@code ExceptionMapper<IOException>}).
+     *
+     * @param type         type which implements specific jersey interface or extends class
+     * @param specificType specific jersey type (interface or abstract class)
+     * @return type to bind extension to
+     */
+    public static Type resolveBindingType(final Class<?> type, final Class<?> specificType) {
+        // resolve generics of specific type
+        final GenericsContext context = GenericsResolver.resolve(type).type(specificType);
+        final List<Type> genericTypes = context.genericTypes();
+        final Type[] generics = genericTypes.toArray(new Type[0]);
+        return generics.length > 0 ? new ParameterizedTypeImpl(specificType, generics) : specificType;
+    }
+
     /**
      * Used to bind jersey beans in guice context (lazily). Guice context is started first, so there is
      * no way to bind instances. Instead "lazy bridge" installed, which will resolve target type on first call.
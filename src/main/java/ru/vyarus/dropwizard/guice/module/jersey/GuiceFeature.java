@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import com.google.inject.Injector;
 import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.jersey.ServiceLocatorProvider;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
 import ru.vyarus.dropwizard.guice.module.installer.scanner.InvisibleForScanner;
 import ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding;
@@ -15,6 +16,7 @@ import javax.inject.Provider;
 import javax.ws.rs.core.Feature;
 import javax.ws.rs.core.FeatureContext;
 
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.GuiceyTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.HKTime;
 
 /**
@@ -62,7 +64,7 @@ public class GuiceFeature implements Feature, Provider<ServiceLocator> {
 
     @Override
     public boolean configure(final FeatureContext context) {
-        tracker.startHkTimer(HKTime);
+        final StatTimer timer = tracker.timer(GuiceyTime, HKTime);
         locator = ServiceLocatorProvider.getServiceLocator(context);
         lifecycle.hk2Configuration(locator);
         final Injector injector = this.provider.get();
@@ -76,7 +78,7 @@ public class GuiceFeature implements Feature, Provider<ServiceLocator> {
         }
 
         context.register(new InstallerBinder(injector, tracker, lifecycle));
-        tracker.stopHkTimer(HKTime);
+        timer.stop();
         return true;
     }
 
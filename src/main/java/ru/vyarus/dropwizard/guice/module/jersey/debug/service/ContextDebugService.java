@@ -1,5 +1,6 @@
 package ru.vyarus.dropwizard.guice.module.jersey.debug.service;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
@@ -11,6 +12,8 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -22,6 +25,10 @@ import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.Jers
  * Service only checks correctness and tracks instantiated objects.
  * <p>
  * Only objects installed by {@link JerseyInstaller} installers are tracked.
+ * <p>
+ * Each type is validated only once: types are recorded (without duplicates) after successful check and all
+ * next instantiations of recorded type are ignored (type context can't change). So checks are cheap enough to
+ * be used in production.
  *
  * @author Vyacheslav Rusakov
  * @since 15.01.2016
@@ -31,11 +38,11 @@ public class ContextDebugService {
 
     private final Provider<ExtensionsHolder> holder;
     private final Options options;
-    private final List<Class<?>> hkManaged = Lists.newArrayList();
-    private final List<Class<?>> guiceManaged = Lists.newArrayList();
+    private final Set<Class<?>> hkManaged = ConcurrentHashMap.newKeySet();
+    private final Set<Class<?>> guiceManaged = ConcurrentHashMap.newKeySet();
 
     private final Lock lock = new ReentrantLock();
-    private List<Class<?>> managedTypes;
+    private volatile Set<Class<?>> managedTypes;
 
     @Inject
     public ContextDebugService(final Provider<ExtensionsHolder> holder, final Options options) {
@@ -44,9 +51,9 @@ public class ContextDebugService {
     }
 
     /**
-     * @return list of all types that must be tracked
+     * @return set of all types that must be tracked
      */
-    public List<Class<?>> getManagedTypes() {
+    public Set<Class<?>> getManagedTypes() {
         if (managedTypes == null) {
             lock.lock();
             try {
@@ -62,28 +69,38 @@ public class ContextDebugService {
 
     /**
      * Called by specific HK2 lifecycle listener to check if bean is properly instantiated by HK2.
+     * Already recorded types are not checked.
      *
      * @param type instantiated bean type
+     * @return true if type recorded for the first time, false if type was already checked before
      */
-    public void hkManage(final Class<?> type) {
+    public boolean hkManage(final Class<?> type) {
+        if (hkManaged.contains(type)) {
+            return false;
+        }
         if (!JerseyBinding.isHK2Managed(type, options.get(JerseyExtensionsManagedByGuice))) {
             throw new WrongContextException("HK2 creates service %s which must be managed by guice.",
                     type.getName());
         }
-        hkManaged.add(type);
+        return hkManaged.add(type);
     }
 
     /**
      * Called by specific guice provision listener to check if bean is properly instantiated by guice.
+     * Already recorded types are not checked.
      *
      * @param type instantiated bean type
+     * @return true if type recorded for the first time, false if type was already checked before
      */
-    public void guiceManage(final Class<?> type) {
+    public boolean guiceManage(final Class<?> type) {
+        if (guiceManaged.contains(type)) {
+            return false;
+        }
         if (JerseyBinding.isHK2Managed(type, options.get(JerseyExtensionsManagedByGuice))) {
             throw new WrongContextException("Guice creates service %s which must be managed by HK2.",
                     type.getName());
         }
-        guiceManaged.add(type);
+        return guiceManaged.add(type);
     }
 
     /**
@@ -100,8 +117,8 @@ public class ContextDebugService {
         return Lists.newArrayList(guiceManaged);
     }
 
-    private List<Class<?>> buildManagedTypes() {
-        final List<Class<?>> managedTypes = Lists.newArrayList();
+    private Set<Class<?>> buildManagedTypes() {
+        final ImmutableSet.Builder<Class<?>> managedTypes = ImmutableSet.builder();
         for (Class<? extends FeatureInstaller> installer : holder.get().getInstallerTypes()) {
             if (!(JerseyInstaller.class.isAssignableFrom(installer))) {
                 continue;
@@ -111,6 +128,6 @@ public class ContextDebugService {
                 managedTypes.addAll(features);
             }
         }
-        return managedTypes;
+        return managedTypes.build();
     }
 }
@@ -11,30 +11,40 @@ import java.util.List;
  * {@link ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller} based installers.
  * <p>
  * Some services will be registered before debug service gets injected into listener instance,
- * so before this listener simply collects all created objects to check after.
+ * so before this listener simply collects all created objects to check after (collected types and debug
+ * service handoff are guarded by the same lock).
+ * <p>
+ * After that, each provision costs only hash lookup (managed types and already checked types are sets).
  *
  * @author Vyacheslav Rusakov
  * @since 15.01.2016
  */
 public class GuiceInstanceListener implements ProvisionListener {
 
-    private ContextDebugService contextDebugService;
+    private volatile ContextDebugService contextDebugService;
     private final List<Class<?>> created = Lists.newArrayList();
 
     @Override
     public <T> void onProvision(final ProvisionInvocation<T> provision) {
         final Class type = provision.getBinding().getKey().getTypeLiteral().getRawType();
         if (contextDebugService == null) {
-            created.add(type);
-        } else {
-            checkType(type);
+            synchronized (created) {
+                // service could be set while waiting for lock
+                if (contextDebugService == null) {
+                    created.add(type);
+                    return;
+                }
+            }
         }
+        checkType(type);
     }
 
     @Inject
     public void setContextDebugService(final ContextDebugService contextDebugService) {
-        this.contextDebugService = contextDebugService;
-        checkCollected();
+        synchronized (created) {
+            this.contextDebugService = contextDebugService;
+            checkCollected();
+        }
     }
 
     private void checkCollected() {
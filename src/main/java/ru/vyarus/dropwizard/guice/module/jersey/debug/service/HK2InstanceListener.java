@@ -1,13 +1,13 @@
 package ru.vyarus.dropwizard.guice.module.jersey.debug.service;
 
-import com.google.common.collect.Lists;
 import org.glassfish.hk2.api.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Listens HK2 for created services and checks correctness for services registered by
@@ -30,7 +30,8 @@ public class HK2InstanceListener implements InstanceLifecycleListener {
 
     @Override
     public Filter getFilter() {
-        final List<String> managedTypes = Lists.transform(contextDebugService.getManagedTypes(), Class::getName);
+        final Set<String> managedTypes = contextDebugService.getManagedTypes().stream()
+                .map(Class::getName).collect(Collectors.toSet());
         return d -> d.getDescriptorType() == DescriptorType.CLASS
                 && managedTypes.contains(d.getImplementation());
     }
@@ -39,9 +40,9 @@ public class HK2InstanceListener implements InstanceLifecycleListener {
     public void lifecycleEvent(final InstanceLifecycleEvent event) {
         final Class<?> implClass = event.getActiveDescriptor().getImplementationClass();
         // checking only object creation
-        if (event.getEventType() == InstanceLifecycleEventType.PRE_PRODUCTION) {
+        if (event.getEventType() == InstanceLifecycleEventType.PRE_PRODUCTION
+                && contextDebugService.hkManage(implClass)) {
             logger.info("HK2 creates service: {}", implClass.getName());
-            contextDebugService.hkManage(implClass);
         }
     }
 }
@@ -0,0 +1,87 @@
+package ru.vyarus.dropwizard.guice.module.jersey.hk2;
+
+import com.google.common.collect.Sets;
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import org.glassfish.hk2.api.Injectee;
+import org.glassfish.hk2.api.JustInTimeInjectionResolver;
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * HK2 just in time resolver, resolving injection points from guice context (guice to HK2 bridge).
+ * Replacement for HK2 guice-bridge resolver with the same resolution rules (required type with at most one
+ * qualifier), but:
+ * <ul>
+ * <li>Guice binding lookup results are cached by injection key (type and qualifier), including negative results.
+ * HK2 asks just in time resolvers for every unresolved injection, so without cache guice would be queried
+ * (with exception for unknown types) again and again.</li>
+ * <li>Guice provider is resolved once for each key, and used directly by registered HK2 descriptor. Descriptor
+ * is registered atomically with cache update, so concurrent resolutions of the same key can't register
+ * duplicate descriptors.</li>
+ * </ul>
+ * HK2 calls resolver only for injection points, not resolvable by HK2 itself, so bridging is activated
+ * lazily: only for beans actually depending on guice services.
+ *
+ * @author Vyacheslav Rusakov
+ * @see GuiceBindingDescriptor
+ * @since 19.10.2018
+ */
+public class CachingGuiceBridgeResolver implements JustInTimeInjectionResolver {
+
+    private final ServiceLocator locator;
+    private final Injector injector;
+    // key resolution result (true when descriptor registered)
+    private final ConcurrentMap<Key<?>, Boolean> cache = new ConcurrentHashMap<>();
+
+    public CachingGuiceBridgeResolver(final ServiceLocator locator, final Injector injector) {
+        this.locator = locator;
+        this.injector = injector;
+    }
+
+    @Override
+    public boolean justInTimeResolution(final Injectee injectee) {
+        final Type type = injectee.getRequiredType();
+        final Class<?> rawType = getRawType(type);
+        final Set<Annotation> qualifiers = injectee.getRequiredQualifiers();
+        if (injectee.getParent() == null || rawType == null || qualifiers.size() > 1) {
+            return false;
+        }
+        final Key<?> key = qualifiers.isEmpty() ? Key.get(type) : Key.get(type, qualifiers.iterator().next());
+        // concurrent resolutions of the same key wait for registration
+        return cache.computeIfAbsent(key, k -> register(k, type, rawType, qualifiers));
+    }
+
+    private boolean register(final Key<?> key, final Type type, final Class<?> rawType,
+                             final Set<Annotation> qualifiers) {
+        final Binding<?> binding;
+        try {
+            binding = injector.getBinding(key);
+        } catch (ConfigurationException ex) {
+            return false;
+        }
+        ServiceLocatorUtilities.addOneDescriptor(locator, new GuiceBindingDescriptor<>(
+                Collections.singleton(type), Sets.newHashSet(qualifiers), rawType, binding.getProvider()));
+        return true;
+    }
+
+    private static Class<?> getRawType(final Type type) {
+        Class<?> res = null;
+        if (type instanceof Class) {
+            res = (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            res = (Class<?>) ((ParameterizedType) type).getRawType();
+        }
+        return res;
+    }
+}
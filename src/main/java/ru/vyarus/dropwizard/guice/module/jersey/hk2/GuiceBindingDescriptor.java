@@ -0,0 +1,56 @@
+package ru.vyarus.dropwizard.guice.module.jersey.hk2;
+
+import com.google.inject.Provider;
+import org.glassfish.hk2.api.DescriptorType;
+import org.glassfish.hk2.api.DescriptorVisibility;
+import org.glassfish.hk2.api.PerLookup;
+import org.glassfish.hk2.api.ServiceHandle;
+import org.glassfish.hk2.utilities.AbstractActiveDescriptor;
+import org.glassfish.hk2.utilities.reflection.ReflectionHelper;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * HK2 descriptor for guice binding, registered by {@link CachingGuiceBridgeResolver}. Instance creation is
+ * delegated to guice provider (resolved once), so guice scopes are respected.
+ *
+ * @param <T> bean type
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class GuiceBindingDescriptor<T> extends AbstractActiveDescriptor<T> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Class<?> implClass;
+    private final transient Provider<T> provider;
+
+    public GuiceBindingDescriptor(final Set<Type> contracts,
+                                  final Set<Annotation> qualifiers,
+                                  final Class<?> implClass,
+                                  final Provider<T> provider) {
+        super(contracts, PerLookup.class, ReflectionHelper.getNameFromAllQualifiers(qualifiers, implClass),
+                qualifiers, DescriptorType.CLASS, DescriptorVisibility.NORMAL, 0, false, null, null,
+                new HashMap<>());
+        this.implClass = implClass;
+        this.provider = provider;
+        setImplementation(implClass.getName());
+    }
+
+    @Override
+    public Class<?> getImplementationClass() {
+        return implClass;
+    }
+
+    @Override
+    public Type getImplementationType() {
+        return implClass;
+    }
+
+    @Override
+    public T create(final ServiceHandle<?> root) {
+        return provider.get();
+    }
+}
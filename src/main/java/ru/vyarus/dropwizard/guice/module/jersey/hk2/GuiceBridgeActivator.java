@@ -2,8 +2,8 @@ package ru.vyarus.dropwizard.guice.module.jersey.hk2;
 
 import com.google.inject.Injector;
 import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
 import org.jvnet.hk2.guice.bridge.api.GuiceBridge;
-import org.jvnet.hk2.guice.bridge.api.GuiceIntoHK2Bridge;
 
 /**
  * Enables HK2 guice bridge to allow HK2 services to see guice beans. Bridge installation is enabled by
@@ -11,6 +11,10 @@ import org.jvnet.hk2.guice.bridge.api.GuiceIntoHK2Bridge;
  * <p>
  * Installation extracted to separate class to isolate bridge dependency usage: when bridge is enabled.
  * extra 'org.glassfish.hk2:guice-bridge:2.5.0-b32' dependency is required.
+ * <p>
+ * Guice injector is bridged with {@link CachingGuiceBridgeResolver} instead of bridge's own
+ * {@link org.jvnet.hk2.guice.bridge.api.GuiceIntoHK2Bridge#bridgeGuiceInjector(Injector)} in order to cache
+ * guice bindings resolution.
  *
  * @author Vyacheslav Rusakov
  * @since 26.03.2017
@@ -30,7 +34,6 @@ public class GuiceBridgeActivator {
      */
     public void activate() {
         GuiceBridge.getGuiceBridge().initializeGuiceBridge(locator);
-        final GuiceIntoHK2Bridge guiceBridge = locator.getService(GuiceIntoHK2Bridge.class);
-        guiceBridge.bridgeGuiceInjector(injector);
+        ServiceLocatorUtilities.addOneConstant(locator, new CachingGuiceBridgeResolver(locator, injector));
     }
 }
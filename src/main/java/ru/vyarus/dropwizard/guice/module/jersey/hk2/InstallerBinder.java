@@ -2,6 +2,8 @@ package ru.vyarus.dropwizard.guice.module.jersey.hk2;
 
 import com.google.inject.Injector;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupTrace;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
 import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.JerseyInstaller;
@@ -11,6 +13,8 @@ import ru.vyarus.dropwizard.guice.module.lifecycle.internal.LifecycleSupport;
 import java.util.ArrayList;
 import java.util.List;
 
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.GuiceyTime;
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.HKTime;
 import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.JerseyInstallerTime;
 
 /**
@@ -41,23 +45,29 @@ public class InstallerBinder extends AbstractBinder {
     @Override
     @SuppressWarnings("unchecked")
     protected void configure() {
-        tracker.startHkTimer(JerseyInstallerTime);
+        final StatTimer timer = tracker.timer(GuiceyTime, HKTime, JerseyInstallerTime);
         final ExtensionsHolder holder = injector.getInstance(ExtensionsHolder.class);
         final List<Class<?>> allInstalled = new ArrayList<>();
         for (FeatureInstaller installer : holder.getInstallers()) {
             if (installer instanceof JerseyInstaller) {
-                final List<Class<?>> features = holder.getExtensions(installer.getClass());
-                if (features != null) {
-                    for (Class<?> type : features) {
-                        ((JerseyInstaller) installer).install(this, injector, type);
+                final StartupTrace.Span span = tracker.trace()
+                        .begin(StartupTrace.INSTALLER, installer.getClass().getName());
+                try {
+                    final List<Class<?>> features = holder.getExtensions(installer.getClass());
+                    if (features != null) {
+                        for (Class<?> type : features) {
+                            ((JerseyInstaller) installer).install(this, injector, type);
+                        }
+                        allInstalled.addAll(features);
                     }
-                    allInstalled.addAll(features);
+                    installer.report();
+                    lifecycle.hk2ExtensionsInstalled(installer.getClass(), features);
+                } finally {
+                    span.end();
                 }
-                installer.report();
-                lifecycle.hk2ExtensionsInstalled(installer.getClass(), features);
             }
         }
         lifecycle.hk2ExtensionsInstalled(allInstalled);
-        tracker.stopHkTimer(JerseyInstallerTime);
+        timer.stop();
     }
 }
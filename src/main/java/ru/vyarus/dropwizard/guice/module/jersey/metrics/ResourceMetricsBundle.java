@@ -0,0 +1,38 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics;
+
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.provider.JerseyProviderInstaller;
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.service.ResourceMetricsListener;
+
+/**
+ * Bundle enables automatic metrics for all resource methods of resources, installed by
+ * {@link ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller}. Removes the need to
+ * annotate each method with {@link com.codahale.metrics.annotation.Timed}.
+ * <p>
+ * For each resource method registered in dropwizard {@link com.codahale.metrics.MetricRegistry}
+ * (names are based on resource class and method name):
+ * <ul>
+ * <li>{@code requests} - timer of method execution</li>
+ * <li>{@code active} - counter of currently executing requests (in-flight)</li>
+ * <li>{@code errors} - meter of requests finished with exception</li>
+ * </ul>
+ * For example, {@code com.company.SampleResource.foo.requests}.
+ * <p>
+ * All metric objects are resolved once, when jersey resource model is built, so request processing only
+ * updates already known metrics (no registry lookups).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ResourceMetricsListener
+ * @since 19.10.2018
+ */
+public class ResourceMetricsBundle implements GuiceyBundle {
+
+    @Override
+    public void initialize(final GuiceyBootstrap bootstrap) {
+        bootstrap
+                // register to guarantee installer presence (e.g. in manual mode)
+                .installers(JerseyProviderInstaller.class)
+                .extensions(ResourceMetricsListener.class);
+    }
+}
@@ -0,0 +1,92 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics.service;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Resource method metrics. Created once for each resource method when jersey resource model is built.
+ * <p>
+ * Metrics are named by resource class and method name (e.g. {@code com.foo.MyResource.get.requests}). Overloaded
+ * methods name also contains parameter types (e.g. {@code com.foo.MyResource.get(String,int).requests}) to avoid
+ * merging different methods metrics.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class MethodMetrics {
+
+    private final Timer requests;
+    private final Counter active;
+    private final Meter errors;
+
+    public MethodMetrics(final MetricRegistry registry, final Class<?> resource, final Method method) {
+        final String name = metricName(resource, method);
+        this.requests = registry.timer(name(resource, name, "requests"));
+        this.active = registry.counter(name(resource, name, "active"));
+        this.errors = registry.meter(name(resource, name, "errors"));
+    }
+
+    /**
+     * Called before resource method execution.
+     */
+    public void start() {
+        active.inc();
+    }
+
+    /**
+     * Called after resource method execution.
+     *
+     * @param duration execution duration in nanoseconds
+     */
+    public void finish(final long duration) {
+        active.dec();
+        requests.update(duration, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Called when request processing finished with exception.
+     */
+    public void error() {
+        errors.mark();
+    }
+
+    /**
+     * @return resource method execution timer
+     */
+    public Timer getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return currently executing requests counter
+     */
+    public Counter getActive() {
+        return active;
+    }
+
+    /**
+     * @return failed requests meter
+     */
+    public Meter getErrors() {
+        return errors;
+    }
+
+    private static String metricName(final Class<?> resource, final Method method) {
+        final boolean overloaded = Arrays.stream(resource.getMethods())
+                .anyMatch(it -> it.getName().equals(method.getName()) && !it.equals(method));
+        return overloaded
+                ? method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "(", ")"))
+                : method.getName();
+    }
+}
@@ -0,0 +1,146 @@
+package ru.vyarus.dropwizard.guice.module.jersey.metrics.service;
+
+import com.google.common.collect.ImmutableMap;
+import io.dropwizard.setup.Environment;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.GuiceManaged;
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.ResourceInstaller;
+import ru.vyarus.dropwizard.guice.module.installer.internal.ExtensionsHolder;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Jersey application listener, publishing resource methods metrics. Only resources installed with
+ * {@link ResourceInstaller} are tracked.
+ * <p>
+ * Metrics for all resource methods are created on jersey initialization (when resource model is built).
+ * During request processing matched method metrics are simply selected from prepared map. The same
+ * request listener instance is used for all requests: resource method start and finish events are always fired
+ * in the same thread, so execution start time is stored in thread bound holder (no allocations per request).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.dropwizard.guice.module.jersey.metrics.ResourceMetricsBundle
+ * @since 19.10.2018
+ */
+@javax.ws.rs.ext.Provider
+@GuiceManaged
+@Singleton
+public class ResourceMetricsListener implements ApplicationEventListener {
+
+    private final Provider<ExtensionsHolder> holder;
+    private final Environment environment;
+    private final RequestEventListener listener = new MethodListener();
+    // built on jersey initialization and read from request threads
+    private volatile Map<Method, MethodMetrics> metrics = Collections.emptyMap();
+
+    @Inject
+    public ResourceMetricsListener(final Provider<ExtensionsHolder> holder, final Environment environment) {
+        this.holder = holder;
+        this.environment = environment;
+    }
+
+    @Override
+    public void onEvent(final ApplicationEvent event) {
+        if (event.getType() == ApplicationEvent.Type.INITIALIZATION_APP_FINISHED) {
+            metrics = buildMetrics(event.getResourceModel());
+        }
+    }
+
+    @Override
+    public RequestEventListener onRequest(final RequestEvent requestEvent) {
+        return metrics.isEmpty() ? null : listener;
+    }
+
+    /**
+     * @return metrics of all tracked resource methods
+     */
+    public Map<Method, MethodMetrics> getMetrics() {
+        return metrics;
+    }
+
+    private Map<Method, MethodMetrics> buildMetrics(final ResourceModel model) {
+        final List<Class<?>> resources = holder.get().getExtensions(ResourceInstaller.class);
+        if (resources == null) {
+            return Collections.emptyMap();
+        }
+        final Set<Class<?>> types = new HashSet<>(resources);
+        final Map<Method, MethodMetrics> res = new HashMap<>();
+        for (Resource resource : model.getResources()) {
+            collectMetrics(resource, types, res);
+        }
+        return ImmutableMap.copyOf(res);
+    }
+
+    private void collectMetrics(final Resource resource, final Set<Class<?>> resources,
+                                final Map<Method, MethodMetrics> res) {
+        for (ResourceMethod method : resource.getResourceMethods()) {
+            final Class<?> type = method.getInvocable().getHandler().getHandlerClass();
+            final Method definition = method.getInvocable().getDefinitionMethod();
+            if (resources.contains(type) && !res.containsKey(definition)) {
+                res.put(definition, new MethodMetrics(environment.metrics(), type, definition));
+            }
+        }
+        for (Resource child : resource.getChildResources()) {
+            collectMetrics(child, resources, res);
+        }
+    }
+
+    /**
+     * Request listener tracks matched resource method execution. Listener is shared by all requests.
+     * Error is counted for request, matched to tracked resource method and finished with exception.
+     */
+    private class MethodListener implements RequestEventListener {
+
+        // resource method start time (one holder per thread)
+        private final ThreadLocal<long[]> start = ThreadLocal.withInitial(() -> new long[1]);
+
+        @Override
+        public void onEvent(final RequestEvent event) {
+            final MethodMetrics method;
+            switch (event.getType()) {
+                case RESOURCE_METHOD_START:
+                    method = findMetrics(event);
+                    if (method != null) {
+                        method.start();
+                        start.get()[0] = System.nanoTime();
+                    }
+                    break;
+                case RESOURCE_METHOD_FINISHED:
+                    method = findMetrics(event);
+                    if (method != null) {
+                        method.finish(System.nanoTime() - start.get()[0]);
+                    }
+                    break;
+                case FINISHED:
+                    method = event.getException() != null ? findMetrics(event) : null;
+                    if (method != null) {
+                        method.error();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private MethodMetrics findMetrics(final RequestEvent event) {
+            final ResourceMethod method = event.getUriInfo() == null
+                    ? null : event.getUriInfo().getMatchedResourceMethod();
+            return method == null ? null : metrics.get(method.getInvocable().getDefinitionMethod());
+        }
+    }
+}
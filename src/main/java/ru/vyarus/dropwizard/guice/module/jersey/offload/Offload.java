@@ -0,0 +1,35 @@
+package ru.vyarus.dropwizard.guice.module.jersey.offload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executes resource method on named bounded executor, registered with {@link OffloadBundle}, instead of
+ * jetty worker thread. Useful for methods performing blocking calls (e.g. calling remote services): jetty thread is
+ * released immediately and executor size limits method concurrency.
+ * <p>
+ * Request is suspended in the same way as with {@link javax.ws.rs.container.AsyncResponse}, so resource method
+ * remains synchronous. Method result (or thrown exception) resumes request. If executor rejects execution (queue is
+ * full), request is resumed with {@link javax.ws.rs.ServiceUnavailableException}.
+ * <p>
+ * Guice request scope (when guice servlet support is enabled) and jersey request scope are propagated to executor
+ * thread, so request scoped beans could be used as usual.
+ * <p>
+ * Annotation could be used on method or resource class (to offload all resource methods). Method annotation
+ * has priority.
+ *
+ * @author Vyacheslav Rusakov
+ * @see OffloadBundle
+ * @since 19.10.2018
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Offload {
+
+    /**
+     * @return executor name (registered in {@link OffloadBundle})
+     */
+    String value();
+}
@@ -0,0 +1,123 @@
+package ru.vyarus.dropwizard.guice.module.jersey.offload;
+
+import com.google.inject.AbstractModule;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.provider.JerseyProviderInstaller;
+import ru.vyarus.dropwizard.guice.module.jersey.offload.service.OffloadExecutors;
+import ru.vyarus.dropwizard.guice.module.jersey.offload.service.OffloadInvocationHandlerProvider;
+
+/**
+ * Bundle enables {@link Offload} annotation support for resource methods. Bundle declares named executors,
+ * which could be used in annotations:
+ * <pre>{@code
+ * GuiceBundle.builder()
+ *      .bundles(OffloadBundle.builder()
+ *              .executor("db", 20)
+ *              .executor("remote", 10, 100)
+ *              .build())
+ * }</pre>
+ * Executor is a fixed size thread pool with bounded queue (when queue size is not specified,
+ * {@link #DEFAULT_QUEUE_PER_THREAD} tasks per thread are allowed to wait; zero queue size means no waiting at all).
+ * Executors are shut down together with application (managed by dropwizard lifecycle).
+ * <p>
+ * On java 21 and above, executors could use virtual threads: {@code builder.useVirtualThreads()}.
+ * In this case executor threads count is used as concurrency limit (no queue). On older java option is ignored.
+ *
+ * @author Vyacheslav Rusakov
+ * @see Offload
+ * @since 19.10.2018
+ */
+public final class OffloadBundle implements GuiceyBundle {
+
+    /**
+     * Default executor queue size per executor thread.
+     */
+    public static final int DEFAULT_QUEUE_PER_THREAD = 10;
+
+    private final OffloadExecutors executors = new OffloadExecutors();
+
+    private OffloadBundle() {
+    }
+
+    @Override
+    public void initialize(final GuiceyBootstrap bootstrap) {
+        bootstrap
+                // register to guarantee installer presence (e.g. in manual mode)
+                .installers(JerseyProviderInstaller.class)
+                .extensions(OffloadInvocationHandlerProvider.class)
+                .modules(new OffloadModule(executors));
+        bootstrap.environment().lifecycle().manage(executors);
+    }
+
+    /**
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Offload bundle builder.
+     */
+    public static class Builder {
+        private final OffloadBundle bundle = new OffloadBundle();
+
+        /**
+         * Register executor with default bounded queue ({@link #DEFAULT_QUEUE_PER_THREAD} tasks per thread).
+         *
+         * @param name    executor name
+         * @param threads executor threads count
+         * @return builder instance for chained calls
+         */
+        public Builder executor(final String name, final int threads) {
+            return executor(name, threads, threads * DEFAULT_QUEUE_PER_THREAD);
+        }
+
+        /**
+         * Register executor with bounded queue.
+         *
+         * @param name    executor name
+         * @param threads executor threads count
+         * @param queue   maximum amount of waiting tasks (0 to reject tasks when all threads are busy)
+         * @return builder instance for chained calls
+         */
+        public Builder executor(final String name, final int threads, final int queue) {
+            bundle.executors.register(name, threads, queue);
+            return this;
+        }
+
+        /**
+         * Use virtual threads (if supported by current java) for all executors.
+         *
+         * @return builder instance for chained calls
+         */
+        public Builder useVirtualThreads() {
+            bundle.executors.useVirtualThreads();
+            return this;
+        }
+
+        /**
+         * @return configured bundle instance
+         */
+        public OffloadBundle build() {
+            return bundle;
+        }
+    }
+
+    /**
+     * Guice module with executors binding.
+     */
+    public static class OffloadModule extends AbstractModule {
+        private final OffloadExecutors executors;
+
+        public OffloadModule(final OffloadExecutors executors) {
+            this.executors = executors;
+        }
+
+        @Override
+        protected void configure() {
+            bind(OffloadExecutors.class).toInstance(executors);
+        }
+    }
+}
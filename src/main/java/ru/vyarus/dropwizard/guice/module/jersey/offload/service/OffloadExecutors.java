@@ -0,0 +1,170 @@
+package ru.vyarus.dropwizard.guice.module.jersey.offload.service;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Named executors for {@link ru.vyarus.dropwizard.guice.module.jersey.offload.Offload} methods. Executors are
+ * created on application start and shut down on application stop.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class OffloadExecutors implements Managed {
+    private static final int SHUTDOWN_TIMEOUT = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(OffloadExecutors.class);
+
+    private final Map<String, ExecutorConfig> config = new LinkedHashMap<>();
+    private final Map<String, Executor> executors = new LinkedHashMap<>();
+    private final List<ExecutorService> services = new ArrayList<>();
+    private boolean virtual;
+
+    /**
+     * @param name    executor name
+     * @param threads executor threads count
+     * @param queue   maximum amount of waiting tasks
+     */
+    public void register(final String name, final int threads, final int queue) {
+        Preconditions.checkArgument(threads > 0, "Executor %s threads count must be positive", name);
+        Preconditions.checkArgument(queue >= 0, "Executor %s queue size must not be negative", name);
+        Preconditions.checkState(config.put(name, new ExecutorConfig(threads, queue)) == null,
+                "Duplicate offload executor declaration: %s", name);
+    }
+
+    /**
+     * Use virtual threads when available.
+     */
+    public void useVirtualThreads() {
+        this.virtual = true;
+    }
+
+    /**
+     * @return registered executor names
+     */
+    public List<String> getNames() {
+        return new ArrayList<>(config.keySet());
+    }
+
+    /**
+     * @param name executor name
+     * @return executor instance
+     * @throws IllegalStateException if executor is not registered or not started yet
+     */
+    public Executor get(final String name) {
+        Preconditions.checkState(config.containsKey(name), "Unknown offload executor '%s'. Registered: %s",
+                name, config.keySet());
+        final Executor executor = executors.get(name);
+        Preconditions.checkState(executor != null, "Offload executor '%s' is not started", name);
+        return executor;
+    }
+
+    @Override
+    public void start() throws Exception {
+        final boolean useVirtual = virtual && isVirtualThreadsSupported();
+        if (virtual && !useVirtual) {
+            logger.info("Virtual threads are not supported by current java: platform threads used for "
+                    + "offload executors");
+        }
+        for (Map.Entry<String, ExecutorConfig> entry : config.entrySet()) {
+            final String name = entry.getKey();
+            final ExecutorConfig conf = entry.getValue();
+            executors.put(name, useVirtual ? virtualExecutor(conf.threads)
+                    : platformExecutor(name, conf.threads, conf.queue));
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        for (ExecutorService service : services) {
+            service.shutdown();
+        }
+        for (ExecutorService service : services) {
+            if (!service.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                service.shutdownNow();
+            }
+        }
+        services.clear();
+        executors.clear();
+    }
+
+    private Executor platformExecutor(final String name, final int threads, final int queue) {
+        // no waiting tasks allowed with zero queue
+        final BlockingQueue<Runnable> tasks = queue == 0
+                ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queue);
+        final ExecutorService service = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, tasks,
+                new ThreadFactoryBuilder().setNameFormat("offload-" + name + "-%d").setDaemon(true).build());
+        services.add(service);
+        return service;
+    }
+
+    /**
+     * Virtual threads executor creates new thread for each task, so concurrency is limited with semaphore.
+     *
+     * @param threads maximum concurrent tasks
+     * @return executor, limiting concurrency
+     */
+    private Executor virtualExecutor(final int threads) throws Exception {
+        final ExecutorService service = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        services.add(service);
+        final Semaphore permits = new Semaphore(threads);
+        return task -> {
+            if (!permits.tryAcquire()) {
+                throw new RejectedExecutionException("Offload executor concurrency limit reached");
+            }
+            try {
+                service.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                permits.release();
+                throw ex;
+            }
+        };
+    }
+
+    private static boolean isVirtualThreadsSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Executor declaration.
+     */
+    private static class ExecutorConfig {
+        private final int threads;
+        private final int queue;
+
+        ExecutorConfig(final int threads, final int queue) {
+            this.threads = threads;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package ru.vyarus.dropwizard.guice.module.jersey.offload.service;
+
+import com.google.inject.servlet.ServletScopes;
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.jersey.process.internal.RequestScope;
+import org.glassfish.jersey.server.internal.process.AsyncContext;
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.spi.internal.ResourceMethodInvocationHandlerProvider;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
+import ru.vyarus.dropwizard.guice.module.context.option.Options;
+import ru.vyarus.dropwizard.guice.module.installer.feature.jersey.GuiceManaged;
+import ru.vyarus.dropwizard.guice.module.jersey.offload.Offload;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import javax.servlet.DispatcherType;
+import javax.ws.rs.ServiceUnavailableException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Jersey resource method invocation handler provider for {@link Offload} annotated methods. Handler suspends
+ * request and executes method on named executor (with transferred guice and jersey request scopes). Method result
+ * resumes request.
+ * <p>
+ * Handler is resolved once for each method, when jersey builds resource model, so not annotated methods are not
+ * affected at all.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.dropwizard.guice.module.jersey.offload.OffloadBundle
+ * @since 19.10.2018
+ */
+@javax.ws.rs.ext.Provider
+@GuiceManaged
+@Singleton
+public class OffloadInvocationHandlerProvider implements ResourceMethodInvocationHandlerProvider {
+
+    private final OffloadExecutors executors;
+    private final Provider<AsyncContext> asyncContext;
+    private final Provider<ServiceLocator> locator;
+    private final boolean guiceServletSupport;
+
+    @Inject
+    public OffloadInvocationHandlerProvider(final OffloadExecutors executors,
+                                            final Provider<AsyncContext> asyncContext,
+                                            final Provider<ServiceLocator> locator,
+                                            final Options options) {
+        this.executors = executors;
+        this.asyncContext = asyncContext;
+        this.locator = locator;
+        final EnumSet<DispatcherType> types = options.get(GuiceyOptions.GuiceFilterRegistration);
+        this.guiceServletSupport = !types.isEmpty();
+    }
+
+    @Override
+    public InvocationHandler create(final Invocable invocable) {
+        final Method method = invocable.getHandlingMethod();
+        Offload offload = method.getAnnotation(Offload.class);
+        if (offload == null) {
+            offload = invocable.getHandler().getHandlerClass().getAnnotation(Offload.class);
+        }
+        return offload == null ? null
+                : new OffloadHandler(executors.get(offload.value()), locator.get().getService(RequestScope.class));
+    }
+
+    /**
+     * Executes method on executor thread.
+     */
+    private class OffloadHandler implements InvocationHandler {
+        private final Executor executor;
+        private final RequestScope requestScope;
+
+        OffloadHandler(final Executor executor, final RequestScope requestScope) {
+            this.executor = executor;
+            this.requestScope = requestScope;
+        }
+
+        @Override
+        @SuppressWarnings({"PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+        public Object invoke(final Object instance, final Method method, final Object[] args) throws Throwable {
+            final AsyncContext async = asyncContext.get();
+            if (!async.suspend()) {
+                throw new IllegalStateException("Failed to suspend request for offloaded method "
+                        + method.getDeclaringClass().getName() + "." + method.getName());
+            }
+            final Callable<Object> call = guiceServletSupport
+                    ? ServletScopes.transferRequest(() -> method.invoke(instance, args))
+                    : () -> method.invoke(instance, args);
+            final RequestScope.Instance scope = requestScope.referenceCurrent();
+            try {
+                executor.execute(() -> {
+                    try {
+                        async.resume(requestScope.runInScope(scope, call));
+                    } catch (InvocationTargetException ex) {
+                        async.resume(ex.getCause());
+                    } catch (Throwable ex) {
+                        // errors must also resume request (otherwise it would wait forever)
+                        async.resume(ex);
+                    } finally {
+                        scope.release();
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                scope.release();
+                async.resume(new ServiceUnavailableException());
+            }
+            // actual response will be provided with resume
+            return null;
+        }
+    }
+}
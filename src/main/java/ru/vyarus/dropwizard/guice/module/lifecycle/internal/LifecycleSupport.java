@@ -10,9 +10,13 @@ import io.dropwizard.setup.Environment;
 import org.glassfish.hk2.api.ServiceLocator;
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
 import ru.vyarus.dropwizard.guice.module.context.option.Options;
+import ru.vyarus.dropwizard.guice.module.context.stat.StartupTrace;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer;
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
 import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycle;
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleAdapter;
 import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleListener;
 import ru.vyarus.dropwizard.guice.module.lifecycle.event.GuiceyLifecycleEvent;
 import ru.vyarus.dropwizard.guice.module.lifecycle.event.configuration.ConfigurationHooksProcessedEvent;
@@ -23,10 +27,20 @@ import ru.vyarus.dropwizard.guice.module.lifecycle.event.hk.HK2ExtensionsInstall
 import ru.vyarus.dropwizard.guice.module.lifecycle.event.run.*;
 import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.function.Supplier;
+
+import static ru.vyarus.dropwizard.guice.module.context.stat.Stat.ListenersTime;
+import static ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycle.*;
 
 /**
  * Lifecycle broadcast internal support.
+ * <p>
+ * Listeners are registered per event type: {@link GuiceyLifecycleAdapter} subclasses are subscribed only to events
+ * with overridden handler methods (other listeners receive all events). Event object is not created at all when
+ * there are no subscribers for event. Each listener execution time is tracked (for startup stats report).
  *
  * @author Vyacheslav Rusakov
  * @since 17.04.2018
@@ -35,6 +49,7 @@ import java.util.*;
 public final class LifecycleSupport {
 
     private final Options options;
+    private final StatsTracker tracker;
     private Bootstrap bootstrap;
     private Configuration configuration;
     private ConfigurationTree configurationTree;
@@ -43,15 +58,19 @@ public final class LifecycleSupport {
     private ServiceLocator locator;
     private GuiceyLifecycle currentStage;
 
-    private final List<GuiceyLifecycleListener> listeners = new ArrayList<>();
+    private final Map<GuiceyLifecycle, List<GuiceyLifecycleListener>> listeners =
+            new EnumMap<>(GuiceyLifecycle.class);
 
-    public LifecycleSupport(final Options options) {
+    public LifecycleSupport(final Options options, final StatsTracker tracker) {
         this.options = options;
+        this.tracker = tracker;
     }
 
     public void register(final GuiceyLifecycleListener... listeners) {
         Arrays.asList(listeners).forEach(l -> {
-            this.listeners.add(l);
+            for (GuiceyLifecycle event : getSubscribedEvents(l)) {
+                this.listeners.computeIfAbsent(event, k -> new ArrayList<>()).add(l);
+            }
             if (l instanceof GuiceyConfigurationHook) {
                 Preconditions.checkState(isBefore(GuiceyLifecycle.ConfigurationHooksProcessed),
                         "Can't register listener as hook because hooks "
@@ -63,12 +82,12 @@ public final class LifecycleSupport {
 
     public void configurationHooksProcessed(final Set<GuiceyConfigurationHook> hooks) {
         if (hooks != null && !hooks.isEmpty()) {
-            broadcast(new ConfigurationHooksProcessedEvent(options, hooks));
+            broadcast(ConfigurationHooksProcessed, () -> new ConfigurationHooksProcessedEvent(options, hooks));
         }
     }
 
     public void initialization(final Bootstrap bootstrap, final List<Command> installed) {
-        broadcast(new InitializationEvent(options, bootstrap,
+        broadcast(Initialization, () -> new InitializationEvent(options, bootstrap,
                 installed != null ? installed : Collections.emptyList()));
         this.bootstrap = bootstrap;
     }
@@ -76,7 +95,8 @@ public final class LifecycleSupport {
     public void runPhase(final Configuration configuration,
                          final ConfigurationTree configurationTree,
                          final Environment environment) {
-        broadcast(new BeforeRunEvent(options, bootstrap, configuration, configurationTree, environment));
+        broadcast(BeforeRun, () -> new BeforeRunEvent(options, bootstrap,
+                configuration, configurationTree, environment));
         this.configuration = configuration;
         this.configurationTree = configurationTree;
         this.environment = environment;
@@ -84,44 +104,44 @@ public final class LifecycleSupport {
 
     public void bundlesFromDwResolved(final List<GuiceyBundle> bundles) {
         if (!bundles.isEmpty()) {
-            broadcast(new BundlesFromDwResolvedEvent(options, bootstrap,
+            broadcast(BundlesFromDwResolved, () -> new BundlesFromDwResolvedEvent(options, bootstrap,
                     configuration, configurationTree, environment, bundles));
         }
     }
 
     public void bundlesFromLookupResolved(final List<GuiceyBundle> bundles) {
         if (!bundles.isEmpty()) {
-            broadcast(new BundlesFromLookupResolvedEvent(options, bootstrap,
+            broadcast(BundlesFromLookupResolved, () -> new BundlesFromLookupResolvedEvent(options, bootstrap,
                     configuration, configurationTree, environment, bundles));
         }
     }
 
     public void bundlesResolved(final List<GuiceyBundle> bundles, final List<GuiceyBundle> disabled) {
-        broadcast(new BundlesResolvedEvent(options, bootstrap,
+        broadcast(BundlesResolved, () -> new BundlesResolvedEvent(options, bootstrap,
                 configuration, configurationTree, environment, bundles, disabled));
     }
 
     public void bundlesProcessed(final List<GuiceyBundle> bundles, final List<GuiceyBundle> disabled) {
         if (!bundles.isEmpty()) {
-            broadcast(new BundlesProcessedEvent(options, bootstrap,
+            broadcast(BundlesProcessed, () -> new BundlesProcessedEvent(options, bootstrap,
                     configuration, configurationTree, environment, bundles, disabled));
         }
     }
 
     public void injectorCreation(final List<Module> modules, final List<Module> overriding,
                                  final List<Module> disabled) {
-        broadcast(new InjectorCreationEvent(options, bootstrap,
+        broadcast(InjectorCreation, () -> new InjectorCreationEvent(options, bootstrap,
                 configuration, configurationTree, environment, modules, overriding, disabled));
     }
 
     public void installersResolved(final List<FeatureInstaller> installers,
                                    final List<Class<? extends FeatureInstaller>> disabled) {
-        broadcast(new InstallersResolvedEvent(options, bootstrap,
+        broadcast(InstallersResolved, () -> new InstallersResolvedEvent(options, bootstrap,
                 configuration, configurationTree, environment, installers, disabled));
     }
 
     public void extensionsResolved(final List<Class<?>> extensions, final List<Class<?>> disabled) {
-        broadcast(new ExtensionsResolvedEvent(options, bootstrap,
+        broadcast(ExtensionsResolved, () -> new ExtensionsResolvedEvent(options, bootstrap,
                 configuration, configurationTree, environment, extensions, disabled));
     }
 
@@ -132,26 +152,26 @@ public final class LifecycleSupport {
     public void extensionsInstalled(final Class<? extends FeatureInstaller> installer,
                                     final List<Class<?>> installed) {
         if (installed != null && !installed.isEmpty()) {
-            broadcast(new ExtensionsInstalledByEvent(options, bootstrap,
+            broadcast(ExtensionsInstalledBy, () -> new ExtensionsInstalledByEvent(options, bootstrap,
                     configuration, configurationTree, environment, injector, installer, installed));
         }
     }
 
     public void extensionsInstalled(final List<Class<?>> extensions) {
         if (!extensions.isEmpty()) {
-            broadcast(new ExtensionsInstalledEvent(options, bootstrap,
+            broadcast(ExtensionsInstalled, () -> new ExtensionsInstalledEvent(options, bootstrap,
                     configuration, configurationTree, environment, injector, extensions));
         }
     }
 
     public void applicationRun() {
-        broadcast(new ApplicationRunEvent(options, bootstrap,
+        broadcast(ApplicationRun, () -> new ApplicationRunEvent(options, bootstrap,
                 configuration, configurationTree, environment, injector));
     }
 
 
     public void hk2Configuration(final ServiceLocator locator) {
-        broadcast(new HK2ConfigurationEvent(options, bootstrap,
+        broadcast(HK2Configuration, () -> new HK2ConfigurationEvent(options, bootstrap,
                 configuration, configurationTree, environment, injector, locator));
         this.locator = locator;
     }
@@ -160,14 +180,14 @@ public final class LifecycleSupport {
     public void hk2ExtensionsInstalled(final Class<? extends FeatureInstaller> installer,
                                        final List<Class<?>> installed) {
         if (installed != null && !installed.isEmpty()) {
-            broadcast(new HK2ExtensionsInstalledByEvent(options, bootstrap,
+            broadcast(HK2ExtensionsInstalledBy, () -> new HK2ExtensionsInstalledByEvent(options, bootstrap,
                     configuration, configurationTree, environment, injector, locator, installer, installed));
         }
     }
 
     public void hk2ExtensionsInstalled(final List<Class<?>> extensions) {
         if (!extensions.isEmpty()) {
-            broadcast(new HK2ExtensionsInstalledEvent(options, bootstrap,
+            broadcast(HK2ExtensionsInstalled, () -> new HK2ExtensionsInstalledEvent(options, bootstrap,
                     configuration, configurationTree, environment, injector, locator, extensions));
         }
     }
@@ -187,8 +207,64 @@ public final class LifecycleSupport {
         return getStage() == null || getStage().ordinal() < lifecycle.ordinal();
     }
 
-    private void broadcast(final GuiceyLifecycleEvent event) {
-        listeners.forEach(l -> l.onEvent(event));
-        currentStage = event.getType();
+    /**
+     * @param type  event type
+     * @param event event factory (called only if event has subscribers)
+     */
+    private void broadcast(final GuiceyLifecycle type, final Supplier<GuiceyLifecycleEvent> event) {
+        final List<GuiceyLifecycleListener> subscribers = listeners.get(type);
+        if (subscribers != null) {
+            final StartupTrace.Span span = tracker.trace().begin(StartupTrace.LIFECYCLE, type.name());
+            try {
+                final GuiceyLifecycleEvent instance = event.get();
+                for (GuiceyLifecycleListener listener : subscribers) {
+                    final StatTimer total = tracker.timer(ListenersTime);
+                    final StatTimer timer = tracker.listenerTimer(listener.getClass());
+                    try {
+                        listener.onEvent(instance);
+                    } finally {
+                        timer.stop();
+                        total.stop();
+                    }
+                }
+            } finally {
+                span.end();
+            }
+        }
+        currentStage = type;
+    }
+
+    /**
+     * Adapter subclasses receive only events with overridden handler methods (if adapter's
+     * {@link GuiceyLifecycleAdapter#onEvent(GuiceyLifecycleEvent)} method is not overridden).
+     *
+     * @param listener listener instance
+     * @return events, required by listener
+     */
+    private static Set<GuiceyLifecycle> getSubscribedEvents(final GuiceyLifecycleListener listener) {
+        if (!(listener instanceof GuiceyLifecycleAdapter)) {
+            return EnumSet.allOf(GuiceyLifecycle.class);
+        }
+        final Set<GuiceyLifecycle> res = EnumSet.noneOf(GuiceyLifecycle.class);
+        Class<?> type = listener.getClass();
+        while (type != GuiceyLifecycleAdapter.class) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+                    continue;
+                }
+                final Class<?> param = method.getParameterTypes()[0];
+                if (param == GuiceyLifecycleEvent.class) {
+                    // onEvent overridden
+                    return EnumSet.allOf(GuiceyLifecycle.class);
+                }
+                for (GuiceyLifecycle event : GuiceyLifecycle.values()) {
+                    if (event.getType() == param) {
+                        res.add(event);
+                    }
+                }
+            }
+            type = type.getSuperclass();
+        }
+        return res;
     }
 }
@@ -1,5 +1,7 @@
 package ru.vyarus.dropwizard.guice.module.yaml;
 
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Primitives;
 import ru.vyarus.java.generics.resolver.context.container.ParameterizedTypeImpl;
 import ru.vyarus.java.generics.resolver.util.GenericsUtils;
 import ru.vyarus.java.generics.resolver.util.TypeToStringUtils;
@@ -8,6 +10,7 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -34,6 +37,8 @@ public class ConfigPath {
     private final List<ConfigPath> children = new ArrayList<>();
     // configuration class where it was declared (may be sub object class)
     private final Class declarationClass;
+    // configuration class where entire path started (resolved once as root chain is immutable)
+    private final Class<?> rootDeclarationClass;
     // class declaration (except Object case, when type could be resolved from instance)
     private final Class declaredType;
     // actual value type
@@ -44,6 +49,8 @@ public class ConfigPath {
     private final Object value;
     private final boolean customType;
     private final boolean objectDeclaration;
+    // property value accessor (generated once for configuration class property)
+    private final Function<Object, Object> accessor;
 
     @SuppressWarnings({"checkstyle:ParameterNumber", "PMD.ExcessiveParameterList"})
     public ConfigPath(
@@ -57,6 +64,23 @@ public class ConfigPath {
             final Object value,
             final boolean customType,
             final boolean objectDeclaration) {
+        this(root, declarationClass, declaredType, valueType, declaredTypeGenerics, valueTypeGenerics,
+                path, value, customType, objectDeclaration, null);
+    }
+
+    @SuppressWarnings({"checkstyle:ParameterNumber", "PMD.ExcessiveParameterList"})
+    public ConfigPath(
+            final ConfigPath root,
+            final Class<?> declarationClass,
+            final Class<?> declaredType,
+            final Class<?> valueType,
+            final List<Type> declaredTypeGenerics,
+            final List<Type> valueTypeGenerics,
+            final String path,
+            final Object value,
+            final boolean customType,
+            final boolean objectDeclaration,
+            final Function<Object, Object> accessor) {
         this.declarationClass = declarationClass;
         this.declaredType = declaredType;
         this.valueType = valueType;
@@ -67,6 +91,8 @@ public class ConfigPath {
         this.customType = customType;
         this.objectDeclaration = objectDeclaration;
         this.root = root;
+        this.accessor = accessor;
+        this.rootDeclarationClass = root == null ? declarationClass : root.getRootDeclarationClass();
     }
 
     /**
@@ -164,6 +190,38 @@ public class ConfigPath {
         return value;
     }
 
+    /**
+     * Typed value access to avoid manual casts. Primitive types are supported (e.g. {@code getValue(int.class)}),
+     * but null value will be returned for null property.
+     *
+     * @param type expected value type
+     * @param <T>  value type
+     * @return property value (may be null)
+     * @throws ClassCastException if value is not compatible with provided type
+     */
+    public <T> T getValue(final Class<T> type) {
+        return Primitives.wrap(type).cast(value);
+    }
+
+    /**
+     * Reads current path value from provided configuration instance using property accessors, generated during
+     * configuration introspection (no reflection involved). Useful to read value from different configuration
+     * instance of the same type (e.g. reloaded configuration) without full configuration analysis.
+     * <p>
+     * Null is returned when any object in path is null.
+     *
+     * @param configuration configuration instance (of {@link #getRootDeclarationClass()} type)
+     * @param <T>           value type
+     * @return path value from provided configuration (may be null)
+     * @throws IllegalStateException if path was not created by configuration introspection
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue(final Object configuration) {
+        Preconditions.checkState(accessor != null, "No value accessor available for path %s", path);
+        final Object object = root == null ? configuration : root.readValue(configuration);
+        return object == null ? null : (T) accessor.apply(object);
+    }
+
     /**
      * Type considered custom when it's not primitive, collection and few other simple types. In essence, this is
      * type which contains (or might contain) sub paths.
@@ -214,11 +272,7 @@ public class ConfigPath {
      * @return root configuration class where entire path started
      */
     public Class getRootDeclarationClass() {
-        ConfigPath res = this;
-        while (res.getRoot() != null) {
-            res = res.getRoot();
-        }
-        return res.getDeclarationClass();
+        return rootDeclarationClass;
     }
 
     /**
@@ -1,11 +1,14 @@
 package ru.vyarus.dropwizard.guice.module.yaml;
 
 import com.fasterxml.jackson.databind.SerializationConfig;
-import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
 import com.fasterxml.jackson.databind.introspect.BasicBeanDescription;
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.google.common.base.CharMatcher;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.primitives.Primitives;
@@ -16,9 +19,16 @@ import io.dropwizard.util.Size;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 import ru.vyarus.java.generics.resolver.context.GenericsContext;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Analyzes configuration instance, prepared by dropwizard, in order to be able to use configuration
@@ -40,6 +50,11 @@ import java.util.*;
  * Common collection types are projected to base interfaces. E.g. even if property declaration would be
  * {@code ArrayList<String>}, binding declaration would be {@code List<String>} (but value type will remain
  * {@code ArrayList<String>} even if no value available).
+ * <p>
+ * Introspected properties are cached per class, so repeated analysis of the same configuration classes (e.g.
+ * repeated application startups in the same jvm) does not perform jackson introspection again. Note that
+ * cached properties are computed with the object mapper used for the first introspection of class (it's
+ * assumed that jackson visibility configuration is the same for all applications in jvm).
  *
  * @author Vyacheslav Rusakov
  * @since 04.05.2018
@@ -68,6 +83,21 @@ public final class ConfigTreeBuilder {
             List.class, Set.class, Map.class, Multimap.class
     );
 
+    /**
+     * Introspected serializable properties cache. Class value used to not prevent classes unloading.
+     * Properties are cached per serialization config (weak identity keys) because introspection result depends
+     * on mapper configuration (naming strategy, mixins, visibility). Config object is immutable and changed
+     * on each mapper re-configuration.
+     */
+    private static final ClassValue<ConcurrentMap<SerializationConfig, List<PropertyInfo>>> PROPERTIES =
+            new ClassValue<ConcurrentMap<SerializationConfig, List<PropertyInfo>>>() {
+                @Override
+                protected ConcurrentMap<SerializationConfig, List<PropertyInfo>> computeValue(final Class<?> type) {
+                    return CacheBuilder.newBuilder().weakKeys()
+                            .<SerializationConfig, List<PropertyInfo>>build().asMap();
+                }
+            };
+
     private ConfigTreeBuilder() {
     }
 
@@ -79,9 +109,29 @@ public final class ConfigTreeBuilder {
      * @return parsed configuration info
      */
     public static ConfigurationTree build(final Bootstrap bootstrap, final Configuration configuration) {
+        return build(bootstrap, configuration, -1);
+    }
+
+    /**
+     * Analyze configuration object to extract bindable parts with limited introspection. Could be used to
+     * reduce paths count for large configurations.
+     *
+     * @param bootstrap     bootstrap instance
+     * @param configuration configuration instance
+     * @param maxDepth      maximum path depth (e.g. 1 means only root level paths); negative value means no limit
+     * @param excludes      paths to avoid introspecting (path itself will be present, but not its sub paths)
+     * @return parsed configuration info
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#ConfigIntrospectionDepth
+     * @see ru.vyarus.dropwizard.guice.GuiceyOptions#ConfigIntrospectionExcludes
+     */
+    public static ConfigurationTree build(final Bootstrap<?> bootstrap,
+                                          final Configuration configuration,
+                                          final int maxDepth,
+                                          final String... excludes) {
         final List<Class> roots = resolveRootTypes(new ArrayList<>(), configuration.getClass());
         final List<ConfigPath> content = resolvePaths(
-                bootstrap.getObjectMapper().getSerializationConfig(),
+                new IntrospectionSettings(bootstrap.getObjectMapper().getSerializationConfig(),
+                        maxDepth, ImmutableSet.copyOf(excludes)),
                 null,
                 new ArrayList<>(),
                 configuration.getClass(),
@@ -123,28 +173,20 @@ public final class ConfigTreeBuilder {
      * Still, bindings may vary: for example, bound implementations may differ (best example is dropwizard server type),
      * as a consequences, parsed type may be different and so different properties paths could be recognized.
      *
-     * @param config  jackson serialization config
-     * @param content currently parsed paths
-     * @param type    analyzed part type
-     * @param object  analyzed part instance (may be null)
+     * @param settings introspection settings
+     * @param content  currently parsed paths
+     * @param type     analyzed part type
+     * @param object   analyzed part instance (may be null)
      * @return all configuration paths values
      */
-    private static List<ConfigPath> resolvePaths(final SerializationConfig config,
+    private static List<ConfigPath> resolvePaths(final IntrospectionSettings settings,
                                                  final ConfigPath root,
                                                  final List<ConfigPath> content,
                                                  final Class type,
                                                  final Object object,
                                                  final GenericsContext genericsContext) {
-        final BasicBeanDescription description = config.introspect(
-                config.constructType(type)
-        );
-
-        for (BeanPropertyDefinition prop : description.findProperties()) {
-            // ignore write-only or groovy special property
-            if (!prop.couldSerialize() || prop.getName().equals("metaClass")) {
-                continue;
-            }
-            final Object value = object == null ? null : readValue(prop.getAccessor(), object);
+        for (PropertyInfo prop : getProperties(settings.getConfig(), type)) {
+            final Object value = object == null ? null : prop.read(object);
 
             final ConfigPath item = createItem(root, prop, value, genericsContext);
             content.add(item);
@@ -152,13 +194,13 @@ public final class ConfigTreeBuilder {
                 root.getChildren().add(item);
             }
 
-            if (item.isCustomType()) {
+            if (item.isCustomType() && settings.isIntrospectionAllowed(item)) {
                 // build generics context for actual value type (if not null)
                 final GenericsContext subContext = prop.getGetter() != null
-                        ? genericsContext.method(prop.getGetter().getAnnotated()).returnTypeAs(item.getValueType())
-                        : genericsContext.fieldTypeAs(prop.getField().getAnnotated(), item.getValueType());
+                        ? genericsContext.method(prop.getGetter()).returnTypeAs(item.getValueType())
+                        : genericsContext.fieldTypeAs(prop.getField(), item.getValueType());
 
-                resolvePaths(config, item, content, item.getValueType(),
+                resolvePaths(settings, item, content, item.getValueType(),
                         item.getValue(), subContext);
             }
         }
@@ -180,20 +222,18 @@ public final class ConfigTreeBuilder {
      * </ul>
      *
      * @param root            root property (containing), may be null for roots
-     * @param prop            jackson property descriptor
+     * @param prop            property descriptor
      * @param value           property value, may be null
      * @param genericsContext generics context
      * @return path item object
      */
     private static ConfigPath createItem(final ConfigPath root,
-                                         final BeanPropertyDefinition prop,
+                                         final PropertyInfo prop,
                                          final Object value,
                                          final GenericsContext genericsContext) {
         // need generified type to resolve generics manually because jackson's generics resolution
         // couldn't handle all required cases
-        final Type type = prop.getGetter() != null
-                ? prop.getGetter().getAnnotated().getGenericReturnType()
-                : prop.getField().getAnnotated().getGenericType();
+        final Type type = prop.getGenericType();
         final Class typeClass = Primitives.wrap(genericsContext.resolveClass(type));
 
         // upper possible known type (for introspection): ideally type of actually used configuration value
@@ -211,7 +251,7 @@ public final class ConfigTreeBuilder {
 
         return new ConfigPath(
                 root,
-                prop.getAccessor().getDeclaringClass(),
+                prop.getDeclaringClass(),
                 lowerType,
                 // as an example, enum constant type could lead to anonymous class
                 upperType.isAnonymousClass() ? lowerType : upperType,
@@ -219,7 +259,8 @@ public final class ConfigTreeBuilder {
                 upperGenerics,
                 (root == null ? "" : root.getPath() + ".") + prop.getName(), value,
                 customType,
-                objectDeclared);
+                objectDeclared,
+                prop::read);
     }
 
     /**
@@ -383,21 +424,138 @@ public final class ConfigTreeBuilder {
         return res;
     }
 
-    private static Object readValue(final AnnotatedMember member, final Object object) {
-        final Object res;
-        final AccessibleObject accessor = (AccessibleObject) member.getMember();
-        // case: private field
-        if (!accessor.isAccessible()) {
-            accessor.setAccessible(true);
-            try {
-                res = member.getValue(object);
-            } finally {
-                accessor.setAccessible(false);
+    /**
+     * Jackson introspection is performed only for the first time (for each mapper configuration): after that
+     * cached properties are used.
+     *
+     * @param config jackson serialization config
+     * @param type   type to introspect
+     * @return all serializable properties of type
+     */
+    private static List<PropertyInfo> getProperties(final SerializationConfig config, final Class<?> type) {
+        final ConcurrentMap<SerializationConfig, List<PropertyInfo>> cache = PROPERTIES.get(type);
+        List<PropertyInfo> res = cache.get(config);
+        if (res == null) {
+            final BasicBeanDescription description = config.introspect(
+                    config.constructType(type)
+            );
+            final ImmutableList.Builder<PropertyInfo> builder = ImmutableList.builder();
+            for (BeanPropertyDefinition prop : description.findProperties()) {
+                // ignore write-only or groovy special property
+                if (!prop.couldSerialize() || prop.getName().equals("metaClass")) {
+                    continue;
+                }
+                builder.add(new PropertyInfo(prop));
             }
-        } else {
-            // public access (most likely getter)
-            res = member.getValue(object);
+            res = builder.build();
+            // in case of concurrent introspection, both results are equal
+            cache.putIfAbsent(config, res);
         }
         return res;
     }
+
+    /**
+     * Configuration introspection settings.
+     */
+    private static final class IntrospectionSettings {
+        private final SerializationConfig config;
+        private final int maxDepth;
+        private final Set<String> excludes;
+
+        IntrospectionSettings(final SerializationConfig config, final int maxDepth, final Set<String> excludes) {
+            this.config = config;
+            this.maxDepth = maxDepth;
+            this.excludes = excludes;
+        }
+
+        public SerializationConfig getConfig() {
+            return config;
+        }
+
+        /**
+         * @param item custom type path
+         * @return true if sub paths should be resolved, false to stop introspection
+         */
+        public boolean isIntrospectionAllowed(final ConfigPath item) {
+            final String path = item.getPath();
+            return (maxDepth < 0 || CharMatcher.is('.').countIn(path) + 1 < maxDepth)
+                    && !excludes.contains(path);
+        }
+    }
+
+    /**
+     * Cached serializable property descriptor (jackson descriptor is not cached directly because it references
+     * mapper configuration). Property value is read with method handle, created once for property (from getter or
+     * field).
+     */
+    private static final class PropertyInfo {
+        private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final String name;
+        private final Class<?> declaringClass;
+        private final Method getter;
+        private final Field field;
+        private final MethodHandle accessor;
+        private final Type genericType;
+
+        PropertyInfo(final BeanPropertyDefinition prop) {
+            this.name = prop.getName();
+            this.declaringClass = prop.getAccessor().getDeclaringClass();
+            this.getter = prop.getGetter() != null ? prop.getGetter().getAnnotated() : null;
+            this.field = prop.getField() != null ? prop.getField().getAnnotated() : null;
+            this.genericType = getter != null ? getter.getGenericReturnType() : field.getGenericType();
+            this.accessor = createAccessor(prop.getAccessor().getMember());
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        public Method getGetter() {
+            return getter;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public Type getGenericType() {
+            return genericType;
+        }
+
+        /**
+         * @param object object to read property from
+         * @return property value
+         */
+        @SuppressWarnings({"PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+        public Object read(final Object object) {
+            try {
+                return (Object) accessor.invokeExact(object);
+            } catch (Throwable ex) {
+                Throwables.throwIfUnchecked(ex);
+                throw new IllegalStateException(String.format("Failed to read configuration property %s.%s",
+                        declaringClass.getSimpleName(), name), ex);
+            }
+        }
+
+        private static MethodHandle createAccessor(final Member member) {
+            // private field or getter of not public class
+            ((AccessibleObject) member).setAccessible(true);
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                final MethodHandle handle = member instanceof Method
+                        ? lookup.unreflect((Method) member)
+                        : lookup.unreflectGetter((Field) member);
+                // generic signature to use invokeExact
+                return handle.asType(ACCESSOR_TYPE);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException("Failed to create accessor for configuration property "
+                        + member.getDeclaringClass().getSimpleName() + "." + member.getName(), ex);
+            }
+        }
+    }
 }
@@ -1,13 +1,18 @@
 package ru.vyarus.dropwizard.guice.module.yaml;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
 import io.dropwizard.Configuration;
 import ru.vyarus.dropwizard.guice.module.support.ConfigurationTreeAwareModule;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Detailed yaml configuration. This object provides direct access to sub configuration objects and
@@ -27,6 +32,9 @@ import java.util.stream.Collectors;
  * Object itself could be injected as guice bean {@code @Inject ConfigurationTree config}. Note that it did not contains
  * root configuration instance, only properties tree.
  * <p>
+ * Tree content is immutable, so all search indexes are computed once (on tree creation) and search methods
+ * may be safely used in hot code (e.g. per request). Returned search results are immutable lists.
+ * <p>
  * Also, object is accessible inside guicey bundles
  * {@link ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap#configurationTree()} and guice modules:
  * {@link ConfigurationTreeAwareModule}.
@@ -46,6 +54,19 @@ public class ConfigurationTree {
     // unique custom types from paths (could be bound by type - no duplicates)
     private final List<ConfigPath> uniqueTypePaths;
 
+    // search indexes (computed once as tree is immutable)
+    private ImmutableMap<String, ConfigPath> pathIndex;
+    private ImmutableMap<String, ConfigPath> lowerCasePathIndex;
+    // declared type and all its super types and interfaces -> custom type paths
+    private ImmutableListMultimap<Class<?>, ConfigPath> typeIndex;
+    // the same as type index, but only not null values
+    private ImmutableListMultimap<Class<?>, Object> valueIndex;
+    private ImmutableListMultimap<Class<?>, ConfigPath> rootClassIndex;
+    private ImmutableListMultimap<Class<?>, ConfigPath> rootPathsIndex;
+    private ImmutableList<ConfigPath> rootPaths;
+    // unique declared type -> not null value
+    private ImmutableMap<Class<?>, Object> uniqueTypeIndex;
+
     public ConfigurationTree(final List<Class> rootTypes,
                              final List<ConfigPath> paths,
                              final List<ConfigPath> uniqueTypePaths) {
@@ -54,6 +75,7 @@ public class ConfigurationTree {
         this.uniqueTypePaths = uniqueTypePaths;
         // sort by configuration class and path name for predictable order
         sortContent();
+        buildIndexes();
     }
 
     /**
@@ -102,10 +124,9 @@ public class ConfigurationTree {
      * @return path descriptor or null if not found
      */
     public ConfigPath findByPath(final String path) {
-        return paths.stream()
-                .filter(it -> it.getPath().equalsIgnoreCase(path))
-                .findFirst()
-                .orElse(null);
+        // exact case match is the most common case and does not require new string creation
+        final ConfigPath res = pathIndex.get(path);
+        return res != null ? res : lowerCasePathIndex.get(path.toLowerCase(Locale.ENGLISH));
     }
 
     /**
@@ -122,10 +143,7 @@ public class ConfigurationTree {
      * @return all paths with the same or sub type for specified type or empty list
      */
     public List<ConfigPath> findAllByType(final Class<?> type) {
-        return paths.stream()
-                // do not allow search for all booleans or integers (completely meaningless)
-                .filter(it -> it.isCustomType() && type.isAssignableFrom(it.getDeclaredType()))
-                .collect(Collectors.toList());
+        return typeIndex.get(type);
     }
 
     /**
@@ -141,9 +159,7 @@ public class ConfigurationTree {
      * @return all properties declared in (originated in for sub object paths) required configuration class.
      */
     public List<ConfigPath> findAllFrom(final Class<? extends Configuration> confType) {
-        return paths.stream()
-                .filter(it -> it.getRootDeclarationClass() == confType)
-                .collect(Collectors.toList());
+        return rootClassIndex.get(confType);
     }
 
     /**
@@ -153,9 +169,7 @@ public class ConfigurationTree {
      * @see #findAllRootPathsFrom(Class)
      */
     public List<ConfigPath> findAllRootPaths() {
-        return paths.stream()
-                .filter(it -> !it.getPath().contains(DOT))
-                .collect(Collectors.toList());
+        return rootPaths;
     }
 
     /**
@@ -167,9 +181,7 @@ public class ConfigurationTree {
      * @see #findAllRootPaths()
      */
     public List<ConfigPath> findAllRootPathsFrom(final Class<? extends Configuration> confType) {
-        return paths.stream()
-                .filter(it -> !it.getPath().contains(DOT) && it.getRootDeclarationClass() == confType)
-                .collect(Collectors.toList());
+        return rootPathsIndex.get(confType);
     }
 
 
@@ -217,11 +229,7 @@ public class ConfigurationTree {
      */
     @SuppressWarnings("unchecked")
     public <T> List<? extends T> valuesByType(final Class<T> type) {
-        return (List<? extends T>) findAllByType(type).stream()
-                .map(ConfigPath::getValue)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
+        return (List<? extends T>) valueIndex.get(type);
     }
 
     /**
@@ -237,8 +245,7 @@ public class ConfigurationTree {
      */
     @SuppressWarnings("unchecked")
     public <T, K extends T> K valueByType(final Class<T> type) {
-        final List<ConfigPath> items = findAllByType(type)
-                .stream().filter(Objects::nonNull).collect(Collectors.toList());
+        final List<ConfigPath> items = typeIndex.get(type);
         return items.isEmpty() ? null : (K) items.get(0).getValue();
     }
 
@@ -267,10 +274,7 @@ public class ConfigurationTree {
      */
     @SuppressWarnings("unchecked")
     public <T, K extends T> K valueByUniqueDeclaredType(final Class<T> type) {
-        return (K) uniqueTypePaths.stream()
-                .filter(it -> type.equals(it.getDeclaredType()))
-                .findFirst()
-                .orElse(null);
+        return (K) uniqueTypeIndex.get(type);
     }
 
 
@@ -291,4 +295,51 @@ public class ConfigurationTree {
         paths.sort(comparator);
         uniqueTypePaths.sort(comparator);
     }
+
+    /**
+     * Build search indexes. Paths are already sorted so all indexed lists preserve paths order.
+     */
+    private void buildIndexes() {
+        final Map<String, ConfigPath> exact = new HashMap<>();
+        final Map<String, ConfigPath> lowerCase = new HashMap<>();
+        final ImmutableListMultimap.Builder<Class<?>, ConfigPath> types = ImmutableListMultimap.builder();
+        final ImmutableListMultimap.Builder<Class<?>, Object> values = ImmutableListMultimap.builder();
+        final ImmutableListMultimap.Builder<Class<?>, ConfigPath> rootClasses = ImmutableListMultimap.builder();
+        final ImmutableListMultimap.Builder<Class<?>, ConfigPath> rootClassPaths = ImmutableListMultimap.builder();
+        final ImmutableList.Builder<ConfigPath> roots = ImmutableList.builder();
+        for (ConfigPath item : paths) {
+            exact.putIfAbsent(item.getPath(), item);
+            lowerCase.putIfAbsent(item.getPath().toLowerCase(Locale.ENGLISH), item);
+            rootClasses.put(item.getRootDeclarationClass(), item);
+            if (!item.getPath().contains(DOT)) {
+                roots.add(item);
+                rootClassPaths.put(item.getRootDeclarationClass(), item);
+            }
+            // do not allow search for all booleans or integers (completely meaningless)
+            if (item.isCustomType()) {
+                final Object value = item.getValue();
+                for (Class<?> type : TypeToken.of((Class<?>) item.getDeclaredType()).getTypes().rawTypes()) {
+                    types.put(type, item);
+                    if (value != null) {
+                        values.put(type, value);
+                    }
+                }
+            }
+        }
+        final Map<Class<?>, Object> unique = new HashMap<>();
+        for (ConfigPath item : uniqueTypePaths) {
+            if (item.getValue() != null) {
+                unique.putIfAbsent(item.getDeclaredType(), item.getValue());
+            }
+        }
+
+        this.pathIndex = ImmutableMap.copyOf(exact);
+        this.lowerCasePathIndex = ImmutableMap.copyOf(lowerCase);
+        this.typeIndex = types.build();
+        this.valueIndex = values.build();
+        this.rootClassIndex = rootClasses.build();
+        this.rootPathsIndex = rootClassPaths.build();
+        this.rootPaths = roots.build();
+        this.uniqueTypeIndex = ImmutableMap.copyOf(unique);
+    }
 }
@@ -26,6 +26,10 @@ import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
  * (remained only for compatibility reasons).
  * <p>
  * {@link ConfigurationTree} instance is also bound directly to be used for custom configuration analysis.
+ * <p>
+ * Configuration paths binding could be disabled in order to bind only actually used paths
+ * (see {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BindConfigurationPathsOnDemand} and
+ * {@link ConfigPathsBindingModule}).
  *
  * @author Vyacheslav Rusakov
  * @since 04.05.2018
@@ -36,13 +40,22 @@ public class ConfigBindingModule extends AbstractModule {
     private final Configuration configuration;
     private final ConfigurationTree tree;
     private final boolean bindInterfaces;
+    private final boolean bindPaths;
 
     public ConfigBindingModule(final Configuration configuration,
                                final ConfigurationTree tree,
                                final boolean bindInterfaces) {
+        this(configuration, tree, bindInterfaces, true);
+    }
+
+    public ConfigBindingModule(final Configuration configuration,
+                               final ConfigurationTree tree,
+                               final boolean bindInterfaces,
+                               final boolean bindPaths) {
         this.configuration = configuration;
         this.tree = tree;
         this.bindInterfaces = bindInterfaces;
+        this.bindPaths = bindPaths;
     }
 
     @Override
@@ -51,7 +64,9 @@ public class ConfigBindingModule extends AbstractModule {
 
         bindRootTypes();
         bindUniqueSubConfigurations();
-        bindValuePaths();
+        if (bindPaths) {
+            bindValuePaths();
+        }
     }
 
 
@@ -99,8 +114,14 @@ public class ConfigBindingModule extends AbstractModule {
         }
     }
 
+    /**
+     * Binds value or null (when value is not available).
+     *
+     * @param binding binding builder
+     * @param value   value to bind (may be null)
+     */
     @SuppressWarnings("unchecked")
-    private void toValue(final LinkedBindingBuilder binding, final Object value) {
+    static void toValue(final LinkedBindingBuilder binding, final Object value) {
         if (value != null) {
             binding.toInstance(value);
         } else {
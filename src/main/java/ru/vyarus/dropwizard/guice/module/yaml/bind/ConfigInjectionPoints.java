@@ -0,0 +1,217 @@
+package ru.vyarus.dropwizard.guice.module.yaml.bind;
+
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.ImplementedBy;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.DefaultElementVisitor;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.LinkedKeyBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.PrivateElements;
+import com.google.inject.spi.ProviderKeyBinding;
+import com.google.inject.spi.ProviderLookup;
+import com.google.inject.spi.StaticInjectionRequest;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Searches configuration paths, used in {@code @Config("path")} injection points. Used to bind only actually
+ * used configuration paths (when {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BindConfigurationPathsOnDemand}
+ * enabled).
+ * <p>
+ * Injection points are searched in recorded modules elements: bindings (bound instances, provider methods and
+ * target classes), injection requests (including static) and provider lookups. Classes, referenced by found
+ * dependencies, are analyzed too (because they could be instantiated just-in-time), so all classes, reachable from
+ * declared bindings are covered.
+ * <p>
+ * Extensions are analyzed directly, because not all extensions are bound in modules (e.g.
+ * {@link ru.vyarus.dropwizard.guice.module.installer.install.binding.LazyBinding} extensions are created
+ * just-in-time).
+ * <p>
+ * Paths, already bound in modules (e.g. in overriding module), are not returned.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class ConfigInjectionPoints {
+
+    private static final String JAVA_PACKAGE = "java.";
+
+    private ConfigInjectionPoints() {
+    }
+
+    /**
+     * @param elements   recorded modules elements
+     * @param extensions enabled extensions
+     * @return all not bound configuration paths referenced by injection points
+     */
+    public static Set<String> findPaths(final List<Element> elements, final List<Class<?>> extensions) {
+        final Collector collector = new Collector();
+        collector.visitAll(elements);
+        extensions.forEach(collector::addType);
+        collector.processQueue();
+        collector.paths.removeAll(collector.bound);
+        return collector.paths;
+    }
+
+    /**
+     * Elements visitor collecting dependency keys and analyzing them.
+     */
+    private static class Collector extends DefaultElementVisitor<Void> {
+        private final Set<String> paths = new HashSet<>();
+        private final Set<String> bound = new HashSet<>();
+        private final Set<TypeLiteral<?>> analyzed = new HashSet<>();
+        private final Deque<Key<?>> queue = new ArrayDeque<>();
+
+        public void visitAll(final List<Element> elements) {
+            for (Element element : elements) {
+                element.acceptVisitor(this);
+            }
+        }
+
+        @Override
+        public <T> Void visit(final Binding<T> binding) {
+            final String path = getPath(binding.getKey());
+            if (path != null) {
+                bound.add(path);
+            }
+            // bound type could be instantiated (untargetted binding)
+            queue.add(binding.getKey());
+            if (binding instanceof HasDependencies) {
+                addDependencies(((HasDependencies) binding).getDependencies());
+            }
+            if (binding instanceof LinkedKeyBinding) {
+                queue.add(((LinkedKeyBinding) binding).getLinkedKey());
+            } else if (binding instanceof ProviderKeyBinding) {
+                queue.add(((ProviderKeyBinding) binding).getProviderKey());
+            }
+            return null;
+        }
+
+        @Override
+        public Void visit(final InjectionRequest<?> request) {
+            addInjectionPoints(request.getInjectionPoints());
+            return null;
+        }
+
+        @Override
+        public Void visit(final StaticInjectionRequest request) {
+            addInjectionPoints(request.getInjectionPoints());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(final ProviderLookup<T> lookup) {
+            queue.add(lookup.getKey());
+            return null;
+        }
+
+        @Override
+        public <T> Void visit(final MembersInjectorLookup<T> lookup) {
+            analyzeMembers(lookup.getType());
+            return null;
+        }
+
+        @Override
+        public Void visit(final PrivateElements elements) {
+            visitAll(elements.getElements());
+            return null;
+        }
+
+        public void addType(final Class<?> type) {
+            queue.add(Key.get(type));
+        }
+
+        public void processQueue() {
+            while (!queue.isEmpty()) {
+                final Key<?> key = queue.poll();
+                final String path = getPath(key);
+                if (path != null) {
+                    paths.add(path);
+                }
+                analyzeType(key.getTypeLiteral());
+            }
+        }
+
+        private String getPath(final Key<?> key) {
+            String res = null;
+            if (key.getAnnotation() instanceof Config) {
+                res = ((Config) key.getAnnotation()).value();
+            }
+            return res == null || res.isEmpty() ? null : res;
+        }
+
+        private void addDependencies(final Set<Dependency<?>> dependencies) {
+            for (Dependency<?> dep : dependencies) {
+                queue.add(dep.getKey());
+            }
+        }
+
+        private void addInjectionPoints(final Set<InjectionPoint> points) {
+            for (InjectionPoint point : points) {
+                addDependencies(new HashSet<>(point.getDependencies()));
+            }
+        }
+
+        private void analyzeType(final TypeLiteral<?> type) {
+            if (!analyzed.add(type)) {
+                return;
+            }
+            // provider or collection keys could also contain types with configuration injections
+            unwrapGenerics(type);
+            final Class<?> raw = type.getRawType();
+            if (raw.isPrimitive() || raw.isArray() || raw.getName().startsWith(JAVA_PACKAGE)) {
+                return;
+            }
+            final ImplementedBy impl = raw.getAnnotation(ImplementedBy.class);
+            if (impl != null) {
+                queue.add(Key.get(impl.value()));
+            }
+            if (!raw.isInterface() && !Modifier.isAbstract(raw.getModifiers())) {
+                try {
+                    addInjectionPoints(Collections.singleton(InjectionPoint.forConstructorOf(type)));
+                } catch (ConfigurationException ignored) {
+                    // class can't be instantiated by guice
+                }
+                analyzeMembers(type);
+            }
+        }
+
+        private void analyzeMembers(final TypeLiteral<?> type) {
+            try {
+                addInjectionPoints(InjectionPoint.forInstanceMethodsAndFields(type));
+            } catch (ConfigurationException ignored) {
+                // bad injection points reported by guice during injector creation
+            }
+        }
+
+        /**
+         * Handle cases like {@code Provider<SomeType>}: generic type should be also analyzed.
+         *
+         * @param type type to search generics in
+         */
+        private void unwrapGenerics(final TypeLiteral<?> type) {
+            if (type.getType() instanceof ParameterizedType) {
+                for (Type generic : ((ParameterizedType) type.getType()).getActualTypeArguments()) {
+                    if (generic instanceof Class || generic instanceof ParameterizedType) {
+                        queue.add(Key.get(generic));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ru.vyarus.dropwizard.guice.module.yaml.bind;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Key;
+import com.google.inject.binder.LinkedBindingBuilder;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.util.Collection;
+
+/**
+ * Binds only required configuration paths (qualified with {@link Config}). Used instead of binding all
+ * configuration paths in {@link ConfigBindingModule} when
+ * {@link ru.vyarus.dropwizard.guice.GuiceyOptions#BindConfigurationPathsOnDemand} enabled. Required paths
+ * are resolved from injection points with {@link ConfigInjectionPoints}.
+ * <p>
+ * Values are bound as instances. When configuration is reloadable (
+ * {@link ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadBundle} used), values are resolved from
+ * currently bound {@link ConfigurationTree} (indexed lookup by path) on each injection.
+ * <p>
+ * Unknown paths are ignored (guice will indicate missed binding).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class ConfigPathsBindingModule extends AbstractModule {
+
+    private final ConfigurationTree tree;
+    private final Collection<String> paths;
+    private final boolean reloadable;
+
+    public ConfigPathsBindingModule(final ConfigurationTree tree,
+                                    final Collection<String> paths,
+                                    final boolean reloadable) {
+        this.tree = tree;
+        this.paths = paths;
+        this.reloadable = reloadable;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes", "PMD.AvoidInstantiatingObjectsInLoops"})
+    protected void configure() {
+        for (String path : paths) {
+            final ConfigPath item = tree.findByPath(path);
+            // path may be declared in different case, but binding must use exact requested path
+            if (item != null && item.getPath().equals(path)) {
+                final LinkedBindingBuilder binding =
+                        bind(Key.get(item.getDeclaredTypeWithGenerics(), new ConfigImpl(item.getPath())));
+                if (reloadable) {
+                    binding.toProvider(new PathValueProvider<>(path));
+                } else {
+                    ConfigBindingModule.toValue(binding, item.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Provides configuration value from currently bound configuration tree.
+     *
+     * @param <T> value type
+     */
+    private static class PathValueProvider<T> implements Provider<T> {
+        private final String path;
+        @Inject
+        private Provider<ConfigurationTree> tree;
+
+        PathValueProvider(final String path) {
+            this.path = path;
+        }
+
+        @Override
+        public T get() {
+            return tree.get().valueByPath(path);
+        }
+
+        @Override
+        public String toString() {
+            return "config value: " + path;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package ru.vyarus.dropwizard.guice.module.yaml.constant;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.AbstractModule;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binds configuration constants holders: interfaces with methods annotated with
+ * {@link ru.vyarus.dropwizard.guice.module.yaml.bind.Config}, implemented with generated classes, storing values
+ * in static final fields (see {@link ConfigConstantsGenerator}). Intended for configuration values used in hot code
+ * (feature toggles, thresholds): JIT could constant-fold such values.
+ * <pre>{@code
+ * public interface Tuning {
+ *     @Config("limits.threshold") int threshold();
+ *     @Config("features.fastPath") boolean fastPath();
+ * }
+ *
+ * GuiceBundle.builder()
+ *      .bundles(new ConfigConstantsBundle(Tuning.class))
+ *
+ * @Inject Tuning tuning;
+ * ...
+ * if (tuning.fastPath()) ...
+ * }</pre>
+ * <p>
+ * Holder values are resolved on application startup and never change (even if configuration is reloaded with
+ * {@link ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadBundle}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class ConfigConstantsBundle implements GuiceyBundle {
+
+    private final List<Class<?>> holders;
+
+    public ConfigConstantsBundle(final Class<?>... holders) {
+        Preconditions.checkArgument(holders.length > 0, "Configuration constants holders must be specified");
+        this.holders = Arrays.asList(holders);
+    }
+
+    @Override
+    public void initialize(final GuiceyBootstrap bootstrap) {
+        bootstrap.modules(new ConfigConstantsModule(bootstrap.configurationTree(), holders));
+    }
+
+    /**
+     * Generates holders and binds them by interface.
+     */
+    public static class ConfigConstantsModule extends AbstractModule {
+        private final ConfigurationTree tree;
+        private final List<Class<?>> holders;
+
+        public ConfigConstantsModule(final ConfigurationTree tree, final List<Class<?>> holders) {
+            this.tree = tree;
+            this.holders = holders;
+        }
+
+        @Override
+        protected void configure() {
+            holders.forEach(this::bindHolder);
+        }
+
+        private <T> void bindHolder(final Class<T> holder) {
+            bind(holder).toInstance(ConfigConstantsGenerator.generate(holder, tree));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package ru.vyarus.dropwizard.guice.module.yaml.constant;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.primitives.Primitives;
+import javassist.CannotCompileException;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+import javassist.Modifier;
+import javassist.NotFoundException;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates configuration constants holder: implementation of user interface with methods annotated with
+ * {@link Config}. Each method value is stored in {@code private static final} field of generated class
+ * (primitives and strings are stored as class constants directly). Such values could be constant-folded by JIT
+ * (in contrast to instance fields, which JIT can't trust), so method call in hot loop became as cheap as constant
+ * usage.
+ * <p>
+ * Method annotation declares configuration path: {@code @Config("some.path") int some()} or unique sub configuration
+ * object: {@code @Config SubConfig sub()}. Method return type must be compatible with configuration property type.
+ * Only methods without parameters are allowed (default and static interface methods are ignored).
+ * <p>
+ * Generated class is defined in the same class loader and package as interface (so package-private interfaces could
+ * be used too). On java 9 and above, class is defined with {@code MethodHandles.Lookup.defineClass} (no reflective
+ * access to {@link ClassLoader} internals).
+ * <p>
+ * Generated holders are cached per interface and resolved values, when all values are constants (primitives,
+ * strings, enums or nulls), so repeated application startups (e.g. in tests) with the same configuration do not
+ * generate new classes. Holders with other objects (e.g. sub configuration objects) are generated for each call
+ * (objects are new for each configuration instance).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ConfigConstantsBundle
+ * @since 19.10.2018
+ */
+public final class ConfigConstantsGenerator {
+
+    private static final String HOLDER_SUFFIX = "$$GuiceyConstants";
+    private static final String FIELD_PREFIX = "VALUE_";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    // values passed to generated class static initializer (removed on read)
+    private static final Map<String, Object> VALUES = new ConcurrentHashMap<>();
+    // holder interface -> constant values -> generated holder instance
+    private static final ClassValue<Map<List<Object>, Object>> HOLDERS = new ClassValue<Map<List<Object>, Object>>() {
+        @Override
+        protected Map<List<Object>, Object> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    // java 9 api: MethodHandles.privateLookupIn(Class, Lookup) and Lookup.defineClass(byte[]) (null on java 8)
+    private static final Method PRIVATE_LOOKUP_IN = findMethod(MethodHandles.class, "privateLookupIn",
+            Class.class, MethodHandles.Lookup.class);
+    private static final Method LOOKUP_DEFINE_CLASS = findMethod(MethodHandles.Lookup.class, "defineClass",
+            byte[].class);
+
+    private ConfigConstantsGenerator() {
+    }
+
+    /**
+     * @param type holder interface
+     * @param tree configuration tree
+     * @param <T>  holder type
+     * @return generated holder instance
+     * @throws IllegalStateException if interface declaration is incorrect or configuration path not found
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T generate(final Class<T> type, final ConfigurationTree tree) {
+        Preconditions.checkState(type.isInterface(),
+                "Configuration constants holder must be an interface: %s", type.getName());
+        final List<Method> methods = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        for (Method method : type.getMethods()) {
+            if (isHolderMethod(method)) {
+                methods.add(method);
+                values.add(resolveValue(method, tree));
+            }
+        }
+        return values.stream().allMatch(ConfigConstantsGenerator::isConstant)
+                ? (T) HOLDERS.get(type).computeIfAbsent(values, key -> createHolder(type, methods, values))
+                : createHolder(type, methods, values);
+    }
+
+    /**
+     * Used by generated classes to obtain constant values. Must not be used directly.
+     *
+     * @param key value key
+     * @return value
+     */
+    public static Object take(final String key) {
+        return VALUES.remove(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T createHolder(final Class<T> type, final List<Method> methods, final List<Object> values) {
+        final String name = type.getName() + HOLDER_SUFFIX + COUNTER.incrementAndGet();
+        final ClassPool pool = new ClassPool(true);
+        pool.appendClassPath(new LoaderClassPath(type.getClassLoader()));
+        CtClass holder = null;
+        try {
+            holder = pool.makeClass(name);
+            holder.setModifiers(Modifier.PUBLIC | Modifier.FINAL);
+            holder.addInterface(pool.get(type.getName()));
+            for (int i = 0; i < methods.size(); i++) {
+                addConstant(pool, holder, methods.get(i), FIELD_PREFIX + i, values.get(i));
+            }
+            final Class<? extends T> res = (Class<? extends T>) defineClass(holder, type);
+            // static initializer executed on instance creation
+            return res.getConstructor().newInstance();
+        } catch (NotFoundException | CannotCompileException | IOException | ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to generate configuration constants holder for "
+                    + type.getName(), ex);
+        } finally {
+            VALUES.keySet().removeIf(key -> key.startsWith(name + "."));
+            if (holder != null) {
+                holder.detach();
+            }
+        }
+    }
+
+    /**
+     * Defines class in the same package (and class loader) as neighbor class. On java 9 and above private lookup
+     * is used, because javassist's reflective {@code ClassLoader.defineClass} call fails since java 16.
+     *
+     * @param holder   generated class
+     * @param neighbor class from the same package
+     * @return defined class
+     * @throws CannotCompileException on bytecode generation error
+     * @throws IOException            on bytecode generation error
+     * @throws IllegalAccessException if package is not accessible (e.g. not opened module)
+     */
+    private static Class<?> defineClass(final CtClass holder, final Class<?> neighbor)
+            throws CannotCompileException, IOException, IllegalAccessException {
+        final Class<?> res;
+        if (LOOKUP_DEFINE_CLASS != null) {
+            final byte[] bytecode = holder.toBytecode();
+            try {
+                final Object lookup = PRIVATE_LOOKUP_IN.invoke(null, neighbor, MethodHandles.lookup());
+                res = (Class<?>) LOOKUP_DEFINE_CLASS.invoke(lookup, (Object) bytecode);
+            } catch (InvocationTargetException ex) {
+                Throwables.throwIfInstanceOf(ex.getCause(), IllegalAccessException.class);
+                Throwables.throwIfUnchecked(ex.getCause());
+                throw new IllegalStateException("Failed to define class " + holder.getName(), ex.getCause());
+            }
+        } else {
+            res = holder.toClass(neighbor.getClassLoader(), neighbor.getProtectionDomain());
+        }
+        return res;
+    }
+
+    private static Method findMethod(final Class<?> type, final String name, final Class<?>... params) {
+        try {
+            return type.getMethod(name, params);
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Only constant values could be used for holder cache: such values are stable between configuration instances.
+     *
+     * @param value resolved holder value
+     * @return true if value is constant
+     */
+    private static boolean isConstant(final Object value) {
+        return value == null || value instanceof String || value instanceof Enum
+                || Primitives.isWrapperType(value.getClass());
+    }
+
+    private static boolean isHolderMethod(final Method method) {
+        if (method.isDefault() || java.lang.reflect.Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        Preconditions.checkState(method.isAnnotationPresent(Config.class),
+                "Configuration constants holder method %s.%s must be annotated with @%s",
+                method.getDeclaringClass().getSimpleName(), method.getName(), Config.class.getSimpleName());
+        Preconditions.checkState(method.getParameterCount() == 0,
+                "Configuration constants holder method %s.%s must not declare parameters",
+                method.getDeclaringClass().getSimpleName(), method.getName());
+        return true;
+    }
+
+    private static Object resolveValue(final Method method, final ConfigurationTree tree) {
+        final String path = method.getAnnotation(Config.class).value();
+        final Class<?> type = method.getReturnType();
+        final ConfigPath item;
+        if (path.isEmpty()) {
+            item = tree.getUniqueTypePaths().stream()
+                    .filter(it -> it.getDeclaredType().equals(type))
+                    .findFirst().orElse(null);
+            Preconditions.checkState(item != null, "No unique configuration object of type %s found for %s.%s",
+                    type.getSimpleName(), method.getDeclaringClass().getSimpleName(), method.getName());
+        } else {
+            item = tree.findByPath(path);
+            Preconditions.checkState(item != null, "Configuration path '%s' not found for %s.%s",
+                    path, method.getDeclaringClass().getSimpleName(), method.getName());
+        }
+        final Class<?> expected = Primitives.wrap(type);
+        final Class<?> declared = item.getDeclaredType();
+        Preconditions.checkState(expected.isAssignableFrom(Primitives.wrap(declared)),
+                "Configuration path '%s' type %s is not compatible with %s.%s return type %s",
+                item.getPath(), item.toStringDeclaredType(), method.getDeclaringClass().getSimpleName(),
+                method.getName(), type.getSimpleName());
+        final Object value = item.getValue();
+        Preconditions.checkState(value != null || !type.isPrimitive(),
+                "Configuration path '%s' value is null and can't be used for primitive %s.%s",
+                item.getPath(), method.getDeclaringClass().getSimpleName(), method.getName());
+        return value;
+    }
+
+    private static void addConstant(final ClassPool pool,
+                                    final CtClass holder,
+                                    final Method method,
+                                    final String fieldName,
+                                    final Object value) throws NotFoundException, CannotCompileException {
+        final Class<?> type = method.getReturnType();
+        final CtClass fieldType = pool.get(toJavassistName(type));
+        final CtField field = new CtField(fieldType, fieldName, holder);
+        field.setModifiers(Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL);
+        holder.addField(field, createInitializer(holder.getName() + "." + fieldName, type, value));
+        holder.addMethod(CtNewMethod.make(fieldType, method.getName(), new CtClass[0], new CtClass[0],
+                "{ return " + fieldName + "; }", holder));
+    }
+
+    @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.CyclomaticComplexity"})
+    private static CtField.Initializer createInitializer(final String key, final Class<?> type, final Object value) {
+        final CtField.Initializer res;
+        if (value == null) {
+            res = CtField.Initializer.byExpr("null");
+        } else if (type == int.class || type == short.class || type == byte.class) {
+            res = CtField.Initializer.constant(((Number) value).intValue());
+        } else if (type == char.class) {
+            res = CtField.Initializer.constant((int) (Character) value);
+        } else if (type == long.class) {
+            res = CtField.Initializer.constant((Long) value);
+        } else if (type == double.class) {
+            res = CtField.Initializer.constant((Double) value);
+        } else if (type == float.class) {
+            res = CtField.Initializer.constant((Float) value);
+        } else if (type == boolean.class) {
+            res = CtField.Initializer.constant((Boolean) value);
+        } else if (type == String.class) {
+            res = CtField.Initializer.constant((String) value);
+        } else {
+            VALUES.put(key, value);
+            res = CtField.Initializer.byExpr("(" + toJavassistName(type) + ") "
+                    + ConfigConstantsGenerator.class.getName() + ".take(\"" + key + "\")");
+        }
+        return res;
+    }
+
+    private static String toJavassistName(final Class<?> type) {
+        return type.isArray() ? toJavassistName(type.getComponentType()) + "[]" : type.getName();
+    }
+}
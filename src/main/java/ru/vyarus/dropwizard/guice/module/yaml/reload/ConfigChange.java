@@ -0,0 +1,93 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
+
+/**
+ * Configuration path change, detected after configuration reload. For simple values change means different value.
+ * For sub configuration objects (custom types) change means that object appear, disappear (become null) or
+ * its type changed (e.g. different server factory). Changed sub object properties are reported separately.
+ * <p>
+ * When path appears or disappears (because of sub object type change) one of path descriptors would be null.
+ * <p>
+ * String representation contains only path name (values are not rendered because configuration may contain
+ * secrets and changes are logged).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class ConfigChange {
+
+    private final ConfigPath oldPath;
+    private final ConfigPath newPath;
+
+    public ConfigChange(final ConfigPath oldPath, final ConfigPath newPath) {
+        this.oldPath = oldPath;
+        this.newPath = newPath;
+    }
+
+    /**
+     * @return changed path
+     */
+    public String getPath() {
+        return newPath != null ? newPath.getPath() : oldPath.getPath();
+    }
+
+    /**
+     * @return path descriptor before reload or null if path was not present
+     */
+    public ConfigPath getOldPath() {
+        return oldPath;
+    }
+
+    /**
+     * @return path descriptor after reload or null if path is not present anymore
+     */
+    public ConfigPath getNewPath() {
+        return newPath;
+    }
+
+    /**
+     * @param <T> value type
+     * @return value before reload (may be null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOldValue() {
+        return oldPath == null ? null : (T) oldPath.getValue();
+    }
+
+    /**
+     * @param <T> value type
+     * @return value after reload (may be null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getNewValue() {
+        return newPath == null ? null : (T) newPath.getValue();
+    }
+
+    /**
+     * @return true if path appeared after reload
+     */
+    public boolean isAdded() {
+        return oldPath == null;
+    }
+
+    /**
+     * @return true if path disappeared after reload
+     */
+    public boolean isRemoved() {
+        return newPath == null;
+    }
+
+    @Override
+    public String toString() {
+        final String res;
+        if (isAdded()) {
+            res = "+ " + newPath.getPath();
+        } else if (isRemoved()) {
+            res = "- " + oldPath.getPath();
+        } else {
+            res = "~ " + newPath.getPath();
+        }
+        return res;
+    }
+}
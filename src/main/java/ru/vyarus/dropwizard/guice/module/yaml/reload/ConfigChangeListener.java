@@ -0,0 +1,20 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+/**
+ * Configuration change listener. Called after configuration reload, only when at least one path changed.
+ * Listener is called synchronously in reloading thread (file watcher or admin task thread). Listener
+ * exceptions are logged and do not prevent other listeners notification.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ConfigReloader#addListener(ConfigChangeListener)
+ * @see ConfigReloadBundle.Builder#listen(ConfigChangeListener...)
+ * @since 19.10.2018
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * @param event reload event with changed paths and new configuration
+     */
+    void configChanged(ConfigReloadEvent event);
+}
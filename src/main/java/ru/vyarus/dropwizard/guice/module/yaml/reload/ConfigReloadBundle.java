@@ -0,0 +1,170 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.AbstractModule;
+import com.google.inject.Key;
+import ru.vyarus.dropwizard.guice.GuiceyOptions;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config;
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigImpl;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.service.ConfigFileWatcher;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.service.ConfigReloadTask;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.service.ConfigValueProvider;
+
+import javax.inject.Provider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enables configuration reload without application restart (e.g. to change tuning values like pool sizes
+ * or timeouts):
+ * <pre>{@code
+ * GuiceBundle.builder()
+ *      .bundles(ConfigReloadBundle.builder("config.yml")
+ *              .watchFile()
+ *              .listen(event -> { if (event.isChanged("pool.size")) ... })
+ *              .build())
+ * }</pre>
+ * Configuration file path must be the same as used for application startup (dropwizard does not provide it
+ * for bundles).
+ * <p>
+ * Reload could be triggered by:
+ * <ul>
+ * <li>Admin task: {@code POST http://localhost:8081/tasks/reload-config} (always registered)</li>
+ * <li>Configuration file change (when {@link Builder#watchFile()} enabled)</li>
+ * <li>Manually with {@link ConfigReloader} (available for injection)</li>
+ * </ul>
+ * Only changed paths are published to listeners ({@link ConfigChangeListener}), registered in bundle or
+ * directly in {@link ConfigReloader}.
+ * <p>
+ * Configuration path bindings ({@code @Config("path")}) and unique sub configuration bindings
+ * ({@code @Config SubConf}) are re-bound to providers, returning current values: use
+ * {@code @Inject @Config("path") Provider<Integer> value} to always get actual value. Also,
+ * {@code Provider<ConfigurationTree>} will return current tree. Root configuration object bindings are not changed:
+ * use {@link ConfigReloader#getConfiguration()} to access current configuration instance.
+ * <p>
+ * When {@link GuiceyOptions#BindConfigurationPathsOnDemand} enabled, paths are not re-bound (only used paths are
+ * bound and they already resolve values from current configuration tree).
+ * <p>
+ * Note that dropwizard components, configured with startup configuration (e.g. server connectors) are not
+ * affected by reload.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ConfigReloader
+ * @since 19.10.2018
+ */
+public final class ConfigReloadBundle implements GuiceyBundle {
+
+    private final String configFile;
+    private final List<ConfigChangeListener> listeners = new ArrayList<>();
+    private boolean watchFile;
+
+    private ConfigReloadBundle(final String configFile) {
+        this.configFile = configFile;
+    }
+
+    @Override
+    public void initialize(final GuiceyBootstrap bootstrap) {
+        final Integer depth = bootstrap.option(GuiceyOptions.ConfigIntrospectionDepth);
+        final String[] excludes = bootstrap.option(GuiceyOptions.ConfigIntrospectionExcludes);
+        final ConfigReloader reloader = new ConfigReloader(bootstrap.bootstrap(), configFile,
+                bootstrap.configuration(), bootstrap.configurationTree(), depth, excludes);
+        listeners.forEach(reloader::addListener);
+
+        bootstrap.modulesOverride(new ConfigReloadModule(reloader, bootstrap.configurationTree(),
+                bootstrap.option(GuiceyOptions.BindConfigurationPathsOnDemand)));
+        bootstrap.environment().admin().addTask(new ConfigReloadTask(reloader));
+        if (watchFile) {
+            bootstrap.environment().lifecycle().manage(new ConfigFileWatcher(reloader));
+        }
+    }
+
+    /**
+     * @param configFile application configuration file path
+     * @return builder instance
+     */
+    public static Builder builder(final String configFile) {
+        Preconditions.checkArgument(configFile != null && !configFile.isEmpty(),
+                "Configuration file must be specified");
+        return new Builder(configFile);
+    }
+
+    /**
+     * Configuration reload bundle builder.
+     */
+    public static class Builder {
+        private final ConfigReloadBundle bundle;
+
+        private Builder(final String configFile) {
+            this.bundle = new ConfigReloadBundle(configFile);
+        }
+
+        /**
+         * Watch configuration file changes to reload configuration automatically.
+         *
+         * @return builder instance for chained calls
+         */
+        public Builder watchFile() {
+            bundle.watchFile = true;
+            return this;
+        }
+
+        /**
+         * @param listeners configuration change listeners
+         * @return builder instance for chained calls
+         */
+        public Builder listen(final ConfigChangeListener... listeners) {
+            bundle.listeners.addAll(Arrays.asList(listeners));
+            return this;
+        }
+
+        /**
+         * @return configured bundle instance
+         */
+        public ConfigReloadBundle build() {
+            return bundle;
+        }
+    }
+
+    /**
+     * Overriding guice module: binds reloader and re-binds configuration values to providers of current values.
+     * Unique sub configuration objects are also resolved by path (known from startup configuration).
+     * Configuration paths are re-bound only if all paths were bound (on demand bindings already use current
+     * configuration tree).
+     */
+    public static class ConfigReloadModule extends AbstractModule {
+        private final ConfigReloader reloader;
+        private final ConfigurationTree tree;
+        private final boolean pathsOnDemand;
+
+        public ConfigReloadModule(final ConfigReloader reloader,
+                                  final ConfigurationTree tree,
+                                  final boolean pathsOnDemand) {
+            this.reloader = reloader;
+            this.tree = tree;
+            this.pathsOnDemand = pathsOnDemand;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+        protected void configure() {
+            bind(ConfigReloader.class).toInstance(reloader);
+            bind(ConfigurationTree.class).toProvider((Provider<ConfigurationTree>) reloader::getTree);
+
+            for (ConfigPath item : tree.getUniqueTypePaths()) {
+                bind(Key.get(item.getDeclaredTypeWithGenerics(), Config.class))
+                        .toProvider(new ConfigValueProvider<>(reloader, item.getPath()));
+            }
+            if (!pathsOnDemand) {
+                for (ConfigPath item : tree.getPaths()) {
+                    bind(Key.get(item.getDeclaredTypeWithGenerics(), new ConfigImpl(item.getPath())))
+                            .toProvider(new ConfigValueProvider<>(reloader, item.getPath()));
+                }
+            }
+        }
+    }
+}
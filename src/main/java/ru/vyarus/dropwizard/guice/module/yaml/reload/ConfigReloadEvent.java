@@ -0,0 +1,70 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import io.dropwizard.Configuration;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.List;
+
+/**
+ * Configuration reload event: contains only changed paths.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class ConfigReloadEvent {
+
+    private static final String DOT = ".";
+
+    private final Configuration configuration;
+    private final ConfigurationTree tree;
+    private final List<ConfigChange> changes;
+
+    public ConfigReloadEvent(final Configuration configuration,
+                             final ConfigurationTree tree,
+                             final List<ConfigChange> changes) {
+        this.configuration = configuration;
+        this.tree = tree;
+        this.changes = changes;
+    }
+
+    /**
+     * @param <T> configuration type
+     * @return reloaded configuration instance
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Configuration> T getConfiguration() {
+        return (T) configuration;
+    }
+
+    /**
+     * @return reloaded configuration tree
+     */
+    public ConfigurationTree getTree() {
+        return tree;
+    }
+
+    /**
+     * @return all changed paths (sorted the same way as configuration tree paths)
+     */
+    public List<ConfigChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Checks path or any of its sub paths change. For example, {@code isChanged("server")} will be true if
+     * "server.adminMaxThreads" changed.
+     *
+     * @param path configuration path
+     * @return true if path or any sub path changed, false otherwise
+     */
+    public boolean isChanged(final String path) {
+        final String prefix = path + DOT;
+        for (ConfigChange change : changes) {
+            final String changed = change.getPath();
+            if (changed.equals(path) || changed.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
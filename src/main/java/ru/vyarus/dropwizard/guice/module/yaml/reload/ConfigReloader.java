@@ -0,0 +1,206 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.Configuration;
+import io.dropwizard.configuration.ConfigurationFactory;
+import io.dropwizard.configuration.ConfigurationFactoryFactory;
+import io.dropwizard.setup.Bootstrap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigPath;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder;
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Configuration reload service. Re-parses configuration file with bootstrap's configuration factory (the same way
+ * as dropwizard does it on startup, including environment variables substitution, if configured), builds new
+ * {@link ConfigurationTree} and compares it with the current one. Registered listeners are notified only about
+ * changed paths.
+ * <p>
+ * Service is bound to guice context and could be used to access current configuration
+ * ({@link #getConfiguration()}, {@link #getTree()}), register listeners or trigger reload manually.
+ * <p>
+ * Invalid configuration (parse or validation error) is never applied: current configuration remains.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ConfigReloadBundle
+ * @since 19.10.2018
+ */
+public class ConfigReloader {
+
+    /**
+     * Default dropwizard system properties prefix for configuration overrides.
+     */
+    private static final String PROPERTY_PREFIX = "dw";
+
+    private final Logger logger = LoggerFactory.getLogger(ConfigReloader.class);
+
+    private final Bootstrap<?> bootstrap;
+    private final String configFile;
+    private final int maxDepth;
+    private final String[] excludes;
+    private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Configuration configuration;
+    private volatile ConfigurationTree tree;
+
+    public ConfigReloader(final Bootstrap<?> bootstrap,
+                          final String configFile,
+                          final Configuration configuration,
+                          final ConfigurationTree tree,
+                          final int maxDepth,
+                          final String... excludes) {
+        this.bootstrap = bootstrap;
+        this.configFile = configFile;
+        this.configuration = configuration;
+        this.tree = tree;
+        this.maxDepth = maxDepth;
+        this.excludes = excludes;
+    }
+
+    /**
+     * @return watched configuration file path
+     */
+    public String getConfigFile() {
+        return configFile;
+    }
+
+    /**
+     * @param <T> configuration type
+     * @return current configuration instance (last successfully loaded)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Configuration> T getConfiguration() {
+        return (T) configuration;
+    }
+
+    /**
+     * @return current configuration tree (last successfully loaded)
+     */
+    public ConfigurationTree getTree() {
+        return tree;
+    }
+
+    /**
+     * @param listener configuration change listener
+     */
+    public void addListener(final ConfigChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener configuration change listener to remove
+     */
+    public void removeListener(final ConfigChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Reload configuration. If nothing changed, listeners are not notified.
+     *
+     * @return changed paths or empty list if configuration not changed
+     * @throws IllegalStateException if configuration can't be loaded
+     */
+    public synchronized List<ConfigChange> reload() {
+        final Configuration config = loadConfiguration();
+        final ConfigurationTree newTree = ConfigTreeBuilder.build(bootstrap, config, maxDepth, excludes);
+        final List<ConfigChange> changes = diff(tree, newTree);
+        // always use new instance because changes in not introspected properties are not detected
+        configuration = config;
+        tree = newTree;
+        if (changes.isEmpty()) {
+            logger.debug("Configuration {} not changed", configFile);
+        } else {
+            // only path names are logged (values may contain secrets)
+            logger.info("Configuration {} reloaded with {} changed paths: {}", configFile, changes.size(), changes);
+            notifyListeners(new ConfigReloadEvent(config, newTree, changes));
+        }
+        return changes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Configuration loadConfiguration() {
+        final ConfigurationFactory<Configuration> factory =
+                ((ConfigurationFactoryFactory<Configuration>) bootstrap.getConfigurationFactoryFactory())
+                        .create((Class<Configuration>) configuration.getClass(),
+                                bootstrap.getValidatorFactory().getValidator(),
+                                bootstrap.getObjectMapper(), PROPERTY_PREFIX);
+        try {
+            return factory.build(bootstrap.getConfigurationSourceProvider(), configFile);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Failed to reload configuration " + configFile, ex);
+        }
+    }
+
+    private void notifyListeners(final ConfigReloadEvent event) {
+        for (ConfigChangeListener listener : listeners) {
+            try {
+                listener.configChanged(event);
+            } catch (Exception ex) {
+                logger.error("Configuration change listener " + listener.getClass().getName() + " failed", ex);
+            }
+        }
+    }
+
+    /**
+     * Simple values are compared by equality (or serialized form). Sub configuration objects are changed only
+     * when object appear or disappear or its type changes (sub object properties are compared separately).
+     *
+     * @param oldTree current tree
+     * @param newTree reloaded tree
+     * @return changed paths
+     */
+    private List<ConfigChange> diff(final ConfigurationTree oldTree, final ConfigurationTree newTree) {
+        final List<ConfigChange> res = new ArrayList<>();
+        for (ConfigPath item : newTree.getPaths()) {
+            final ConfigPath old = oldTree.findByPath(item.getPath());
+            if (old == null || isChanged(old, item)) {
+                res.add(new ConfigChange(old, item));
+            }
+        }
+        for (ConfigPath item : oldTree.getPaths()) {
+            if (newTree.findByPath(item.getPath()) == null) {
+                res.add(new ConfigChange(item, null));
+            }
+        }
+        return res.isEmpty() ? Collections.emptyList() : res;
+    }
+
+    private boolean isChanged(final ConfigPath old, final ConfigPath item) {
+        final boolean res;
+        if (item.isCustomType() || old.isCustomType()) {
+            res = (old.getValue() == null) != (item.getValue() == null)
+                    || !old.getValueType().equals(item.getValueType());
+        } else {
+            res = !isEqual(old.getValue(), item.getValue());
+        }
+        return res;
+    }
+
+    /**
+     * Values could contain objects without equals implementation (e.g. list of appender factories), so
+     * values are also compared by serialized form.
+     *
+     * @param one first value
+     * @param two second value
+     * @return true if values are equal
+     */
+    private boolean isEqual(final Object one, final Object two) {
+        boolean res = Objects.deepEquals(one, two);
+        if (!res && one != null && two != null) {
+            try {
+                final ObjectMapper mapper = bootstrap.getObjectMapper();
+                res = mapper.valueToTree(one).equals(mapper.valueToTree(two));
+            } catch (IllegalArgumentException ex) {
+                logger.debug("Failed to compare configuration values by serialized form", ex);
+            }
+        }
+        return res;
+    }
+}
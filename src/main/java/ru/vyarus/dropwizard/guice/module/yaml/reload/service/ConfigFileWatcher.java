@@ -0,0 +1,141 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload.service;
+
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloader;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Watches configuration file changes with NIO {@link WatchService} and triggers configuration reload.
+ * Configuration file directory is watched (watch service can't watch files) in separate daemon thread.
+ * <p>
+ * Configuration file could be a symlink (e.g. kubernetes ConfigMap volume, where files are linked through
+ * atomically swapped {@code ..data} directory link): in this case events could not mention configuration file
+ * at all. So resolved (real) file directory is also watched and, on any event, real file path, modification time
+ * and size are compared with previous state.
+ * <p>
+ * Editors may produce multiple modification events for single save: duplicate reloads are harmless because
+ * listeners are notified only when configuration actually changed.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class ConfigFileWatcher implements Managed {
+
+    private final Logger logger = LoggerFactory.getLogger(ConfigFileWatcher.class);
+
+    private final ConfigReloader reloader;
+    private final Path file;
+    private final Set<Path> watchedDirs = new HashSet<>();
+    private WatchService watcher;
+    private Thread thread;
+    private String fileState;
+
+    public ConfigFileWatcher(final ConfigReloader reloader) {
+        this.reloader = reloader;
+        this.file = Paths.get(reloader.getConfigFile()).toAbsolutePath();
+    }
+
+    @Override
+    public void start() throws Exception {
+        watcher = FileSystems.getDefault().newWatchService();
+        register(file.getParent());
+        fileState = resolveFileState();
+        thread = new Thread(this::watch, "config-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching configuration file {} for changes", file);
+    }
+
+    @Override
+    public void stop() throws Exception {
+        if (watcher != null) {
+            watcher.close();
+            thread.join();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                final WatchKey key = watcher.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (file.getFileName().equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                // symlinks could be changed without configuration file events
+                final String state = resolveFileState();
+                if (changed || !Objects.equals(fileState, state)) {
+                    fileState = state;
+                    reload();
+                }
+                if (!key.reset()) {
+                    if (key.watchable().equals(file.getParent())) {
+                        logger.warn("Configuration directory {} is not accessible anymore: stop watching",
+                                file.getParent());
+                        break;
+                    }
+                    // old symlink target directory removed
+                    watchedDirs.remove(key.watchable());
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ex) {
+            logger.debug("Configuration file watcher stopped");
+        }
+    }
+
+    /**
+     * Register directory for watching. Real file directory is also registered (if file is a symlink).
+     *
+     * @param dir directory to watch
+     * @throws IOException on registration error
+     */
+    private void register(final Path dir) throws IOException {
+        if (watchedDirs.add(dir)) {
+            dir.register(watcher, StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+    }
+
+    /**
+     * Resolves current configuration file state (real path, modification time and size). Registers real file
+     * directory for watching, if required (symlink target could change).
+     *
+     * @return file state or null if file is not accessible
+     */
+    private String resolveFileState() {
+        String res = null;
+        try {
+            final Path real = file.toRealPath();
+            register(real.getParent());
+            res = real + ":" + Files.getLastModifiedTime(real).toMillis() + ":" + Files.size(real);
+        } catch (IOException ex) {
+            logger.debug("Failed to resolve configuration file state", ex);
+        }
+        return res;
+    }
+
+    private void reload() {
+        try {
+            reloader.reload();
+        } catch (Exception ex) {
+            logger.error("Configuration reload failed (current configuration remains)", ex);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload.service;
+
+import com.google.common.collect.ImmutableMultimap;
+import io.dropwizard.servlets.tasks.Task;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigChange;
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloader;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * Admin task to reload configuration: {@code POST http://localhost:8081/tasks/reload-config}.
+ * Prints all changed paths (only names, without values).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class ConfigReloadTask extends Task {
+
+    /**
+     * Task name.
+     */
+    public static final String NAME = "reload-config";
+
+    private final ConfigReloader reloader;
+
+    public ConfigReloadTask(final ConfigReloader reloader) {
+        super(NAME);
+        this.reloader = reloader;
+    }
+
+    @Override
+    public void execute(final ImmutableMultimap<String, String> parameters,
+                        final PrintWriter output) throws Exception {
+        final List<ConfigChange> changes = reloader.reload();
+        if (changes.isEmpty()) {
+            output.println("Configuration not changed");
+        } else {
+            output.println("Changed paths:");
+            for (ConfigChange change : changes) {
+                output.println("\t" + change);
+            }
+        }
+        output.flush();
+    }
+}
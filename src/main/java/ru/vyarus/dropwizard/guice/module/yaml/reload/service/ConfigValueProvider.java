@@ -0,0 +1,34 @@
+package ru.vyarus.dropwizard.guice.module.yaml.reload.service;
+
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloader;
+
+import javax.inject.Provider;
+
+/**
+ * Provides current configuration value by path. Used for {@code @Config} bindings in reload mode, so
+ * {@code @Inject @Config("path") Provider<Integer> value} will always return actual value.
+ *
+ * @param <T> value type
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public class ConfigValueProvider<T> implements Provider<T> {
+
+    private final ConfigReloader reloader;
+    private final String path;
+
+    public ConfigValueProvider(final ConfigReloader reloader, final String path) {
+        this.reloader = reloader;
+        this.path = path;
+    }
+
+    @Override
+    public T get() {
+        return reloader.getTree().valueByPath(path);
+    }
+
+    @Override
+    public String toString() {
+        return "reloadable config value: " + path;
+    }
+}
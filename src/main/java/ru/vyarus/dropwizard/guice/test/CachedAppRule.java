@@ -0,0 +1,129 @@
+package ru.vyarus.dropwizard.guice.test;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.testing.ConfigOverride;
+import io.dropwizard.testing.junit.DropwizardAppRule;
+import org.junit.rules.ExternalResource;
+import ru.vyarus.dropwizard.guice.hook.ConfigurationHooksSupport;
+import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A JUnit rule for obtaining started application from {@link TestContextCache}: application is started
+ * only once for all test classes with the same application definition and stopped only on cache eviction
+ * (or JVM shutdown). Wrapped rule is available with {@link #getRule()}. Must be registered as class rule:
+ * <pre>{@code
+ * public static CachedAppRule<GuiceyAppRule<MyConfig>> RULE = CachedAppRule.guicey(MyApp.class, "config.yml",
+ *         Collections.emptyMap());
+ *
+ * RULE.getRule().getBean(MyService.class)
+ * }</pre>
+ * <p>Application definition consists of application class, configuration file, configuration overrides and
+ * classes of registered configuration hooks (hooks registered before rule start). Hooks are compared by class
+ * only: hooks of the same class with different state are considered equal (use different hook classes to
+ * start different applications). Cached application state is shared between tests, so tests must not rely on
+ * clean application state.</p>
+ * <p>Note that dropwizard applications keep ports bound while cached, so use random ports (0) in configuration
+ * when different dropwizard applications are cached.</p>
+ *
+ * @param <R> wrapped rule type
+ * @author Vyacheslav Rusakov
+ * @see TestContextCache
+ * @since 19.10.2018
+ */
+public class CachedAppRule<R extends ExternalResource> extends ExternalResource {
+
+    private final List<Object> definition;
+    private final Supplier<R> factory;
+    private List<Object> key;
+    private R rule;
+
+    /**
+     * @param factory    rule factory
+     * @param definition application definition (must uniquely identify application started by rule)
+     */
+    public CachedAppRule(final Supplier<R> factory, final Object... definition) {
+        this.factory = factory;
+        this.definition = Arrays.asList(definition);
+    }
+
+    /**
+     * @param applicationClass application class
+     * @param configPath       configuration file path (may be null)
+     * @param configOverrides  configuration overrides (may be empty)
+     * @param <C>              configuration type
+     * @return cached {@link GuiceyAppRule}
+     */
+    public static <C extends Configuration> CachedAppRule<GuiceyAppRule<C>> guicey(
+            final Class<? extends Application<C>> applicationClass,
+            final String configPath,
+            final Map<String, String> configOverrides) {
+        return new CachedAppRule<>(() -> new GuiceyAppRule<>(applicationClass, configPath,
+                convert(configOverrides)), GuiceyAppRule.class, applicationClass, Strings.nullToEmpty(configPath),
+                ImmutableMap.copyOf(configOverrides));
+    }
+
+    /**
+     * @param applicationClass application class
+     * @param configPath       configuration file path (may be null)
+     * @param configOverrides  configuration overrides (may be empty)
+     * @param <C>              configuration type
+     * @return cached {@link DropwizardAppRule}
+     */
+    public static <C extends Configuration> CachedAppRule<DropwizardAppRule<C>> dropwizard(
+            final Class<? extends Application<C>> applicationClass,
+            final String configPath,
+            final Map<String, String> configOverrides) {
+        return new CachedAppRule<>(() -> new DropwizardAppRule<>(applicationClass, configPath,
+                convert(configOverrides)), DropwizardAppRule.class, applicationClass,
+                Strings.nullToEmpty(configPath), ImmutableMap.copyOf(configOverrides));
+    }
+
+    /**
+     * @return started rule
+     * @throws IllegalStateException if rule is not started
+     */
+    public R getRule() {
+        Preconditions.checkState(rule != null, "Cached application is not started");
+        return rule;
+    }
+
+    @Override
+    protected void before() throws Throwable {
+        final List<Object> res = new ArrayList<>(definition);
+        // hooks state is not compared (hooks are often lambdas)
+        for (GuiceyConfigurationHook hook : ConfigurationHooksSupport.getRegistered()) {
+            res.add(hook.getClass());
+        }
+        key = Collections.unmodifiableList(res);
+        rule = TestContextCache.acquire(key, factory);
+        // hooks are not used if application was already started (avoid affecting other applications)
+        ConfigurationHooksSupport.reset();
+    }
+
+    @Override
+    protected void after() {
+        // application stays started in cache (but could be evicted now)
+        if (key != null) {
+            TestContextCache.release(key);
+        }
+        key = null;
+        rule = null;
+    }
+
+    private static ConfigOverride[] convert(final Map<String, String> overrides) {
+        return overrides.entrySet().stream()
+                .map(entry -> ConfigOverride.config(entry.getKey(), entry.getValue()))
+                .toArray(ConfigOverride[]::new);
+    }
+}
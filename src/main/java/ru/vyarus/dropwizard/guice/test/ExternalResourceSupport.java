@@ -0,0 +1,63 @@
+package ru.vyarus.dropwizard.guice.test;
+
+import org.junit.rules.ExternalResource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Utility to manually start and stop junit rules ({@link ExternalResource#before()} and
+ * {@link ExternalResource#after()} are protected). Used to use junit rules outside of junit (spock extensions,
+ * cached applications).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+public final class ExternalResourceSupport {
+
+    private static final Method BEFORE;
+    private static final Method AFTER;
+
+    static {
+        // resolve methods eagerly to speedup execution
+        try {
+            BEFORE = ExternalResource.class.getDeclaredMethod("before");
+            BEFORE.setAccessible(true);
+            AFTER = ExternalResource.class.getDeclaredMethod("after");
+            AFTER.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Failed resolve method", e);
+        }
+    }
+
+    private ExternalResourceSupport() {
+    }
+
+    /**
+     * Start rule.
+     *
+     * @param resource rule
+     * @throws Throwable rule start error
+     */
+    public static void before(final ExternalResource resource) throws Throwable {
+        invoke(BEFORE, resource);
+    }
+
+    /**
+     * Stop rule.
+     *
+     * @param resource rule
+     * @throws Throwable rule stop error
+     */
+    public static void after(final ExternalResource resource) throws Throwable {
+        invoke(AFTER, resource);
+    }
+
+    private static void invoke(final Method method, final ExternalResource resource) throws Throwable {
+        try {
+            method.invoke(resource);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
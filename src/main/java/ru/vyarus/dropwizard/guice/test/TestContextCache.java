@@ -0,0 +1,159 @@
+package ru.vyarus.dropwizard.guice.test;
+
+import org.junit.rules.ExternalResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache of started test applications (rules), shared between test classes. Application started once for the
+ * same definition (application class, configuration file, configuration overrides and hooks) and
+ * reused by all tests with the same definition (see {@link CachedAppRule}).
+ * <p>
+ * Cache is LRU-bounded: when cache is full, least recently used application is stopped. Maximum size could be
+ * changed with {@link #SIZE_PROPERTY} system property (3 by default). All cached applications are stopped on
+ * JVM shutdown.
+ * <p>
+ * Acquisitions are counted: application, acquired with {@link #acquire(List, Supplier)} and not yet released
+ * with {@link #release(List)} (e.g. used by test, running in parallel), is never evicted (cache could grow above
+ * maximum size in this case).
+ * <p>
+ * Configuration overrides are removed from system properties just after application startup (configuration is
+ * already parsed at that moment), so they could not affect other applications.
+ *
+ * @author Vyacheslav Rusakov
+ * @see CachedAppRule
+ * @since 19.10.2018
+ */
+public final class TestContextCache {
+
+    /**
+     * System property to configure maximum count of cached applications.
+     */
+    public static final String SIZE_PROPERTY = "guicey.test.cache.size";
+    private static final int DEFAULT_SIZE = 3;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestContextCache.class);
+    private static final Map<List<Object>, Entry> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+    private static boolean shutdownHook;
+
+    private TestContextCache() {
+    }
+
+    /**
+     * Returns cached (started) rule or creates and starts new rule. Returned rule must not be stopped manually.
+     * Rule must be released with {@link #release(List)} after usage.
+     *
+     * @param key     application definition
+     * @param factory rule factory
+     * @param <R>     rule type
+     * @return started rule
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <R extends ExternalResource> R acquire(final List<Object> key,
+                                                                     final Supplier<R> factory) {
+        Entry entry = CACHE.get(key);
+        if (entry == null) {
+            // stop applications before creating rule as rule could use system properties
+            evict(Math.max(Integer.getInteger(SIZE_PROPERTY, DEFAULT_SIZE), 1) - 1, false);
+            final R rule = factory.get();
+            start(rule);
+            entry = new Entry(rule);
+            CACHE.put(key, entry);
+            LOGGER.debug("Test application cached: {}", key);
+            if (!shutdownHook) {
+                Runtime.getRuntime().addShutdownHook(
+                        new Thread(TestContextCache::clear, "guicey-test-cache-shutdown"));
+                shutdownHook = true;
+            }
+        }
+        entry.users++;
+        return (R) entry.resource;
+    }
+
+    /**
+     * Release acquired rule: rule could be evicted from cache only when not used.
+     *
+     * @param key application definition
+     */
+    public static synchronized void release(final List<Object> key) {
+        final Entry entry = CACHE.get(key);
+        if (entry != null && entry.users > 0) {
+            entry.users--;
+        }
+    }
+
+    /**
+     * @return count of cached applications
+     */
+    public static synchronized int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Stops all cached applications (including used).
+     */
+    public static synchronized void clear() {
+        evict(0, true);
+    }
+
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+    private static void start(final ExternalResource resource) {
+        try {
+            ExternalResourceSupport.before(resource);
+        } catch (Throwable ex) {
+            stop(resource);
+            throw new IllegalStateException("Failed to start cached test application", ex);
+        } finally {
+            clearConfigOverrides();
+        }
+    }
+
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "checkstyle:IllegalCatch"})
+    private static void stop(final ExternalResource resource) {
+        try {
+            ExternalResourceSupport.after(resource);
+        } catch (Throwable ex) {
+            LOGGER.warn("Failed to stop cached test application", ex);
+        }
+    }
+
+    private static void evict(final int max, final boolean force) {
+        final Iterator<Entry> it = CACHE.values().iterator();
+        while (CACHE.size() > max && it.hasNext()) {
+            final Entry entry = it.next();
+            // application used by other test (in parallel) can't be stopped
+            if (force || entry.users == 0) {
+                it.remove();
+                stop(entry.resource);
+            }
+        }
+    }
+
+    private static void clearConfigOverrides() {
+        for (final Enumeration<?> props = System.getProperties().propertyNames(); props.hasMoreElements();) {
+            final String keyString = (String) props.nextElement();
+            if (keyString.startsWith("dw.")) {
+                System.clearProperty(keyString);
+            }
+        }
+    }
+
+    /**
+     * Cached application with active usages count.
+     */
+    private static class Entry {
+        private final ExternalResource resource;
+        private int users;
+
+        Entry(final ExternalResource resource) {
+            this.resource = resource;
+        }
+    }
+}
@@ -52,4 +52,14 @@ public @interface UseDropwizardApp {
      * @see GuiceyConfigurationHook for more info
      */
     Class<? extends GuiceyConfigurationHook>[] hooks() default {};
+
+    /**
+     * Cached application is started once for all test classes with the same application definition
+     * (application class, config, config overrides and hooks) and stopped only on JVM shutdown (or when
+     * evicted from cache).
+     *
+     * @return true to use cached application, false to start new application for test class
+     * @see ru.vyarus.dropwizard.guice.test.TestContextCache
+     */
+    boolean cache() default false;
 }
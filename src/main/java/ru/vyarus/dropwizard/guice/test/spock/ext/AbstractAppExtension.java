@@ -6,7 +6,9 @@ import org.spockframework.runtime.model.SpecInfo;
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
 
 import java.lang.annotation.Annotation;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base class for guicey spock extensions. Extensions use junit rules inside to avoid duplication.
@@ -63,4 +65,19 @@ public abstract class AbstractAppExtension<T extends Annotation> extends Abstrac
         }
         return configOverride;
     }
+
+    /**
+     * Utility method to convert configuration overrides from annotation to map (used for cached applications).
+     *
+     * @param overrides override annotations
+     * @return overrides map (preserving declaration order)
+     */
+    protected Map<String, String> convertOverridesToMap(
+            final ru.vyarus.dropwizard.guice.test.spock.ConfigOverride... overrides) {
+        final Map<String, String> res = new LinkedHashMap<>();
+        for (ru.vyarus.dropwizard.guice.test.spock.ConfigOverride override : overrides) {
+            res.put(override.key(), override.value());
+        }
+        return res;
+    }
 }
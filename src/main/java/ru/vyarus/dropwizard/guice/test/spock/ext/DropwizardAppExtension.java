@@ -6,6 +6,7 @@ import io.dropwizard.testing.junit.DropwizardAppRule;
 import org.junit.rules.ExternalResource;
 import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup;
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
+import ru.vyarus.dropwizard.guice.test.CachedAppRule;
 import ru.vyarus.dropwizard.guice.test.spock.UseDropwizardApp;
 
 /**
@@ -20,11 +21,18 @@ public class DropwizardAppExtension extends AbstractAppExtension<UseDropwizardAp
     protected GuiceyInterceptor.ExternalRuleAdapter buildResourceFactory(final UseDropwizardApp annotation) {
         return new GuiceyInterceptor.ExternalRuleAdapter() {
             private DropwizardAppRule rule;
+            private CachedAppRule<? extends DropwizardAppRule<?>> cached;
 
             @Override
             @SuppressWarnings("unchecked")
             public ExternalResource newResource() {
-                Preconditions.checkState(rule == null, "External resource creation could be called once.");
+                Preconditions.checkState(rule == null && cached == null,
+                        "External resource creation could be called once.");
+                if (annotation.cache()) {
+                    cached = CachedAppRule.dropwizard((Class) annotation.value(), annotation.config(),
+                            convertOverridesToMap(annotation.configOverride()));
+                    return cached;
+                }
                 rule = new DropwizardAppRule(annotation.value(), annotation.config(),
                         convertOverrides(annotation.configOverride()));
                 return rule;
@@ -32,8 +40,9 @@ public class DropwizardAppExtension extends AbstractAppExtension<UseDropwizardAp
 
             @Override
             public Injector getInjector() {
-                Preconditions.checkState(rule != null, "External resource not created.");
-                return InjectorLookup.getInjector(rule.getApplication()).get();
+                Preconditions.checkState(rule != null || cached != null, "External resource not created.");
+                final DropwizardAppRule<?> res = cached != null ? cached.getRule() : rule;
+                return InjectorLookup.getInjector(res.getApplication()).get();
             }
         };
     }
@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import com.google.inject.Injector;
 import org.junit.rules.ExternalResource;
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
+import ru.vyarus.dropwizard.guice.test.CachedAppRule;
 import ru.vyarus.dropwizard.guice.test.GuiceyAppRule;
 import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp;
 
@@ -19,11 +20,18 @@ public class GuiceyAppExtension extends AbstractAppExtension<UseGuiceyApp> {
     protected GuiceyInterceptor.ExternalRuleAdapter buildResourceFactory(final UseGuiceyApp annotation) {
         return new GuiceyInterceptor.ExternalRuleAdapter() {
             private GuiceyAppRule rule;
+            private CachedAppRule<? extends GuiceyAppRule<?>> cached;
 
             @Override
             @SuppressWarnings("unchecked")
             public ExternalResource newResource() {
-                Preconditions.checkState(rule == null, "External resource creation could be called once.");
+                Preconditions.checkState(rule == null && cached == null,
+                        "External resource creation could be called once.");
+                if (annotation.cache()) {
+                    cached = CachedAppRule.guicey((Class) annotation.value(), annotation.config(),
+                            convertOverridesToMap(annotation.configOverride()));
+                    return cached;
+                }
                 rule = new GuiceyAppRule(annotation.value(), annotation.config(),
                         convertOverrides(annotation.configOverride()));
                 return rule;
@@ -31,8 +39,8 @@ public class GuiceyAppExtension extends AbstractAppExtension<UseGuiceyApp> {
 
             @Override
             public Injector getInjector() {
-                Preconditions.checkState(rule != null, "External resource not created.");
-                return rule.getInjector();
+                Preconditions.checkState(rule != null || cached != null, "External resource not created.");
+                return (cached != null ? cached.getRule() : rule).getInjector();
             }
         };
     }
@@ -8,10 +8,10 @@ import org.spockframework.runtime.extension.IMethodInvocation;
 import org.spockframework.runtime.model.SpecInfo;
 import ru.vyarus.dropwizard.guice.hook.ConfigurationHooksSupport;
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook;
+import ru.vyarus.dropwizard.guice.test.ExternalResourceSupport;
 import spock.lang.Shared;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Set;
 
@@ -26,26 +26,11 @@ import java.util.Set;
 // spec.getTopSpec() are intercepted (see GuiceExtension)
 public class GuiceyInterceptor extends AbstractMethodInterceptor {
 
-    private static Method before;
-    private static Method after;
-
     private final ExternalRuleAdapter externalRuleAdapter;
     private final List<GuiceyConfigurationHook> hooks;
     private final Set<InjectionPoint> injectionPoints;
     private ExternalResource resource;
 
-    static {
-        // resolve methods eagerly to speedup execution
-        try {
-            before = ExternalResource.class.getDeclaredMethod("before");
-            before.setAccessible(true);
-            after = ExternalResource.class.getDeclaredMethod("after");
-            after.setAccessible(true);
-        } catch (NoSuchMethodException e) {
-            throw new GuiceyExtensionException("Failed resolve method", e);
-        }
-    }
-
     public GuiceyInterceptor(final SpecInfo spec, final ExternalRuleAdapter externalRuleAdapter,
                              final List<GuiceyConfigurationHook> hooks) {
         this.externalRuleAdapter = externalRuleAdapter;
@@ -59,7 +44,7 @@ public class GuiceyInterceptor extends AbstractMethodInterceptor {
         if (resource == null) {
             resource = externalRuleAdapter.newResource();
         }
-        before.invoke(resource);
+        ExternalResourceSupport.before(resource);
         injectValues(invocation.getSharedInstance(), true);
         invocation.proceed();
     }
@@ -77,7 +62,7 @@ public class GuiceyInterceptor extends AbstractMethodInterceptor {
         try {
             invocation.proceed();
         } finally {
-            after.invoke(resource);
+            ExternalResourceSupport.after(resource);
         }
     }
 
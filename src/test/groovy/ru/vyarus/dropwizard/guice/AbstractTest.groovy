@@ -1,5 +1,6 @@
 package ru.vyarus.dropwizard.guice
 
+import com.codahale.metrics.MetricRegistry
 import com.codahale.metrics.health.HealthCheckRegistry
 import io.dropwizard.jersey.setup.JerseyEnvironment
 import io.dropwizard.jetty.MutableServletContextHandler
@@ -12,6 +13,7 @@ import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup
 import ru.vyarus.dropwizard.guice.module.jersey.debug.HK2DebugBundle
 import ru.vyarus.dropwizard.guice.hook.GuiceyConfigurationHook
 import ru.vyarus.dropwizard.guice.support.util.GuiceRestrictedConfigBundle
+import ru.vyarus.dropwizard.guice.test.TestContextCache
 import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyConfiguration
 import spock.lang.Specification
 
@@ -29,7 +31,10 @@ abstract class AbstractTest extends Specification {
 
     void cleanupSpec() {
         // some tests are intentionally failing so be sure to remove stale applications
-        InjectorLookup.clear()
+        // (but not when cached applications are alive: they are shared between specs and must stay registered)
+        if (TestContextCache.size() == 0) {
+            InjectorLookup.clear()
+        }
         System.clearProperty(PropertyBundleLookup.BUNDLES_PROPERTY)
     }
 
@@ -46,6 +51,7 @@ abstract class AbstractTest extends Specification {
         environment.getAdminContext() >> Mock(MutableServletContextHandler)
         environment.lifecycle() >> Mock(LifecycleEnvironment)
         environment.healthChecks() >> Mock(HealthCheckRegistry)
+        environment.metrics() >> Mock(MetricRegistry)
         return environment
     }
 
@@ -0,0 +1,174 @@
+package ru.vyarus.dropwizard.guice
+
+import com.codahale.metrics.MetricRegistry
+import com.codahale.metrics.annotation.ExceptionMetered
+import com.codahale.metrics.annotation.Timed
+import com.google.common.collect.ImmutableMultimap
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.servlets.tasks.PostBodyTask
+import io.dropwizard.servlets.tasks.Task
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.module.installer.feature.task.AsyncTask
+import ru.vyarus.dropwizard.guice.module.installer.feature.task.AsyncTaskWrapper
+import ru.vyarus.dropwizard.guice.module.installer.feature.task.TaskExecution
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class AsyncTaskTest extends Specification {
+
+    @Inject
+    Environment environment
+
+    def "Check async task registration"() {
+
+        expect: "async task wrapped"
+        Map<String, Task> tasks = environment.admin().tasks.tasks.collectEntries { [(it.name): it] }
+        tasks.slow instanceof AsyncTaskWrapper
+        (tasks.slow as AsyncTaskWrapper).task instanceof SlowTask
+        tasks.sync instanceof SyncTask
+        tasks.body instanceof AsyncTaskWrapper
+    }
+
+    def "Check post body task"() {
+
+        setup:
+        AsyncTaskWrapper wrapper = environment.admin().tasks.tasks.find { it.name == "body" }
+
+        when: "calling task with body"
+        wrapper.execute(ImmutableMultimap.of(), "sample body", new PrintWriter(new StringWriter()))
+        TaskExecution execution = wrapper.lastExecution
+        waitFor(execution)
+        then: "body passed to task"
+        execution.status == TaskExecution.Status.COMPLETED
+        execution.output == "sample body"
+
+        and: "task metrics applied to background execution"
+        environment.metrics().timer(MetricRegistry.name(BodyTask)).count == 1
+    }
+
+    def "Check async execution"() {
+
+        setup:
+        def executor = Executors.newFixedThreadPool(2)
+        SlowTask task = new SlowTask()
+        MetricRegistry metrics = new MetricRegistry()
+        AsyncTaskWrapper wrapper = new AsyncTaskWrapper(task, executor, metrics)
+
+        when: "status before execution"
+        StringWriter out = new StringWriter()
+        wrapper.execute(ImmutableMultimap.of("status", ""), new PrintWriter(out))
+        then: "not executed"
+        out.toString().trim() == "slow was not executed yet"
+
+        when: "task called twice"
+        TaskExecution first = wrapper.submit(ImmutableMultimap.of())
+        TaskExecution second = wrapper.submit(ImmutableMultimap.of())
+        then: "call de-duplicated"
+        first.is(second)
+        first.id == "slow-1"
+        !first.done
+
+        when: "task completed"
+        task.latch.countDown()
+        waitFor(first)
+        out = new StringWriter()
+        wrapper.execute(ImmutableMultimap.of("status", ""), new PrintWriter(out))
+        then: "status available"
+        first.status == TaskExecution.Status.COMPLETED
+        first.output.trim() == "done"
+        out.toString().startsWith("slow-1 COMPLETED")
+        out.toString().contains("done")
+
+        when: "next call"
+        task.fail = true
+        TaskExecution third = wrapper.submit(ImmutableMultimap.of())
+        waitFor(third)
+        then: "new execution"
+        third.id == "slow-2"
+        third.status == TaskExecution.Status.FAILED
+        third.error.message == "fail"
+        metrics.meter(MetricRegistry.name(SlowTask, "exceptions")).count == 1
+
+        when: "executor rejects task"
+        executor.shutdown()
+        TaskExecution rejected = wrapper.submit(ImmutableMultimap.of())
+        then: "execution failed"
+        rejected.status == TaskExecution.Status.FAILED
+        wrapper.lastExecution.is(rejected)
+    }
+
+    private static void waitFor(TaskExecution execution) {
+        long start = System.currentTimeMillis()
+        while (!execution.done && System.currentTimeMillis() - start < 5000) {
+            sleep(10)
+        }
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(SlowTask, SyncTask, BodyTask)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @AsyncTask
+    static class SlowTask extends Task {
+        CountDownLatch latch = new CountDownLatch(1)
+        boolean fail
+
+        SlowTask() {
+            super("slow")
+        }
+
+        @Override
+        @ExceptionMetered
+        void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+            latch.await(5, TimeUnit.SECONDS)
+            if (fail) {
+                throw new IllegalStateException("fail")
+            }
+            output.println("done")
+        }
+    }
+
+    @AsyncTask
+    static class BodyTask extends PostBodyTask {
+        BodyTask() {
+            super("body")
+        }
+
+        @Override
+        @Timed
+        void execute(ImmutableMultimap<String, String> parameters, String body, PrintWriter output) throws Exception {
+            output.print(body)
+        }
+    }
+
+    static class SyncTask extends Task {
+        SyncTask() {
+            super("sync")
+        }
+
+        @Override
+        void execute(ImmutableMultimap<String, String> parameters, PrintWriter output) throws Exception {
+        }
+    }
+}
@@ -52,6 +52,23 @@ class DebugBundleTest extends AbstractTest {
 
     }
 
+    def "Check types checked once"() {
+
+        setup: "need to request hk2 resource to force instantiation"
+        new URL("http://localhost:8080/hk/foo").getText()
+
+        expect: "already checked types are not recorded again"
+        !debugService.hkManage(HkResource)
+        !debugService.guiceManage(GuiceMapper)
+        debugService.hkManaged.size() == 2
+        debugService.guiceManaged.size() == 2
+
+        when: "recording guice bean as hk managed"
+        debugService.hkManage(GuiceResource)
+        then: "wrong context still detected"
+        thrown(WrongContextException)
+    }
+
     def "Check detection"() {
 
         when: "forcing guice to create hk2 bean"
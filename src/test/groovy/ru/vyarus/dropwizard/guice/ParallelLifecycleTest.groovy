@@ -0,0 +1,192 @@
+package ru.vyarus.dropwizard.guice
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.lifecycle.JettyManaged
+import io.dropwizard.lifecycle.Managed
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import io.dropwizard.util.Duration
+import org.eclipse.jetty.util.component.AbstractLifeCycle
+import ru.vyarus.dropwizard.guice.module.installer.feature.ManagedInstaller
+import ru.vyarus.dropwizard.guice.module.installer.feature.lifecycle.ParallelLifecycleSupport
+import ru.vyarus.dropwizard.guice.module.installer.order.Order
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.LifecycleThreads
+import static ru.vyarus.dropwizard.guice.module.installer.InstallersOptions.ParallelLifecycle
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class ParallelLifecycleTest extends Specification {
+
+    static List<String> events = new CopyOnWriteArrayList<>()
+    static AtomicInteger active = new AtomicInteger()
+    static AtomicInteger maxActive = new AtomicInteger()
+
+    @Inject
+    Environment environment
+
+    def "Check parallel lifecycle"() {
+
+        setup:
+        events.clear()
+
+        when: "extensions registered"
+        List<ParallelLifecycleSupport> composite = environment.lifecycle().managedObjects
+                .findAll { it instanceof ParallelLifecycleSupport }
+        then: "single composite lifecycle registered"
+        composite.size() == 1
+        composite[0].started
+        !environment.lifecycle().managedObjects.any { it instanceof JettyManaged && it.managed instanceof Base }
+
+        when: "stopping (started by test support)"
+        composite[0].stop()
+        then: "stopped in reverse order"
+        events[0] == "stop Last"
+        events.subList(1, 3) as Set == ["stop First", "stop Second"] as Set
+        events[3] == "stop Cycle"
+        composite[0].stopTimes.keySet().size() == 4
+
+        when: "starting"
+        events.clear()
+        maxActive.set(0)
+        composite[0].start()
+        then: "same order extensions started concurrently"
+        maxActive.get() == 2
+        events.size() == 4
+        events[0] == "start Cycle"
+        events.subList(1, 3) as Set == ["start First", "start Second"] as Set
+        events[3] == "start Last"
+        composite[0].startTimes.keySet().size() == 4
+        composite[0].startTimes.find { it.key instanceof First }.value >= 100
+    }
+
+    def "Check start failures"() {
+
+        setup:
+        events.clear()
+        ParallelLifecycleSupport support = new ParallelLifecycleSupport(2, Duration.milliseconds(50))
+        support.manage(ManagedInstaller, new First())
+        support.manage(ManagedInstaller, new Failing())
+        support.manage(ManagedInstaller, new Last())
+
+        when: "starting with slow extension"
+        support.start()
+        then: "start failed"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Failed to start ${First.name}: timeout 50 milliseconds exceeded"
+        !events.contains("start Last")
+
+        when: "stopping"
+        support.stop()
+        then: "only started extensions stopped"
+        !events.contains("stop Last")
+    }
+
+    def "Check timeout counted from extension start"() {
+
+        setup: "queued extensions (single thread) would exceed timeout if it was counted for all group"
+        events.clear()
+        ParallelLifecycleSupport support = new ParallelLifecycleSupport(1, Duration.milliseconds(150))
+        support.manage(ManagedInstaller, new First())
+        support.manage(ManagedInstaller, new First())
+        support.manage(ManagedInstaller, new Second())
+
+        when: "starting"
+        support.start()
+        then: "all started"
+        events == ["start First", "start First", "start Second"]
+        and: "times tracked for each instance"
+        support.startTimes.size() == 3
+
+        cleanup:
+        support.stop()
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(First, Second, Last, Cycle)
+                    .option(ParallelLifecycle, true)
+                    .option(LifecycleThreads, 2)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static abstract class Base implements Managed {
+        @Override
+        void start() throws Exception {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math.&max)
+            try {
+                // groovy sleep ignores interruption
+                Thread.sleep(100)
+            } finally {
+                active.decrementAndGet()
+            }
+            events.add("start " + getClass().simpleName)
+        }
+
+        @Override
+        void stop() throws Exception {
+            sleep(100)
+            events.add("stop " + getClass().simpleName)
+        }
+    }
+
+    @Order(1)
+    static class First extends Base {}
+
+    @Order(1)
+    static class Second extends Base {}
+
+    @Order(1)
+    static class Failing implements Managed {
+        @Override
+        void start() throws Exception {
+            throw new IllegalStateException("failed")
+        }
+
+        @Override
+        void stop() throws Exception {
+        }
+    }
+
+    @Order(2)
+    static class Last implements Managed {
+        @Override
+        void start() throws Exception {
+            events.add("start Last")
+        }
+
+        @Override
+        void stop() throws Exception {
+            events.add("stop Last")
+        }
+    }
+
+    static class Cycle extends AbstractLifeCycle {
+        @Override
+        protected void doStart() throws Exception {
+            events.add("start Cycle")
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            events.add("stop Cycle")
+        }
+    }
+}
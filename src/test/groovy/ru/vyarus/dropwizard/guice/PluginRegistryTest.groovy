@@ -0,0 +1,105 @@
+package ru.vyarus.dropwizard.guice
+
+import com.google.inject.Provider
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.module.installer.feature.plugin.PluginRegistry
+import ru.vyarus.dropwizard.guice.support.feature.DummyNamedPlugin1
+import ru.vyarus.dropwizard.guice.support.feature.DummyNamedPlugin2
+import ru.vyarus.dropwizard.guice.support.feature.DummyPluginKey
+import ru.vyarus.dropwizard.guice.support.feature.DummyStringPlugin
+import ru.vyarus.dropwizard.guice.support.feature.PluginInterface
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class PluginRegistryTest extends Specification {
+
+    @Inject
+    PluginRegistry<DummyPluginKey, PluginInterface> registry
+    @Inject
+    PluginRegistry<DummyPluginKey, PluginInterface> registry2
+    @Inject
+    PluginRegistry<String, Runnable> stringRegistry
+
+    def "Check plugin registry"() {
+
+        expect: "registry is singleton"
+        registry.is(registry2)
+        registry.keys() as List == [DummyPluginKey.ONE, DummyPluginKey.TWO]
+        registry.size() == 2
+        registry.get(DummyPluginKey.ONE) instanceof DummyNamedPlugin1
+        registry.get(DummyPluginKey.TWO) instanceof DummyNamedPlugin2
+        !registry.get(DummyPluginKey.ONE).is(registry.get(DummyPluginKey.ONE))
+
+        and: "string keys"
+        stringRegistry.keys() as Set == ["first", "second"] as Set
+        stringRegistry.contains("first")
+        !stringRegistry.contains("third")
+        stringRegistry.get("third") == null
+        stringRegistry.get("second").is(stringRegistry.get("second"))
+    }
+
+    def "Check lazy instantiation"() {
+
+        setup:
+        int calls = 0
+        PluginRegistry<DummyPluginKey, PluginInterface> registry = new PluginRegistry<>(
+                DummyPluginKey, PluginInterface, [(DummyPluginKey.ONE): {
+            calls++
+            new DummyNamedPlugin1()
+        } as Provider<PluginInterface>])
+
+        expect: "not instantiated"
+        calls == 0
+        registry.toString() == "PluginRegistry<DummyPluginKey, PluginInterface> [ONE]"
+
+        when: "plugin requested"
+        registry.require(DummyPluginKey.ONE)
+        then: "instantiated"
+        calls == 1
+
+        when: "unknown plugin required"
+        registry.require(DummyPluginKey.TWO)
+        then: "error"
+        def ex = thrown(IllegalArgumentException)
+        ex.message == "No PluginInterface plugin registered for key TWO"
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(DummyNamedPlugin1, DummyNamedPlugin2, FirstPlugin, SecondPlugin)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @DummyStringPlugin("first")
+    static class FirstPlugin implements Runnable {
+        @Override
+        void run() {
+        }
+    }
+
+    @Singleton
+    @DummyStringPlugin("second")
+    static class SecondPlugin implements Runnable {
+        @Override
+        void run() {
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package ru.vyarus.dropwizard.guice
+
+import com.codahale.metrics.MetricRegistry
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.ResourceMetricsBundle
+import ru.vyarus.dropwizard.guice.module.jersey.metrics.service.ResourceMetricsListener
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.test.spock.UseDropwizardApp
+
+import javax.inject.Inject
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+import javax.ws.rs.PathParam
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseDropwizardApp(MetricsApp)
+class ResourceMetricsBundleTest extends AbstractTest {
+
+    @Inject
+    Environment environment
+    @Inject
+    ResourceMetricsListener listener
+
+    def "Check resource metrics"() {
+
+        when: "calling resource methods"
+        new URL("http://localhost:8080/sample/foo").getText()
+        new URL("http://localhost:8080/sample/foo").getText()
+        try {
+            new URL("http://localhost:8080/sample/fail").getText()
+        } catch (IOException ignored) {
+        }
+        new URL("http://localhost:8080/sample/bar").getText()
+        new URL("http://localhost:8080/sample/bar/1").getText()
+        new URL("http://localhost:8080/sample/bar/2").getText()
+        MetricRegistry metrics = environment.metrics()
+        String foo = MetricRegistry.name(SampleResource, "foo")
+        String fail = MetricRegistry.name(SampleResource, "fail")
+
+        then: "metrics prepared for all methods"
+        listener.metrics.size() == 4
+
+        and: "metrics collected"
+        metrics.timer("${foo}.requests").count == 2
+        metrics.counter("${foo}.active").count == 0
+        metrics.meter("${foo}.errors").count == 0
+        metrics.timer("${fail}.requests").count == 1
+        metrics.meter("${fail}.errors").count == 1
+
+        and: "overloaded methods metrics are not merged"
+        metrics.timer(MetricRegistry.name(SampleResource, "bar()", "requests")).count == 1
+        metrics.timer(MetricRegistry.name(SampleResource, "bar(String)", "requests")).count == 2
+    }
+
+    static class MetricsApp extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ResourceMetricsBundle())
+                    .extensions(SampleResource)
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path("/sample")
+    static class SampleResource {
+
+        @Path("/foo")
+        @GET
+        String foo() {
+            return ""
+        }
+
+        @Path("/fail")
+        @GET
+        String fail() {
+            throw new IllegalStateException("fail")
+        }
+
+        @Path("/bar")
+        @GET
+        String bar() {
+            return ""
+        }
+
+        @Path("/bar/{id}")
+        @GET
+        String bar(@PathParam("id") String id) {
+            return id
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package ru.vyarus.dropwizard.guice
+
+import com.codahale.metrics.health.HealthCheck
+import com.google.common.util.concurrent.Uninterruptibles
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.CachedHealthCheck
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.NamedHealthCheck
+import ru.vyarus.dropwizard.guice.module.installer.feature.health.ScheduledHealthCheck
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class ScheduledHealthCheckTest extends Specification {
+
+    @Inject
+    Environment environment
+
+    def "Check scheduled health checks"() {
+
+        when: "waiting for executions"
+        waitFor {
+            CountingCheck.calls.get() > 1 &&
+                    environment.healthChecks().runHealthCheck("hanging").message != "Health check was not executed yet"
+        }
+        int calls = CountingCheck.calls.get()
+        HealthCheck.Result counting = environment.healthChecks().runHealthCheck("counting")
+        HealthCheck.Result hanging = environment.healthChecks().runHealthCheck("hanging")
+        HealthCheck.Result simple = environment.healthChecks().runHealthCheck("simple")
+        then: "cached results returned"
+        calls > 1
+        counting.healthy
+        CountingCheck.calls.get() - calls <= 2
+        environment.healthChecks().getHealthCheck("counting") instanceof CachedHealthCheck
+        !hanging.healthy
+        hanging.message == "Health check timed out after 50 ms"
+        simple.healthy
+        environment.healthChecks().getHealthCheck("simple") instanceof SimpleCheck
+    }
+
+    def "Check stale results"() {
+
+        setup:
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(1)
+        CachedHealthCheck check = new CachedHealthCheck(new SimpleCheck(), 100, 100, 50)
+
+        expect: "not executed"
+        check.execute().message == "Health check was not executed yet"
+
+        when: "executed"
+        check.refresh(executor, executor).get(5, TimeUnit.SECONDS)
+        then: "healthy"
+        check.execute().healthy
+
+        when: "result become stale"
+        sleep(60)
+        HealthCheck.Result res = check.execute()
+        then: "unhealthy"
+        !res.healthy
+        res.message.startsWith("Last health check result is stale")
+        res.details.staleResult == "healthy"
+
+        cleanup:
+        executor.shutdownNow()
+    }
+
+    def "Check late result ignored"() {
+
+        setup:
+        ExecutorService workers = Executors.newSingleThreadExecutor()
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1)
+        CachedHealthCheck check = new CachedHealthCheck(new IgnoringInterruptCheck(), 1000, 50, 1000)
+
+        when: "health check finished after timeout"
+        check.refresh(workers, scheduler)
+        // task queued after health check execution: wait for worker to complete
+        workers.submit({} as Runnable).get(5, TimeUnit.SECONDS)
+        HealthCheck.Result res = check.execute()
+        then: "timeout result preserved"
+        !res.healthy
+        res.message == "Health check timed out after 50 ms"
+
+        cleanup:
+        workers.shutdownNow()
+        scheduler.shutdownNow()
+    }
+
+    private static void waitFor(Closure<Boolean> condition) {
+        long deadline = System.currentTimeMillis() + 5000
+        while (!condition.call() && System.currentTimeMillis() < deadline) {
+            sleep(20)
+        }
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(CountingCheck, HangingCheck, SimpleCheck)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @ScheduledHealthCheck(period = 50, unit = TimeUnit.MILLISECONDS)
+    static class CountingCheck extends NamedHealthCheck {
+        static AtomicInteger calls = new AtomicInteger()
+
+        @Override
+        String getName() {
+            return "counting"
+        }
+
+        @Override
+        protected HealthCheck.Result check() throws Exception {
+            calls.incrementAndGet()
+            return HealthCheck.Result.healthy()
+        }
+    }
+
+    @ScheduledHealthCheck(period = 1000, timeout = 50, unit = TimeUnit.MILLISECONDS)
+    static class HangingCheck extends NamedHealthCheck {
+        @Override
+        String getName() {
+            return "hanging"
+        }
+
+        @Override
+        protected HealthCheck.Result check() throws Exception {
+            sleep(5000)
+            return HealthCheck.Result.healthy()
+        }
+    }
+
+    static class IgnoringInterruptCheck extends NamedHealthCheck {
+        @Override
+        String getName() {
+            return "ignoring"
+        }
+
+        @Override
+        protected HealthCheck.Result check() throws Exception {
+            Uninterruptibles.sleepUninterruptibly(200, TimeUnit.MILLISECONDS)
+            // swallow interruption
+            Thread.interrupted()
+            return HealthCheck.Result.healthy()
+        }
+    }
+
+    static class SimpleCheck extends NamedHealthCheck {
+        @Override
+        String getName() {
+            return "simple"
+        }
+
+        @Override
+        protected HealthCheck.Result check() throws Exception {
+            return HealthCheck.Result.healthy()
+        }
+    }
+}
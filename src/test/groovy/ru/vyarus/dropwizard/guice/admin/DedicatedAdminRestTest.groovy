@@ -0,0 +1,57 @@
+package ru.vyarus.dropwizard.guice.admin
+
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.admin.support.DedicatedAdminRestApplication
+import ru.vyarus.dropwizard.guice.test.spock.UseDropwizardApp
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseDropwizardApp(value = DedicatedAdminRestApplication,
+        config = 'src/test/resources/ru/vyarus/dropwizard/guice/config.yml')
+class DedicatedAdminRestTest extends AbstractTest {
+
+    def "Check res access from user context"() {
+
+        when: "opened rest"
+        def res = new URL("http://localhost:8080/hybrid/hello").getText()
+        then: "ok"
+        res == "hello"
+
+        when: "admin only rest"
+        new URL("http://localhost:8080/hybrid/admin").getText()
+        then: "not accessible"
+        def ex = thrown(IOException)
+        ex.getMessage().contains("403")
+
+        when: "admin only rest (by class)"
+        new URL("http://localhost:8080/admin/").getText()
+        then: "not accessible"
+        ex = thrown(IOException)
+        ex.getMessage().contains("403")
+    }
+
+    def "Check access from admin context"() {
+
+        when: "public rest"
+        new URL("http://localhost:8081/api/hybrid/hello").getText()
+        then: "not published in admin context"
+        thrown(FileNotFoundException)
+
+        when: "admin rest"
+        def res = new URL("http://localhost:8081/api/hybrid/admin").getText()
+        then: "ok"
+        res == "admin"
+
+        when: "admin rest (by class annotation)"
+        res = new URL("http://localhost:8081/api/admin/").getText()
+        then: "ok"
+        res == "hello"
+
+        when: "not admin resource"
+        new URL("http://localhost:8081/api/request/").getText()
+        then: "not published in admin context"
+        thrown(FileNotFoundException)
+    }
+}
@@ -0,0 +1,28 @@
+package ru.vyarus.dropwizard.guice.admin.support
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.admin.AdminRestBundle
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+class DedicatedAdminRestApplication extends Application<TestConfiguration> {
+
+    @Override
+    void initialize(Bootstrap<TestConfiguration> bootstrap) {
+        bootstrap.addBundle(new AdminRestBundle(null, true))
+        bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder()
+                .enableAutoConfig(getClass().package.name)
+                .build()
+        );
+    }
+
+    @Override
+    void run(TestConfiguration configuration, Environment environment) throws Exception {
+    }
+}
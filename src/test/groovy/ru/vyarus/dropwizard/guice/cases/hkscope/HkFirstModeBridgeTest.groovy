@@ -0,0 +1,86 @@
+package ru.vyarus.dropwizard.guice.cases.hkscope
+
+import com.google.inject.Injector
+import com.google.inject.name.Names
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.glassfish.hk2.api.ServiceLocator
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.support.DropwizardAwareModule
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.test.spock.UseDropwizardApp
+
+import javax.inject.Inject
+import javax.inject.Named
+import javax.inject.Provider
+import javax.inject.Singleton
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseDropwizardApp(App)
+class HkFirstModeBridgeTest extends AbstractTest {
+
+    @Inject
+    Provider<ServiceLocator> locator
+    @Inject
+    Injector injector
+
+    def "Check guice services bridged into hk"() {
+
+        expect: "guice services injected"
+        new URL("http://localhost:8080/bridge/").getText() == "guice named"
+
+        and: "guice bindings bridged into hk respecting guice scope"
+        locator.get().getService(GuiceService).is(injector.getInstance(GuiceService))
+        locator.get().getService(String, "sample") == "named"
+    }
+
+    static class App extends Application<TestConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<TestConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .modules(new DropwizardAwareModule<TestConfiguration>() {
+                        @Override
+                        protected void configure() {
+                            bind(GuiceService).in(Singleton)
+                            bind(String).annotatedWith(Names.named("sample")).toInstance("named")
+                        }
+                    })
+                    .extensions(BridgeResource)
+                    .useHK2ForJerseyExtensions()
+                    .build())
+        }
+
+        @Override
+        void run(TestConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class GuiceService {
+        String get() {
+            return "guice"
+        }
+    }
+
+    @Path("/bridge")
+    static class BridgeResource {
+
+        @Inject
+        GuiceService service
+        @Inject
+        @Named("sample")
+        String value
+
+        @GET
+        String get() {
+            return "${service.get()} $value"
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package ru.vyarus.dropwizard.guice.config.debug
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.debug.report.stat.StatsRenderer
+import ru.vyarus.dropwizard.guice.module.context.stat.CustomStat
+import ru.vyarus.dropwizard.guice.module.context.stat.CustomStats
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
+import ru.vyarus.dropwizard.guice.module.installer.option.InstallerOptionsSupport
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class CustomStatsTest extends Specification {
+
+    static final CustomStat WARMUP = CustomStat.timer("Warmup", Stat.GuiceyTime)
+    static final CustomStat MIGRATION = CustomStat.timer("Schema migration", Stat.BundleTime)
+    static final CustomStat MIGRATED = CustomStat.counter("Applied migrations", MIGRATION)
+    static final CustomStat CHECKED = CustomStat.counter("Checked types", Stat.ExtensionsRecognitionTime)
+
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check custom stats reported"() {
+
+        expect: "stats collected"
+        info.stats.customStats as List == [WARMUP, MIGRATION, MIGRATED, CHECKED]
+        info.stats.time(MIGRATION) >= 10
+        info.stats.timer(MIGRATION).count == 1
+        info.stats.count(MIGRATED) == 3
+        info.stats.count(CHECKED) > 0
+
+        and: "stats rendered"
+        String render = new StatsRenderer(info).renderReport(false)
+        render.contains("Schema migration in")
+        render.contains("Applied migrations: 3")
+        render.contains("Checked types: ")
+
+        and: "overlapping custom phase not subtracted from remaining time"
+        render.contains("] Warmup in")
+        !render.contains("remaining -")
+    }
+
+    def "Check custom stats validation"() {
+
+        setup:
+        CustomStats stats = new CustomStats(new StatsTracker())
+        stats.timer(MIGRATION).stop()
+
+        when: "counter used as timer"
+        stats.timer(MIGRATED)
+        then: "error"
+        thrown(IllegalStateException)
+
+        when: "different stat with the same name"
+        stats.count(CustomStat.counter("Schema migration", Stat.BundleTime), 1)
+        then: "error"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Custom stat 'Schema migration' is already used with different declaration"
+
+        when: "counter as parent"
+        CustomStat.timer("foo", MIGRATED)
+        then: "error"
+        thrown(IllegalStateException)
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new MigrationBundle())
+                    .installers(CheckingInstaller)
+                    .extensions(App)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class MigrationBundle implements GuiceyBundle {
+        @Override
+        void initialize(GuiceyBootstrap bootstrap) {
+            // custom phase overlaps bundles processing and takes more than not tracked guicey time
+            StatTimer warmup = bootstrap.stats().timer(WARMUP)
+            sleep(300)
+            StatTimer timer = bootstrap.stats().timer(MIGRATION)
+            sleep(10)
+            bootstrap.stats().count(MIGRATED, 3)
+            timer.stop()
+            warmup.stop()
+        }
+    }
+
+    static class CheckingInstaller extends InstallerOptionsSupport implements FeatureInstaller {
+
+        @Override
+        boolean matches(Class type) {
+            stats().count(CHECKED, 1)
+            return true
+        }
+
+        @Override
+        void report() {
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package ru.vyarus.dropwizard.guice.config.debug
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.support.feature.DummyResource
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class StartupMetricsTest extends Specification {
+
+    @Inject
+    Environment environment
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check startup metrics published"() {
+
+        when: "reading gauges"
+        Map<String, Object> gauges = environment.metrics().gauges.collectEntries { [(it.key): it.value.value] }
+
+        then: "all stats published"
+        Stat.values().every { gauges.containsKey("guicey.stat.$it".toString()) }
+        gauges["guicey.stat.GuiceyTime"] == info.stats.time(Stat.GuiceyTime)
+        gauges["guicey.stat.GuiceyTime"] > 0
+        gauges["guicey.stat.ScanClassesCount"] == 0
+
+        and: "model counters published"
+        gauges["guicey.installers"] == info.installers.size()
+        gauges["guicey.extensions"] == 1
+        gauges["guicey.modules"] == info.modules.size()
+        gauges["guicey.installer.resource.extensions"] == 1
+        gauges["guicey.installer.managed.extensions"] == 0
+        gauges["guicey.bindings"] > 0
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .extensions(DummyResource)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
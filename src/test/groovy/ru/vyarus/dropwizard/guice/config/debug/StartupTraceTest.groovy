@@ -0,0 +1,95 @@
+package ru.vyarus.dropwizard.guice.config.debug
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.google.inject.AbstractModule
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap
+import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBundle
+import ru.vyarus.dropwizard.guice.module.installer.feature.LifeCycleInstaller
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleAdapter
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.run.ApplicationRunEvent
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class StartupTraceTest extends Specification {
+
+    static File TRACE = new File(System.getProperty("java.io.tmpdir"), "guicey-startup-trace.json")
+
+    void cleanupSpec() {
+        TRACE.delete()
+    }
+
+    def "Check startup trace written"() {
+
+        when: "reading trace"
+        Map trace = new ObjectMapper().readValue(TRACE, Map)
+        List<Map> spans = trace.traceEvents.findAll { it.ph == "X" }
+        Map injector = spans.find { it.name == "InjectorCreationTime" }
+        Map module = spans.find { it.cat == "module" }
+
+        then: "all categories recorded"
+        spans.collect { it.cat } as Set == ["stat", "lifecycle", "listener", "bundle", "module", "installer"] as Set
+
+        and: "timers recorded"
+        spans.findAll { it.cat == "stat" && it.name == "GuiceyTime" }.size() == 2
+        spans.find { it.cat == "stat" && it.name == "InjectorCreationTime" }
+
+        and: "items recorded"
+        spans.find { it.cat == "bundle" && it.name == Bundle.name }
+        spans.find { it.cat == "module" && it.name == Module.name }
+        spans.find { it.cat == "installer" && it.name == LifeCycleInstaller.name }
+        spans.find { it.cat == "lifecycle" && it.name == "ApplicationRun" }
+        spans.find { it.cat == "listener" && it.name == Listener.name }
+
+        and: "spans are valid"
+        spans.every { it.ts >= 0 && it.dur >= 0 && it.tid == Thread.currentThread().id }
+        module.ts >= injector.ts
+        module.ts + module.dur <= injector.ts + injector.dur
+
+        and: "thread name recorded"
+        trace.traceEvents.find { it.ph == "M" }.args.name == Thread.currentThread().name
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new Bundle())
+                    .modules(new Module())
+                    .listen(new Listener())
+                    .traceStartup(TRACE.absolutePath)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class Bundle implements GuiceyBundle {
+        @Override
+        void initialize(GuiceyBootstrap bootstrap) {
+        }
+    }
+
+    static class Module extends AbstractModule {
+        @Override
+        protected void configure() {
+        }
+    }
+
+    static class Listener extends GuiceyLifecycleAdapter {
+        @Override
+        protected void applicationRun(ApplicationRunEvent event) {
+        }
+    }
+}
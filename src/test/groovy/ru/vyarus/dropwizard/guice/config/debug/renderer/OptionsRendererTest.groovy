@@ -47,9 +47,13 @@ class OptionsRendererTest extends Specification {
         UseCoreInstallers              = true
         ConfigureFromDropwizardBundles = false
         BindConfigurationInterfaces    = false
+        BindConfigurationPathsOnDemand = false
+        ConfigIntrospectionDepth       = -1
+        ConfigIntrospectionExcludes    = []
         InjectorStage                  = PRODUCTION
         GuiceFilterRegistration        = [REQUEST]
         UseHkBridge                    = false
+        StartupTraceFile               = null
 
 
     Installers                (r.v.d.g.m.i.InstallersOptions)
@@ -81,9 +85,13 @@ class OptionsRendererTest extends Specification {
         UseCoreInstallers              = true
         ConfigureFromDropwizardBundles = false
         BindConfigurationInterfaces    = false
+        BindConfigurationPathsOnDemand = false
+        ConfigIntrospectionDepth       = -1
+        ConfigIntrospectionExcludes    = []
         InjectorStage                  = PRODUCTION
         GuiceFilterRegistration        = [REQUEST]
         UseHkBridge                    = false
+        StartupTraceFile               = null
 
 
     Installers                (r.v.d.g.m.i.InstallersOptions)
@@ -134,8 +142,12 @@ class OptionsRendererTest extends Specification {
         UseCoreInstallers              = true
         ConfigureFromDropwizardBundles = false
         BindConfigurationInterfaces    = false
+        BindConfigurationPathsOnDemand = false
+        ConfigIntrospectionDepth       = -1
+        ConfigIntrospectionExcludes    = []
         InjectorStage                  = PRODUCTION
         UseHkBridge                    = false
+        StartupTraceFile               = null
 
 
     Installers                (r.v.d.g.m.i.InstallersOptions)
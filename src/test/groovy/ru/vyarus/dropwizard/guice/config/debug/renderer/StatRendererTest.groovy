@@ -82,6 +82,10 @@ class StatRendererTest extends BaseDiagnosticTest {
         render.contains("3 extensions installed in")
 
         render.contains("] remaining")
+
+        and: "jvm activity rendered"
+        render.contains("jvm: ")
+        render.contains(" allocated")
     }
 
     String render() {
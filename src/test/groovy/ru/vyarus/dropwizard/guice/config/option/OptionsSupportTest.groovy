@@ -1,5 +1,6 @@
 package ru.vyarus.dropwizard.guice.config.option
 
+import ru.vyarus.dropwizard.guice.config.option.support.OtherOptions
 import ru.vyarus.dropwizard.guice.config.option.support.SampleOptions
 import ru.vyarus.dropwizard.guice.module.context.option.internal.OptionsSupport
 import spock.lang.Specification
@@ -34,6 +35,34 @@ class OptionsSupportTest extends Specification {
         support.get(SampleOptions.NullOption) == null
     }
 
+    def "Check frozen options"() {
+
+        OptionsSupport support = new OptionsSupport()
+        support.set(SampleOptions.NullOption, "val")
+
+        when: "freezing options"
+        support.freeze()
+        then: "values preserved"
+        support.frozen
+        support.get(SampleOptions.NullOption) == "val"
+        support.getHolder(SampleOptions.NullOption).used
+
+        then: "not used option of the same group tracked on first read"
+        !support.containsOption(SampleOptions.BoolTrue)
+        support.get(SampleOptions.BoolTrue)
+        support.getHolder(SampleOptions.BoolTrue).used
+
+        then: "option of not frozen group still accessible"
+        support.get(OtherOptions.Opt1) == "foo"
+        support.containsOption(OtherOptions.Opt1)
+
+        when: "changing option after freeze"
+        support.set(SampleOptions.BoolFalse, true)
+        then: "not allowed"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Options are frozen after application startup: can't change option BoolFalse"
+    }
+
     def "Check value validation"() {
 
         OptionsSupport support = new OptionsSupport()
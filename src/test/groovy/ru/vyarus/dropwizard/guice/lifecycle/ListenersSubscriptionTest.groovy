@@ -0,0 +1,108 @@
+package ru.vyarus.dropwizard.guice.lifecycle
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.debug.report.stat.StatsRenderer
+import ru.vyarus.dropwizard.guice.module.context.option.Options
+import ru.vyarus.dropwizard.guice.module.context.option.internal.OptionsSupport
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycle
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleAdapter
+import ru.vyarus.dropwizard.guice.module.lifecycle.GuiceyLifecycleListener
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.GuiceyLifecycleEvent
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.run.ApplicationRunEvent
+import ru.vyarus.dropwizard.guice.module.lifecycle.event.run.InjectorCreationEvent
+import ru.vyarus.dropwizard.guice.module.lifecycle.internal.LifecycleSupport
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class ListenersSubscriptionTest extends Specification {
+
+    @Inject
+    GuiceyConfigurationInfo info
+
+    def "Check adapter subscribed only to overridden events"() {
+
+        setup:
+        StatsTracker tracker = new StatsTracker()
+        LifecycleSupport support = new LifecycleSupport(new Options(new OptionsSupport()), tracker)
+        support.register(new InjectorListener())
+
+        when: "not subscribed event"
+        support.initialization(null, [])
+        then: "listener not called"
+        tracker.listenerTimers.isEmpty()
+        support.stage == GuiceyLifecycle.Initialization
+
+        when: "subscribed event"
+        support.injectorCreation([], [], [])
+        then: "listener called"
+        tracker.listenerTimers.keySet() == [InjectorListener] as Set
+        tracker.timers.containsKey(Stat.ListenersTime)
+        support.stage == GuiceyLifecycle.InjectorCreation
+
+        when: "plain listener registered"
+        support.register(new AllListener())
+        support.installersResolved([], [])
+        then: "receive all events"
+        tracker.listenerTimers.keySet() == [InjectorListener, AllListener] as Set
+    }
+
+    def "Check listeners stats"() {
+
+        expect: "listener time tracked"
+        info.stats.listeners.contains(SlowListener)
+        info.stats.listenerTime(SlowListener) >= 10
+        info.stats.humanListenerTime(SlowListener) != "0"
+        info.stats.time(Stat.ListenersTime) >= info.stats.listenerTime(SlowListener)
+
+        and: "listeners rendered"
+        String render = new StatsRenderer(info).renderReport(false)
+        render.contains("] LISTENERS notified in")
+        render.contains("ListenersSubscriptionTest\$SlowListener in")
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .listen(new SlowListener())
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class InjectorListener extends GuiceyLifecycleAdapter {
+        @Override
+        protected void injectorCreation(InjectorCreationEvent event) {
+        }
+    }
+
+    static class AllListener implements GuiceyLifecycleListener {
+        @Override
+        void onEvent(GuiceyLifecycleEvent event) {
+        }
+    }
+
+    static class SlowListener extends GuiceyLifecycleAdapter {
+        @Override
+        protected void applicationRun(ApplicationRunEvent event) {
+            sleep(10)
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ru.vyarus.dropwizard.guice.resource
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.jersey.offload.Offload
+import ru.vyarus.dropwizard.guice.module.jersey.offload.OffloadBundle
+import ru.vyarus.dropwizard.guice.module.jersey.offload.service.OffloadExecutors
+import ru.vyarus.dropwizard.guice.test.spock.UseDropwizardApp
+
+import javax.inject.Inject
+import javax.inject.Provider
+import javax.servlet.http.HttpServletRequest
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+import javax.ws.rs.QueryParam
+import javax.ws.rs.core.UriInfo
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.RejectedExecutionException
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseDropwizardApp(App)
+class OffloadResourceTest extends AbstractTest {
+
+    def "Check method offload"() {
+
+        expect: "method executed on executor with request scope available"
+        new URL("http://localhost:8080/off/sample?q=1").getText() == "offload-test-0 1 1 1"
+
+        and: "not annotated method executed as usual"
+        !new URL("http://localhost:8080/off/sync").getText().startsWith("offload-")
+
+        and: "void method"
+        new URL("http://localhost:8080/off/void").getText() == ""
+        SampleResource.called
+
+        when: "method fails"
+        new URL("http://localhost:8080/off/fail").getText()
+        then: "error propagated"
+        def ex = thrown(IOException)
+        ex.message.contains("500")
+
+        when: "method fails with error"
+        URLConnection connection = new URL("http://localhost:8080/off/error").openConnection()
+        connection.readTimeout = 5000
+        connection.getInputStream().text
+        then: "request resumed"
+        ex = thrown(IOException)
+        ex.message.contains("500")
+    }
+
+    def "Check zero queue"() {
+
+        setup:
+        OffloadExecutors executors = new OffloadExecutors()
+        executors.register("zero", 1, 0)
+        executors.start()
+        CountDownLatch latch = new CountDownLatch(1)
+
+        when: "all threads busy"
+        executors.get("zero").execute({ latch.await() } as Runnable)
+        executors.get("zero").execute({} as Runnable)
+        then: "task rejected"
+        thrown(RejectedExecutionException)
+
+        cleanup:
+        latch.countDown()
+        executors.stop()
+    }
+
+    static class App extends Application<Configuration> {
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(OffloadBundle.builder().executor("test", 1, 10).build())
+                    .extensions(SampleResource)
+                    .build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path("/off")
+    static class SampleResource {
+
+        static boolean called
+
+        @Inject
+        Provider<HttpServletRequest> request
+        @Inject
+        Provider<UriInfo> uriInfo
+
+        @Path("/sample")
+        @GET
+        @Offload("test")
+        String sample(@QueryParam("q") String q) {
+            return "${Thread.currentThread().name} $q ${request.get().getParameter('q')} " +
+                    "${uriInfo.get().getQueryParameters().getFirst('q')}"
+        }
+
+        @Path("/sync")
+        @GET
+        String sync() {
+            return Thread.currentThread().name
+        }
+
+        @Path("/void")
+        @GET
+        @Offload("test")
+        void voidMethod() {
+            called = true
+        }
+
+        @Path("/fail")
+        @GET
+        @Offload("test")
+        String fail() {
+            throw new IllegalStateException("fail")
+        }
+
+        @Path("/error")
+        @GET
+        @Offload("test")
+        String error() {
+            throw new AssertionError("error")
+        }
+    }
+}
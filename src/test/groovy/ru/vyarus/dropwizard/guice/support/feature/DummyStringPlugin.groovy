@@ -0,0 +1,21 @@
+package ru.vyarus.dropwizard.guice.support.feature
+
+import ru.vyarus.dropwizard.guice.module.installer.feature.plugin.Plugin
+
+import java.lang.annotation.ElementType
+import java.lang.annotation.Retention
+import java.lang.annotation.RetentionPolicy
+import java.lang.annotation.Target
+
+/**
+ * Annotation to define {@code Runnable} plugins with string keys.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@Plugin(Runnable)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DummyStringPlugin {
+    String value();
+}
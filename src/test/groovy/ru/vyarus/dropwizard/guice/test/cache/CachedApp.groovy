@@ -0,0 +1,28 @@
+package ru.vyarus.dropwizard.guice.test.cache
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+class CachedApp extends Application<TestConfiguration> {
+
+    static AtomicInteger starts = new AtomicInteger()
+
+    @Override
+    void initialize(Bootstrap<TestConfiguration> bootstrap) {
+        bootstrap.addBundle(GuiceBundle.<TestConfiguration> builder().build())
+    }
+
+    @Override
+    void run(TestConfiguration configuration, Environment environment) throws Exception {
+        starts.incrementAndGet()
+    }
+}
@@ -0,0 +1,96 @@
+package ru.vyarus.dropwizard.guice.test.cache
+
+import com.google.inject.Injector
+import io.dropwizard.setup.Environment
+import org.junit.runner.JUnitCore
+import org.junit.runner.Result
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.test.TestContextCache
+import ru.vyarus.dropwizard.guice.test.spock.ConfigOverride
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Requires
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(value = CachedApp, configOverride = @ConfigOverride(key = "foo", value = "7"), cache = true)
+class CachedSpockAppTest extends Specification {
+
+    // enables nested specs (they must not run directly)
+    static final String NESTED = "guicey.test.cache.nested"
+
+    void cleanupSpec() {
+        TestContextCache.clear()
+    }
+
+    @Inject
+    TestConfiguration configuration
+    @Inject
+    Environment environment
+    @Inject
+    Injector injector
+
+    def "Check cached application"() {
+
+        expect: "application started from cache"
+        TestContextCache.size() > 0
+        configuration.foo == 7
+        System.getProperty("dw.foo") == null
+        environment.lifecycle() != null
+    }
+
+    def "Check application shared between specs"() {
+
+        setup:
+        int starts = CachedApp.starts.get()
+        System.setProperty(NESTED, "true")
+
+        when: "running other specs with the same application"
+        Result res = JUnitCore.runClasses(FirstSpec, SecondSpec)
+        then: "the same application used"
+        res.wasSuccessful()
+        res.runCount == 2
+        FirstSpec.INJECTOR.is(injector)
+        SecondSpec.INJECTOR.is(injector)
+        CachedApp.starts.get() == starts
+
+        cleanup:
+        System.clearProperty(NESTED)
+    }
+
+    @Requires({ sys[CachedSpockAppTest.NESTED] })
+    @UseGuiceyApp(value = CachedApp, configOverride = @ConfigOverride(key = "foo", value = "7"), cache = true)
+    static class FirstSpec extends Specification {
+        static Injector INJECTOR
+
+        @Inject
+        Injector injector
+
+        def "Store injector"() {
+            when:
+            INJECTOR = injector
+            then:
+            INJECTOR != null
+        }
+    }
+
+    @Requires({ sys[CachedSpockAppTest.NESTED] })
+    @UseGuiceyApp(value = CachedApp, configOverride = @ConfigOverride(key = "foo", value = "7"), cache = true)
+    static class SecondSpec extends Specification {
+        static Injector INJECTOR
+
+        @Inject
+        Injector injector
+
+        def "Store injector"() {
+            when:
+            INJECTOR = injector
+            then:
+            INJECTOR != null
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ru.vyarus.dropwizard.guice.test.cache
+
+import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup
+import ru.vyarus.dropwizard.guice.support.TestConfiguration
+import ru.vyarus.dropwizard.guice.test.CachedAppRule
+import ru.vyarus.dropwizard.guice.test.GuiceyAppRule
+import ru.vyarus.dropwizard.guice.test.TestContextCache
+import spock.lang.Specification
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+class TestContextCacheTest extends Specification {
+
+    void cleanupSpec() {
+        TestContextCache.clear()
+    }
+
+    def "Check application reuse"() {
+
+        setup:
+        int starts = CachedApp.starts.get()
+
+        when: "starting the same application twice"
+        CachedAppRule<GuiceyAppRule<TestConfiguration>> rule = CachedAppRule.guicey(CachedApp, null, [foo: "3"])
+        rule.before()
+        GuiceyAppRule<TestConfiguration> first = rule.rule
+        rule.after()
+        CachedAppRule<GuiceyAppRule<TestConfiguration>> rule2 = CachedAppRule.guicey(CachedApp, null, [foo: "3"])
+        rule2.before()
+        then: "application started once"
+        rule2.rule.is(first)
+        CachedApp.starts.get() == starts + 1
+        first.configuration.foo == 3
+        System.getProperty("dw.foo") == null
+        InjectorLookup.getInjector(first.application).isPresent()
+
+        when: "different overrides"
+        CachedAppRule<GuiceyAppRule<TestConfiguration>> rule3 = CachedAppRule.guicey(CachedApp, null, [foo: "4"])
+        rule3.before()
+        then: "new application started"
+        !rule3.rule.is(first)
+        rule3.rule.configuration.foo == 4
+        CachedApp.starts.get() == starts + 2
+
+        when: "cache limited, but applications still used"
+        System.setProperty(TestContextCache.SIZE_PROPERTY, "1")
+        CachedAppRule<GuiceyAppRule<TestConfiguration>> rule4 = CachedAppRule.guicey(CachedApp, null, [foo: "5"])
+        rule4.before()
+        then: "used applications not stopped"
+        TestContextCache.size() == 3
+        InjectorLookup.getInjector(first.application).isPresent()
+        InjectorLookup.getInjector(rule3.rule.application).isPresent()
+
+        when: "applications released"
+        GuiceyAppRule<TestConfiguration> third = rule3.rule
+        GuiceyAppRule<TestConfiguration> fourth = rule4.rule
+        [rule2, rule3, rule4]*.after()
+        CachedAppRule<GuiceyAppRule<TestConfiguration>> rule5 = CachedAppRule.guicey(CachedApp, null, [foo: "6"])
+        rule5.before()
+        then: "older applications stopped"
+        TestContextCache.size() == 1
+        !InjectorLookup.getInjector(first.application).isPresent()
+        !InjectorLookup.getInjector(third.application).isPresent()
+        !InjectorLookup.getInjector(fourth.application).isPresent()
+
+        when: "cache cleared"
+        GuiceyAppRule<TestConfiguration> last = rule5.rule
+        TestContextCache.clear()
+        then: "all applications stopped"
+        TestContextCache.size() == 0
+        !InjectorLookup.getInjector(last.application).isPresent()
+
+        cleanup:
+        System.clearProperty(TestContextCache.SIZE_PROPERTY)
+    }
+
+    def "Check not started rule"() {
+
+        when: "accessing not started rule"
+        CachedAppRule.guicey(CachedApp, null, [:]).rule
+        then: "error"
+        def ex = thrown(IllegalStateException)
+        ex.message == "Cached application is not started"
+    }
+}
@@ -0,0 +1,86 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import com.google.inject.AbstractModule
+import com.google.inject.ConfigurationException
+import com.google.inject.Guice
+import com.google.inject.Injector
+import com.google.inject.Key
+import org.glassfish.hk2.api.ServiceLocator
+import org.glassfish.hk2.utilities.InjecteeImpl
+import org.glassfish.hk2.utilities.ServiceLocatorUtilities
+import ru.vyarus.dropwizard.guice.module.jersey.hk2.CachingGuiceBridgeResolver
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+class CachingGuiceBridgeResolverTest extends Specification {
+
+    ServiceLocator locator = ServiceLocatorUtilities.createAndPopulateServiceLocator()
+    Injector guice = Guice.createInjector(new AbstractModule() {
+        @Override
+        protected void configure() {
+            bind(Service)
+        }
+    })
+
+    void cleanup() {
+        locator.shutdown()
+    }
+
+    def "Check single descriptor registration"() {
+
+        setup:
+        CachingGuiceBridgeResolver resolver = new CachingGuiceBridgeResolver(locator, guice)
+        def executor = Executors.newFixedThreadPool(4)
+
+        when: "resolving the same type concurrently"
+        List<Boolean> res = executor.invokeAll((1..20).collect {
+            { -> resolver.justInTimeResolution(injectee(Service)) } as Callable<Boolean>
+        })*.get()
+        then: "resolved and registered once"
+        res.every { it }
+        locator.getAllServiceHandles(Service).size() == 1
+
+        when: "resolving again"
+        resolver.justInTimeResolution(injectee(Service))
+        then: "no new registration"
+        locator.getAllServiceHandles(Service).size() == 1
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    def "Check negative results cached"() {
+
+        setup:
+        Injector injector = Mock(Injector)
+        CachingGuiceBridgeResolver resolver = new CachingGuiceBridgeResolver(locator, injector)
+
+        when: "resolving unknown type twice"
+        boolean first = resolver.justInTimeResolution(injectee(Unknown))
+        boolean second = resolver.justInTimeResolution(injectee(Unknown))
+        then: "guice queried once"
+        1 * injector.getBinding(Key.get(Unknown)) >> { throw new ConfigurationException([]) }
+        !first
+        !second
+    }
+
+    private static InjecteeImpl injectee(Class type) {
+        InjecteeImpl res = new InjecteeImpl(type)
+        res.setParent(Target.getDeclaredField("field"))
+        return res
+    }
+
+    static class Service {}
+
+    static class Unknown {}
+
+    static class Target {
+        Object field
+    }
+}
@@ -1,10 +1,12 @@
 package ru.vyarus.dropwizard.guice.unit
 
 import com.google.inject.Injector
+import com.google.inject.Provider
 import io.dropwizard.Application
 import io.dropwizard.setup.Bootstrap
 import ru.vyarus.dropwizard.guice.AbstractTest
 import ru.vyarus.dropwizard.guice.injector.lookup.InjectorLookup
+import ru.vyarus.dropwizard.guice.test.TestContextCache
 
 /**
  * @author Vyacheslav Rusakov 
@@ -31,6 +33,54 @@ class InjectorLookupTest extends AbstractTest {
         !InjectorLookup.getInjector(app).isPresent()
     }
 
+    def "Check static bean access"() {
+
+        setup: "clean state (applications, started by other tests)"
+        TestContextCache.clear()
+        InjectorLookup.clear()
+        def injector = Mock(Injector)
+        def injector2 = Mock(Injector)
+        int calls = 0
+        injector.getProvider(String) >> {
+            calls++
+            return { "first" } as Provider<String>
+        }
+        injector2.getProvider(String) >> ({ "second" } as Provider<String>)
+        injector2.getInstance(String) >> "second"
+
+        when: "no applications"
+        InjectorLookup.getInstance(String)
+        then:
+        def ex = thrown(IllegalStateException)
+        ex.message == "No application injector registered"
+
+        when: "single application"
+        def app = Mock(Application)
+        def managed = InjectorLookup.registerInjector(app, injector)
+        then: "provider cached"
+        InjectorLookup.getInstance(String) == "first"
+        InjectorLookup.getInstance(String) == "first"
+        calls == 1
+
+        when: "second application registered"
+        def app2 = Mock(Application)
+        InjectorLookup.registerInjector(app2, injector2)
+        InjectorLookup.getInstance(String)
+        then: "fast path not available"
+        ex = thrown(IllegalStateException)
+        ex.message.startsWith("Multiple applications registered")
+        InjectorLookup.getInstance(app2, String).get() == "second"
+
+        when: "first application stopped"
+        managed.stop()
+        then: "cached provider not used"
+        InjectorLookup.getInstance(String) == "second"
+        !InjectorLookup.getInstance(app, String).isPresent()
+
+        cleanup:
+        InjectorLookup.clear()
+    }
+
     Bootstrap mockBootstrap() {
         def bootstrap = Mock(Bootstrap)
         bootstrap.application >> Mock(Application)
@@ -0,0 +1,58 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import org.glassfish.hk2.api.Factory
+import org.glassfish.hk2.utilities.reflection.ParameterizedTypeImpl
+import ru.vyarus.dropwizard.guice.module.installer.util.JerseyBinding
+import spock.lang.Specification
+
+import javax.ws.rs.container.ContainerRequestContext
+import javax.ws.rs.container.ContainerRequestFilter
+import javax.ws.rs.core.Response
+import javax.ws.rs.ext.ExceptionMapper
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+class JerseyBindingTest extends Specification {
+
+    def "Check factory type resolution"() {
+
+        expect: "factory type resolved"
+        JerseyBinding.resolveFactoryType(SampleFactory) == String
+    }
+
+    def "Check binding type resolution"() {
+
+        expect: "generified contract resolved"
+        JerseyBinding.resolveBindingType(SampleMapper, ExceptionMapper) ==
+                new ParameterizedTypeImpl(ExceptionMapper, IOException)
+
+        and: "simple contract resolved as is"
+        JerseyBinding.resolveBindingType(SampleFilter, ContainerRequestFilter) == ContainerRequestFilter
+    }
+
+    static class SampleFactory implements Factory<String> {
+        @Override
+        String provide() {
+            return null
+        }
+
+        @Override
+        void dispose(String instance) {
+        }
+    }
+
+    static class SampleMapper implements ExceptionMapper<IOException> {
+        @Override
+        Response toResponse(IOException exception) {
+            return null
+        }
+    }
+
+    static class SampleFilter implements ContainerRequestFilter {
+        @Override
+        void filter(ContainerRequestContext requestContext) throws IOException {
+        }
+    }
+}
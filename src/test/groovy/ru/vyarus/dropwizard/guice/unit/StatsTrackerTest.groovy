@@ -0,0 +1,122 @@
+package ru.vyarus.dropwizard.guice.unit
+
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.context.stat.StatTimer
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.StatsTracker
+import ru.vyarus.dropwizard.guice.module.context.stat.TimerStat
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+class StatsTrackerTest extends Specification {
+
+    def "Check nested timers"() {
+
+        setup:
+        StatsTracker tracker = new StatsTracker()
+
+        when: "nested timers started"
+        StatTimer outer = tracker.timer(Stat.GuiceyTime)
+        StatTimer inner = tracker.timer(Stat.BundleTime)
+        StatTimer reentrant = tracker.timer(Stat.GuiceyTime)
+        sleep(10)
+        reentrant.stop()
+        inner.stop()
+        outer.stop()
+        TimerStat guicey = tracker.timers[Stat.GuiceyTime]
+        then: "parent detected and re-entrant time not counted twice"
+        tracker.timers[Stat.BundleTime].parent == Stat.GuiceyTime
+        guicey.parent == null
+        guicey.count == 2
+        guicey.getTime(TimeUnit.MILLISECONDS) >= 10
+        guicey.getTime(TimeUnit.NANOSECONDS) < guicey.getTotalTime(TimeUnit.NANOSECONDS)
+        guicey.getMinTime(TimeUnit.NANOSECONDS) <= guicey.getMaxTime(TimeUnit.NANOSECONDS)
+        !guicey.running
+
+        when: "timers chain"
+        tracker.timer(Stat.GuiceyTime, Stat.HKTime, Stat.JerseyInstallerTime).stop()
+        then: "all timers stopped"
+        tracker.timers[Stat.HKTime].parent == Stat.GuiceyTime
+        tracker.timers[Stat.JerseyInstallerTime].parent == Stat.HKTime
+        tracker.timers.values().every { !it.running }
+        guicey.count == 3
+
+        when: "stopping twice"
+        outer.stop()
+        then: "error"
+        thrown(IllegalStateException)
+    }
+
+    def "Check concurrent timers"() {
+
+        setup:
+        StatsTracker tracker = new StatsTracker()
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+        CountDownLatch latch = new CountDownLatch(4)
+
+        when: "timer measured concurrently"
+        4.times {
+            executor.submit {
+                StatTimer timer = tracker.timer(Stat.InstallersTime)
+                latch.countDown()
+                latch.await()
+                sleep(20)
+                timer.stop()
+                tracker.count(Stat.ScanClassesCount, 1)
+            }
+        }
+        executor.shutdown()
+        executor.awaitTermination(5, TimeUnit.SECONDS)
+        TimerStat timer = tracker.timers[Stat.InstallersTime]
+        then: "wall time counted once"
+        timer.count == 4
+        timer.getTotalTime(TimeUnit.MILLISECONDS) >= 80
+        timer.getTime(TimeUnit.MILLISECONDS) >= 20
+        timer.getTime(TimeUnit.MILLISECONDS) < timer.getTotalTime(TimeUnit.MILLISECONDS)
+        timer.getMaxTime(TimeUnit.MILLISECONDS) >= 20
+        new StatsInfo(tracker).count(Stat.ScanClassesCount) == 4
+
+        when: "stopping in other thread"
+        StatTimer other = tracker.timer(Stat.ScanTime)
+        Thread thread = Thread.start { other.stop() }
+        thread.join()
+        then: "timer still running"
+        tracker.timers[Stat.ScanTime].running
+    }
+
+    def "Check jvm activity tracking"() {
+
+        setup:
+        StatsTracker tracker = new StatsTracker()
+
+        when: "allocating memory and loading classes"
+        StatTimer timer = tracker.timer(Stat.ScanTime)
+        byte[] data = new byte[1024 * 1024]
+        Class type = new GroovyClassLoader().parseClass("class JvmActivitySample {}")
+        timer.stop()
+        TimerStat stat = tracker.timers[Stat.ScanTime]
+        then: "activity tracked"
+        data.length > 0
+        type != null
+        stat.allocatedBytes >= data.length
+        stat.loadedClasses > 0
+        stat.gcCount >= 0
+    }
+
+    def "Check time formatting"() {
+
+        expect:
+        TimerStat.format(1) == "1.000 ns"
+        TimerStat.format(1_500_000) == "1.500 ms"
+        TimerStat.format(TimeUnit.SECONDS.toNanos(2)) == "2.000 s"
+        new TimerStat().toString() == "0.000 ns"
+    }
+}
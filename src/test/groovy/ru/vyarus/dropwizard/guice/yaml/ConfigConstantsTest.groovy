@@ -0,0 +1,229 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.constant.ConfigConstantsBundle
+import ru.vyarus.dropwizard.guice.module.yaml.constant.ConfigConstantsGenerator
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.lang.reflect.Modifier
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class ConfigConstantsTest extends Specification {
+
+    @Inject
+    Tuning tuning
+    @Inject
+    Bootstrap bootstrap
+    @Inject
+    AppConfig config
+
+    def "Check constants holder"() {
+
+        expect: "values resolved"
+        tuning.threshold() == 12
+        tuning.flag()
+        tuning.big() == 100L
+        tuning.ratio() == 0.5d
+        tuning.symbol() == 'x' as char
+        tuning.small() == 3 as short
+        tuning.name() == "val"
+        tuning.nothing() == null
+        tuning.list() == ["a", "b"]
+        tuning.unit() == TimeUnit.SECONDS
+        tuning.sub().is(config.sub)
+        tuning.wrapped() == 5
+
+        and: "values stored in static final fields"
+        tuning.class.declaredFields.every {
+            Modifier.isStatic(it.modifiers) && Modifier.isFinal(it.modifiers)
+        }
+        tuning.class.declaredFields.size() == 12
+    }
+
+    def "Check holder errors"() {
+
+        setup:
+        def tree = ConfigTreeBuilder.build(bootstrap, config)
+
+        when: "not interface"
+        ConfigConstantsGenerator.generate(AppConfig, tree)
+        then:
+        def ex = thrown(IllegalStateException)
+        ex.message.startsWith("Configuration constants holder must be an interface")
+
+        when: "method without annotation"
+        ConfigConstantsGenerator.generate(NoAnnotation, tree)
+        then:
+        ex = thrown(IllegalStateException)
+        ex.message == "Configuration constants holder method NoAnnotation.foo must be annotated with @Config"
+
+        when: "unknown path"
+        ConfigConstantsGenerator.generate(UnknownPath, tree)
+        then:
+        ex = thrown(IllegalStateException)
+        ex.message == "Configuration path 'unknown' not found for UnknownPath.foo"
+
+        when: "incompatible type"
+        ConfigConstantsGenerator.generate(WrongType, tree)
+        then:
+        ex = thrown(IllegalStateException)
+        ex.message == "Configuration path 'some' type String is not compatible with WrongType.foo return type int"
+
+        when: "null for primitive"
+        ConfigConstantsGenerator.generate(NullPrimitive, tree)
+        then:
+        ex = thrown(IllegalStateException)
+        ex.message == "Configuration path 'missing' value is null and can't be used for primitive NullPrimitive.foo"
+    }
+
+    def "Check each generation creates new holder"() {
+
+        when:
+        config.sub.foo = 15
+        def holder = ConfigConstantsGenerator.generate(Tuning, ConfigTreeBuilder.build(bootstrap, config))
+        then:
+        holder.threshold() == 15
+        tuning.threshold() == 12
+        holder.class != tuning.class
+
+        cleanup:
+        config.sub.foo = 12
+    }
+
+    def "Check constant holders cached"() {
+
+        when: "generating constants-only holder twice"
+        def holder = ConfigConstantsGenerator.generate(Constants, ConfigTreeBuilder.build(bootstrap, config))
+        def holder2 = ConfigConstantsGenerator.generate(Constants, ConfigTreeBuilder.build(bootstrap, config))
+        then: "holder reused"
+        holder.is(holder2)
+        holder.foo() == 12
+        holder.some() == "val"
+        holder.unit() == TimeUnit.SECONDS
+
+        when: "value changed"
+        config.sub.foo = 15
+        def holder3 = ConfigConstantsGenerator.generate(Constants, ConfigTreeBuilder.build(bootstrap, config))
+        then: "new holder generated"
+        holder3.foo() == 15
+        holder3.class != holder.class
+        holder.foo() == 12
+
+        cleanup:
+        config.sub.foo = 12
+    }
+
+    static class App extends Application<AppConfig> {
+
+        @Override
+        void initialize(Bootstrap<AppConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(new ConfigConstantsBundle(Tuning))
+                    .build())
+        }
+
+        @Override
+        void run(AppConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class AppConfig extends Configuration {
+        String some = "val"
+        String empty
+        boolean flag = true
+        long big = 100
+        double ratio = 0.5
+        char symbol = 'x'
+        short small = 3
+        Integer wrapped = 5
+        Integer missing
+        List<String> list = ["a", "b"]
+        TimeUnit unit = TimeUnit.SECONDS
+        SubConf sub = new SubConf()
+    }
+
+    static class SubConf {
+        int foo = 12
+    }
+
+    static interface Tuning {
+        @Config("sub.foo")
+        int threshold()
+
+        @Config("flag")
+        boolean flag()
+
+        @Config("big")
+        long big()
+
+        @Config("ratio")
+        double ratio()
+
+        @Config("symbol")
+        char symbol()
+
+        @Config("small")
+        short small()
+
+        @Config("some")
+        String name()
+
+        @Config("empty")
+        String nothing()
+
+        @Config("list")
+        List<String> list()
+
+        @Config("unit")
+        TimeUnit unit()
+
+        @Config
+        SubConf sub()
+
+        @Config("wrapped")
+        int wrapped()
+    }
+
+    static interface Constants {
+        @Config("sub.foo")
+        int foo()
+
+        @Config("some")
+        String some()
+
+        @Config("unit")
+        TimeUnit unit()
+    }
+
+    static interface NoAnnotation {
+        int foo()
+    }
+
+    static interface UnknownPath {
+        @Config("unknown")
+        int foo()
+    }
+
+    static interface WrongType {
+        @Config("some")
+        int foo()
+    }
+
+    static interface NullPrimitive {
+        @Config("missing")
+        int foo()
+    }
+}
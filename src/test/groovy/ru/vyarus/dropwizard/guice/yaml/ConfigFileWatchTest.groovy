@@ -0,0 +1,122 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.AbstractModule
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigChangeListener
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadBundle
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadEvent
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+
+import javax.inject.Inject
+import javax.inject.Provider
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.nio.file.StandardCopyOption
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Configuration file is linked the same way as in kubernetes ConfigMap volume:
+ * {@code config.yml -> ..data/config.yml}, {@code ..data -> ..v1}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class ConfigFileWatchTest extends AbstractTest {
+
+    static Path DIR = Files.createTempDirectory("reload")
+    static AtomicInteger VERSION = new AtomicInteger()
+    static Path CONFIG = createConfig()
+    static List<ConfigReloadEvent> EVENTS = new CopyOnWriteArrayList<>()
+
+    @Inject
+    Provider<Service> service
+
+    void setup() {
+        EVENTS.clear()
+    }
+
+    void cleanupSpec() {
+        DIR.deleteDir()
+    }
+
+    def "Check file modification"() {
+
+        when: "changing configuration file"
+        CONFIG.toFile().text = "poolSize: 20\n"
+        then: "configuration reloaded"
+        waitFor(20)
+        EVENTS.any { it.isChanged("poolSize") }
+    }
+
+    def "Check symlink swap"() {
+
+        when: "atomically switching configuration version"
+        swapVersion("poolSize: 30\n")
+        then: "configuration reloaded"
+        waitFor(30)
+        EVENTS.any { it.isChanged("poolSize") }
+    }
+
+    private boolean waitFor(int poolSize) {
+        def deadline = System.currentTimeMillis() + 10000
+        while (service.get().poolSize.get() != poolSize && System.currentTimeMillis() < deadline) {
+            sleep(100)
+        }
+        service.get().poolSize.get() == poolSize
+    }
+
+    static Path createConfig() {
+        swapVersion("poolSize: 10\n")
+        Files.createSymbolicLink(DIR.resolve("config.yml"), Paths.get("..data/config.yml"))
+    }
+
+    static void swapVersion(String content) {
+        String version = "..v" + VERSION.incrementAndGet()
+        Path dir = Files.createDirectory(DIR.resolve(version))
+        dir.resolve("config.yml").toFile().text = content
+        Path tmp = Files.createSymbolicLink(DIR.resolve("..data_tmp"), Paths.get(version))
+        Files.move(tmp, DIR.resolve("..data"), StandardCopyOption.ATOMIC_MOVE)
+    }
+
+    static class App extends Application<WatchConfig> {
+
+        @Override
+        void initialize(Bootstrap<WatchConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bundles(ConfigReloadBundle.builder(CONFIG.toString())
+                            .watchFile()
+                            .listen({ EVENTS << it } as ConfigChangeListener)
+                            .build())
+                    .modules(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(Service)
+                        }
+                    })
+                    .build())
+        }
+
+        @Override
+        void run(WatchConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class WatchConfig extends Configuration {
+        int poolSize = 5
+    }
+
+    static class Service {
+        @Inject
+        @Config("poolSize")
+        Provider<Integer> poolSize
+    }
+}
@@ -252,11 +252,91 @@ class ConfigInspectorTest extends Specification {
         res.valueByPath("sub") == null
         res.valueByType(ComplexConfig.SubConfig) == null
         res.valuesByType(ComplexConfig.SubConfig).isEmpty()
-        res.valueByUniqueDeclaredType(ComplexConfig.SubConfig) != null
+        res.valueByUniqueDeclaredType(ComplexConfig.SubConfig) == null
         res.valuesByType(ComplexConfig.Parametrized).size() == 1
         res.valueByUniqueDeclaredType(ComplexConfig.Parametrized) == null
     }
 
+    def "Check lookup indexes"() {
+
+        when:
+        def config = create(ComplexConfig)
+        config.one = new ComplexConfig.Parametrized()
+        def res = ConfigTreeBuilder.build(bootstrap, config)
+        then: "case insensitive path search"
+        res.findByPath("SUB.Sub").is(res.findByPath("sub.sub"))
+        res.findByPath("sub.sub2") == null
+
+        and: "type search counts super types"
+        res.findAllByType(Object).collect { it.path }.containsAll(["one", "sub", "sub.two"])
+        res.findAllByType(String).isEmpty()
+        res.valuesByType(Object).contains(config.one)
+
+        and: "unique type search returns value"
+        res.valueByUniqueDeclaredType(ComplexConfig.SubConfig) == null
+        res.valueByUniqueDeclaredType(LoggingFactory).is(config.loggingFactory)
+
+        when: "unique sub configuration value set"
+        config.sub = new ComplexConfig.SubConfig()
+        res = ConfigTreeBuilder.build(bootstrap, config)
+        then: "value returned, not path"
+        res.valueByUniqueDeclaredType(ComplexConfig.SubConfig).is(config.sub)
+
+        and: "results are cached and immutable"
+        res.findAllByType(ComplexConfig.Parametrized).is(res.findAllByType(ComplexConfig.Parametrized))
+        res.findAllRootPathsFrom(ComplexConfig).is(res.findAllRootPathsFrom(ComplexConfig))
+        res.findAllFrom(Configuration).every { it.rootDeclarationClass == Configuration }
+
+        when: "modifying search result"
+        res.findAllRootPaths().clear()
+        then: "not allowed"
+        thrown(UnsupportedOperationException)
+    }
+
+    def "Check introspection limits"() {
+
+        when: "depth limited"
+        def config = create(ComplexConfig)
+        def res = ConfigTreeBuilder.build(bootstrap, config, 1)
+        then:
+        res.findAllFrom(ComplexConfig).collect { it.path } == ["one", "sub"]
+        res.findByPath("server") != null
+        res.findByPath("server.adminMaxThreads") == null
+
+        when: "subtree excluded"
+        res = ConfigTreeBuilder.build(bootstrap, config, -1, "sub", "server")
+        then:
+        res.findAllFrom(ComplexConfig).collect { it.path } == ["one", "one.list", "sub"]
+        res.findByPath("server") != null
+        res.findByPath("server.adminMaxThreads") == null
+        res.findByPath("logging.level") != null
+    }
+
+    def "Check generated property accessors"() {
+
+        when:
+        def config = create(NotUniqueSubConfig)
+        config.sub1 = new NotUniqueSubConfig.SubConfig(sub: "val")
+        def res = ConfigTreeBuilder.build(bootstrap, config)
+        then: "typed value"
+        res.findByPath("sub1.sub").getValue(String) == "val"
+        res.findByPath("server.adminMaxThreads").getValue(int) == 64
+
+        when: "reading value from other configuration instance"
+        def other = create(NotUniqueSubConfig)
+        other.sub1 = new NotUniqueSubConfig.SubConfig(sub: "other")
+        then:
+        res.findByPath("sub1.sub").readValue(config) == "val"
+        res.findByPath("sub1.sub").readValue(other) == "other"
+        res.findByPath("sub2.sub").readValue(other) == null
+        res.findByPath("server.adminMaxThreads").readValue(other) == 64
+
+        when: "incompatible type"
+        res.findByPath("sub1.sub").getValue(Integer)
+        then:
+        thrown(ClassCastException)
+    }
+
     def "Check value accessors"() {
 
         when: "config with not unique custom type"
@@ -0,0 +1,155 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import com.google.inject.Key
+import groovyx.net.http.HTTPBuilder
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.AbstractTest
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigImpl
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigChangeListener
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadBundle
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloadEvent
+import ru.vyarus.dropwizard.guice.module.yaml.reload.ConfigReloader
+import ru.vyarus.dropwizard.guice.test.spock.UseDropwizardApp
+
+import javax.inject.Inject
+import javax.inject.Provider
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseDropwizardApp(App)
+class ConfigReloadTest extends AbstractTest {
+
+    static File CONFIG = createConfig()
+    static List<ConfigReloadEvent> EVENTS = []
+
+    @Inject
+    ConfigReloader reloader
+    @Inject
+    Provider<Service> service
+    @Inject
+    Provider<ConfigurationTree> tree
+    @Inject
+    Injector injector
+
+    void setup() {
+        EVENTS.clear()
+    }
+
+    def "Check reload with admin task"() {
+
+        setup: "configuration file differs from startup configuration"
+        CONFIG.text = "poolSize: 10\nsub:\n  name: b\n"
+
+        expect: "startup values"
+        service.get().poolSize.get() == 5
+        service.get().sub.get().name == "a"
+
+        when: "reloading configuration with task"
+        def res = new HTTPBuilder("http://localhost:8081/tasks/reload-config").post([:]).getText()
+        then: "changes detected"
+        res.contains("~ poolSize")
+        res.contains("~ sub.name")
+        !res.contains("10")
+        !res.contains('"b"')
+        EVENTS.size() == 1
+        EVENTS[0].isChanged("sub")
+        !EVENTS[0].isChanged("server")
+
+        and: "providers see new values"
+        service.get().poolSize.get() == 10
+        service.get().sub.get().name == "b"
+        tree.get().valueByPath("poolSize") == 10
+        reloader.configuration.poolSize == 10
+
+        when: "reload without changes"
+        res = reloader.reload()
+        then: "nothing changed"
+        res.isEmpty()
+        EVENTS.size() == 1
+    }
+
+    def "Check only used paths bound"() {
+
+        expect: "used path bound"
+        bound(Integer, "poolSize")
+
+        and: "not used paths are not bound by reload bundle"
+        !bound(String, "sub.name")
+        !bound(Integer, "server.adminMaxThreads")
+    }
+
+    def "Check invalid configuration"() {
+
+        setup:
+        int poolSize = service.get().poolSize.get()
+
+        when: "invalid configuration"
+        CONFIG.text = "poolSize: sample"
+        reloader.reload()
+        then: "error"
+        thrown(IllegalStateException)
+        service.get().poolSize.get() == poolSize
+        EVENTS.isEmpty()
+    }
+
+    private boolean bound(Class type, String path) {
+        injector.getExistingBinding(Key.get(type, new ConfigImpl(path))) != null
+    }
+
+    static File createConfig() {
+        File file = File.createTempFile("reload", ".yml")
+        file.deleteOnExit()
+        file
+    }
+
+    static class App extends Application<ReloadConfig> {
+
+        @Override
+        void initialize(Bootstrap<ReloadConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bindConfigurationPathsOnDemand()
+                    .bundles(ConfigReloadBundle.builder(CONFIG.absolutePath)
+                            .listen({ EVENTS << it } as ConfigChangeListener)
+                            .build())
+                    .modules(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(Service)
+                        }
+                    })
+                    .build())
+        }
+
+        @Override
+        void run(ReloadConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class ReloadConfig extends Configuration {
+        int poolSize = 5
+        Sub sub = new Sub()
+    }
+
+    static class Sub {
+        String name = "a"
+    }
+
+    static class Service {
+        @Inject
+        @Config("poolSize")
+        Provider<Integer> poolSize
+        @Inject
+        @Config
+        Provider<Sub> sub
+    }
+}
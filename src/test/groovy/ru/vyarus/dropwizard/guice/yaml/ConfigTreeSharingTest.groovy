@@ -0,0 +1,79 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.jackson.Jackson
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.GuiceyConfigurationInfo
+import ru.vyarus.dropwizard.guice.module.context.stat.Stat
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigTreeBuilder
+import ru.vyarus.dropwizard.guice.module.yaml.ConfigurationTree
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class ConfigTreeSharingTest extends Specification {
+
+    @Inject
+    ConfigurationTree tree
+    @Inject
+    GuiceyConfigurationInfo info
+    @Inject
+    Bootstrap bootstrap
+    @Inject
+    Configuration configuration
+
+    def "Check configuration tree built once"() {
+
+        expect: "the same tree used by bundles and guice bindings"
+        info.configurationTree.is(tree)
+        info.stats.humanTime(Stat.ConfigTreeTime) != "0"
+
+        and: "repeated build produce the same tree"
+        ConfigTreeBuilder.build(bootstrap, configuration).paths*.toString() == tree.paths*.toString()
+    }
+
+    def "Check properties cache respects mapper configuration"() {
+
+        setup: "bootstrap with different naming strategy"
+        Bootstrap snake = new Bootstrap(new App())
+        snake.setObjectMapper(Jackson.newObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE))
+
+        when: "building tree with default mapper"
+        def res = ConfigTreeBuilder.build(bootstrap, new NamedConfig())
+        then: "default naming used"
+        res.findByPath("fooBar") != null
+
+        when: "building tree with different mapper"
+        res = ConfigTreeBuilder.build(snake, new NamedConfig())
+        then: "mapper naming used"
+        res.findByPath("foo_bar") != null
+        res.findByPath("fooBar") == null
+    }
+
+    static class NamedConfig extends Configuration {
+        String fooBar = "bar"
+    }
+
+    static class App extends Application<Configuration> {
+
+        @Override
+        void initialize(Bootstrap<Configuration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder().build())
+        }
+
+        @Override
+        void run(Configuration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package ru.vyarus.dropwizard.guice.yaml
+
+import com.google.inject.AbstractModule
+import com.google.inject.Injector
+import com.google.inject.Key
+import com.google.inject.spi.InstanceBinding
+import io.dropwizard.Application
+import io.dropwizard.Configuration
+import io.dropwizard.lifecycle.Managed
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.module.installer.install.binding.LazyBinding
+import ru.vyarus.dropwizard.guice.module.yaml.bind.Config
+import ru.vyarus.dropwizard.guice.module.yaml.bind.ConfigImpl
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.inject.Provider
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 19.10.2018
+ */
+@UseGuiceyApp(App)
+class OnDemandConfigBindingsTest extends Specification {
+
+    @Inject
+    Injector injector
+
+    def "Check only used paths bound"() {
+
+        expect: "used paths bound"
+        bound(String, "some")
+        bound(Integer, "sub.foo")
+        bound(Integer, "sub.bar")
+        injector.getInstance(Service).some == "val"
+        injector.getInstance(Service).helper.get().foo == 12
+
+        and: "values bound as instances (no reload)"
+        injector.getExistingBinding(Key.get(String, new ConfigImpl("some"))) instanceof InstanceBinding
+
+        and: "lazy extension paths bound"
+        bound(Integer, "sub.baz")
+        injector.getInstance(LazyExtension).baz == 3
+
+        and: "not used paths not bound"
+        !bound(Integer, "server.adminMaxThreads")
+        !bound(SubConf, "sub")
+
+        and: "unique objects still bound"
+        injector.getExistingBinding(Key.get(SubConf, Config)) != null
+    }
+
+    private boolean bound(Class type, String path) {
+        injector.getExistingBinding(Key.get(type, new ConfigImpl(path))) != null
+    }
+
+    static class App extends Application<AppConfig> {
+
+        @Override
+        void initialize(Bootstrap<AppConfig> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .bindConfigurationPathsOnDemand()
+                    .extensions(LazyExtension)
+                    .modules(new AbstractModule() {
+                        @Override
+                        protected void configure() {
+                            bind(Service)
+                            requestStaticInjection(StaticHolder)
+                        }
+                    })
+                    .build())
+        }
+
+        @Override
+        void run(AppConfig configuration, Environment environment) throws Exception {
+        }
+    }
+
+    static class AppConfig extends Configuration {
+        String some = "val"
+        SubConf sub = new SubConf()
+    }
+
+    static class SubConf {
+        int foo = 12
+        int bar = 5
+        int baz = 3
+    }
+
+    static class Service {
+        @Inject
+        @Config("some")
+        String some
+        // just-in-time binding
+        @Inject
+        Provider<Helper> helper
+    }
+
+    static class Helper {
+        int foo
+
+        @Inject
+        Helper(@Config("sub.foo") Integer foo) {
+            this.foo = foo
+        }
+    }
+
+    static class StaticHolder {
+        @Inject
+        @Config("sub.bar")
+        static Integer bar
+    }
+
+    // not bound in modules: created just-in-time
+    @LazyBinding
+    static class LazyExtension implements Managed {
+        @Inject
+        @Config("sub.baz")
+        Integer baz
+
+        @Override
+        void start() throws Exception {
+        }
+
+        @Override
+        void stop() throws Exception {
+        }
+    }
+}